@@ -0,0 +1,184 @@
+package io.github.serkankarabulut.sheetmapper.benchmark;
+
+import io.github.serkankarabulut.sheetmapper.internal.CsvProcessor;
+import io.github.serkankarabulut.sheetmapper.internal.Swar;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a byte-at-a-time search for delimiters and line breaks with the eight-bytes-at-a-time search of
+ * {@link Swar} used by the byte tokenizer, on an in-memory CSV of 8 MB.
+ * <p>
+ * {@code scalar} and {@code swar} only count the structural bytes, so they measure the search itself;
+ * {@code bytesTokenizerViews} reads every cell through {@link CsvProcessor}, to show how much of it carries over to
+ * tokenizing. The {@code mapped*} variants do the same on a memory mapping of the CSV written to a temporary file,
+ * like the memory-mapped tokenizer: {@code mappedScalar} reads the mapping one byte at a time, {@code mappedSwar}
+ * one word at a time. Divide the input size printed at setup by the average time per operation to obtain MB/s.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ByteScanBenchmark {
+    private static final int SIZE = 8_000_000;
+    private static final byte DELIMITER = ',';
+    private static final long DELIMITERS = Swar.broadcast(DELIMITER);
+    private static final long LINE_FEEDS = Swar.broadcast((byte) '\n');
+    private static final long CARRIAGE_RETURNS = Swar.broadcast((byte) '\r');
+
+    /**
+     * {@code short} has ten cells of one to four characters per row, {@code long} has four cells of 40 to 60
+     * characters per row.
+     */
+    @Param({"short", "long"})
+    public String fields;
+
+    private byte[] csvBytes;
+    private Path csvFile;
+    private MappedByteBuffer csvMapping;
+
+    @Setup
+    public void setUp() throws IOException {
+        boolean shortFields = fields.equals("short");
+        StringBuilder builder = new StringBuilder(SIZE + 256);
+        for (int row = 0; builder.length() < SIZE; row++) {
+            int cells = shortFields ? 10 : 4;
+            for (int cell = 0; cell < cells; cell++) {
+                if (cell > 0) {
+                    builder.append(',');
+                }
+                if (shortFields) {
+                    builder.append((row + cell) % 1000);
+                } else {
+                    builder.append("customer reference ").append(row).append('-').append(cell)
+                            .append(" standard delivery".repeat(1 + (row + cell) % 2));
+                }
+            }
+            builder.append('\n');
+        }
+        csvBytes = builder.toString().getBytes(StandardCharsets.UTF_8);
+        csvFile = Files.write(Files.createTempFile("scan", ".csv"), csvBytes);
+        try (FileChannel channel = FileChannel.open(csvFile)) {
+            csvMapping = channel.map(FileChannel.MapMode.READ_ONLY, 0, csvBytes.length);
+        }
+        csvMapping.load();
+        System.out.printf("%nInput size: %.2f MB%n", csvBytes.length / 1_000_000.0);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        csvMapping = null;
+        Files.deleteIfExists(csvFile);
+    }
+
+    @Benchmark
+    public long scalar() {
+        byte[] bytes = csvBytes;
+        long structural = 0;
+        for (byte b : bytes) {
+            if (b == DELIMITER || b == '\n' || b == '\r') {
+                structural++;
+            }
+        }
+        return structural;
+    }
+
+    @Benchmark
+    public long swar() {
+        byte[] bytes = csvBytes;
+        long structural = 0;
+        int i = 0;
+        for (; i <= bytes.length - Long.BYTES; i += Long.BYTES) {
+            long word = Swar.load(bytes, i);
+            long matches = Swar.match(word, DELIMITERS) | Swar.match(word, LINE_FEEDS)
+                    | Swar.match(word, CARRIAGE_RETURNS);
+            structural += Long.bitCount(matches);
+        }
+        for (; i < bytes.length; i++) {
+            byte b = bytes[i];
+            if (b == DELIMITER || b == '\n' || b == '\r') {
+                structural++;
+            }
+        }
+        return structural;
+    }
+
+    @Benchmark
+    public long mappedScalar() {
+        MappedByteBuffer bytes = csvMapping;
+        long structural = 0;
+        for (int i = 0, end = bytes.limit(); i < end; i++) {
+            byte b = bytes.get(i);
+            if (b == DELIMITER || b == '\n' || b == '\r') {
+                structural++;
+            }
+        }
+        return structural;
+    }
+
+    @Benchmark
+    public long mappedSwar() {
+        MappedByteBuffer bytes = csvMapping;
+        int end = bytes.limit();
+        long structural = 0;
+        int i = 0;
+        for (; i <= end - Long.BYTES; i += Long.BYTES) {
+            long word = Swar.load(bytes, i);
+            long matches = Swar.match(word, DELIMITERS) | Swar.match(word, LINE_FEEDS)
+                    | Swar.match(word, CARRIAGE_RETURNS);
+            structural += Long.bitCount(matches);
+        }
+        for (; i < end; i++) {
+            byte b = bytes.get(i);
+            if (b == DELIMITER || b == '\n' || b == '\r') {
+                structural++;
+            }
+        }
+        return structural;
+    }
+
+    @Benchmark
+    public long bytesTokenizerViews() throws IOException {
+        try (CsvProcessor processor = new CsvProcessor(new ByteArrayInputStream(csvBytes))) {
+            return cellChars(processor);
+        }
+    }
+
+    @Benchmark
+    public long mappedTokenizerViews() throws IOException {
+        try (CsvProcessor processor = new CsvProcessor(FileChannel.open(csvFile))) {
+            return cellChars(processor);
+        }
+    }
+
+    private static long cellChars(CsvProcessor processor) throws IOException {
+        long chars = 0;
+        while (processor.nextRecord()) {
+            for (int i = 0, count = processor.cellCount(); i < count; i++) {
+                chars += processor.cell(i).length();
+            }
+        }
+        return chars;
+    }
+}
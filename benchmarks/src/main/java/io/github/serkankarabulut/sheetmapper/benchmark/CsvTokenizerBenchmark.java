@@ -0,0 +1,196 @@
+package io.github.serkankarabulut.sheetmapper.benchmark;
+
+import com.opencsv.CSVReader;
+import com.opencsv.exceptions.CsvValidationException;
+import io.github.serkankarabulut.sheetmapper.internal.CsvProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the throughput of the opencsv {@link CSVReader} previously used by SheetMapper with the built-in
+ * tokenizer behind {@link CsvProcessor}, on an in-memory UTF-8 CSV of 100,000 rows.
+ * <p>
+ * {@code tokenizerStrings} materializes every row as a {@code String[]} like opencsv does; {@code tokenizerViews}
+ * reads every cell through the views SheetMapper itself uses. The {@code bytesTokenizer*} variants do the same on
+ * the raw UTF-8 bytes, without a {@link Reader} decoding them first. {@code fileTokenizerViews} and
+ * {@code mappedTokenizerViews} read the same data from a temporary file, through a {@link FileInputStream} and
+ * through memory mappings respectively. {@code bytesTokenizerViewsVector} runs in a JVM with the Vector API module.
+ * Divide the input size printed at setup by the average time per operation to obtain MB/s.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CsvTokenizerBenchmark {
+    private static final int ROWS = 100_000;
+
+    /**
+     * {@code plain} has no quoted cells, {@code quoted} quotes every text cell and escapes a quote in some of them.
+     */
+    @Param({"plain", "quoted"})
+    public String shape;
+
+    private byte[] csvBytes;
+    private Path csvFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        boolean quoted = shape.equals("quoted");
+        StringBuilder builder = new StringBuilder(ROWS * 64);
+        builder.append("id,customer,amount,paid,currency,note\n");
+        for (int i = 0; i < ROWS; i++) {
+            builder.append(i).append(',');
+            appendText(builder, "customer-" + (i % 977), quoted);
+            builder.append(',').append(i % 1000).append('.').append(i % 100).append(',')
+                    .append(i % 2 == 0).append(',');
+            appendText(builder, "EUR", quoted);
+            builder.append(',');
+            appendText(builder, i % 10 == 0 ? "said \"\"express\"\"" : "standard delivery", quoted);
+            builder.append('\n');
+        }
+        csvBytes = builder.toString().getBytes(StandardCharsets.UTF_8);
+        csvFile = Files.write(Files.createTempFile("tokenizer", ".csv"), csvBytes);
+        System.out.printf("%nInput size: %.2f MB%n", csvBytes.length / 1_000_000.0);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(csvFile);
+    }
+
+    /**
+     * @return A reader decoding the UTF-8 input, like the {@link java.io.FileReader} used to read files.
+     */
+    private Reader reader() {
+        return new InputStreamReader(new ByteArrayInputStream(csvBytes), StandardCharsets.UTF_8);
+    }
+
+    private static void appendText(StringBuilder builder, String text, boolean quoted) {
+        if (quoted) {
+            builder.append('"').append(text).append('"');
+        } else {
+            builder.append(text.replace("\"\"", ""));
+        }
+    }
+
+    @Benchmark
+    public long openCsv() throws IOException, CsvValidationException {
+        long cells = 0;
+        try (CSVReader reader = new CSVReader(reader())) {
+            String[] row;
+            while ((row = reader.readNext()) != null) {
+                cells += row.length;
+            }
+        }
+        return cells;
+    }
+
+    @Benchmark
+    public long tokenizerStrings() throws IOException {
+        long cells = 0;
+        try (CsvProcessor processor = new CsvProcessor(reader())) {
+            String[] row;
+            while ((row = processor.readNext()) != null) {
+                cells += row.length;
+            }
+        }
+        return cells;
+    }
+
+    @Benchmark
+    public long tokenizerViews() throws IOException {
+        long chars = 0;
+        try (CsvProcessor processor = new CsvProcessor(reader())) {
+            while (processor.nextRecord()) {
+                for (int i = 0, count = processor.cellCount(); i < count; i++) {
+                    chars += processor.cell(i).length();
+                }
+            }
+        }
+        return chars;
+    }
+
+    @Benchmark
+    public long bytesTokenizerStrings() throws IOException {
+        long cells = 0;
+        try (CsvProcessor processor = new CsvProcessor(new ByteArrayInputStream(csvBytes))) {
+            String[] row;
+            while ((row = processor.readNext()) != null) {
+                cells += row.length;
+            }
+        }
+        return cells;
+    }
+
+    @Benchmark
+    public long bytesTokenizerViews() throws IOException {
+        long chars = 0;
+        try (CsvProcessor processor = new CsvProcessor(new ByteArrayInputStream(csvBytes))) {
+            while (processor.nextRecord()) {
+                for (int i = 0, count = processor.cellCount(); i < count; i++) {
+                    chars += processor.cell(i).length();
+                }
+            }
+        }
+        return chars;
+    }
+
+    /**
+     * Same as {@link #bytesTokenizerViews()}, in a JVM started with the Vector API module, so that records are
+     * scanned by the vector backend instead of the SWAR one.
+     */
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+    public long bytesTokenizerViewsVector() throws IOException {
+        try (CsvProcessor processor = new CsvProcessor(new ByteArrayInputStream(csvBytes))) {
+            return readViews(processor);
+        }
+    }
+
+    @Benchmark
+    public long fileTokenizerViews() throws IOException {
+        try (CsvProcessor processor = new CsvProcessor(new FileInputStream(csvFile.toFile()))) {
+            return readViews(processor);
+        }
+    }
+
+    @Benchmark
+    public long mappedTokenizerViews() throws IOException {
+        try (CsvProcessor processor = new CsvProcessor(FileChannel.open(csvFile))) {
+            return readViews(processor);
+        }
+    }
+
+    private static long readViews(CsvProcessor processor) throws IOException {
+        long chars = 0;
+        while (processor.nextRecord()) {
+            for (int i = 0, count = processor.cellCount(); i < count; i++) {
+                chars += processor.cell(i).length();
+            }
+        }
+        return chars;
+    }
+}
@@ -0,0 +1,58 @@
+package io.github.serkankarabulut.sheetmapper.benchmark;
+
+import com.opencsv.CSVReader;
+import com.opencsv.exceptions.CsvValidationException;
+import io.github.serkankarabulut.sheetmapper.parser.SheetParser;
+import io.github.serkankarabulut.sheetmapper.parser.SheetReader;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+
+/**
+ * A {@link SheetParser} backed by the opencsv {@link CSVReader} that SheetMapper used before it had its own
+ * tokenizer, as an example of plugging another CSV library into SheetMapper.
+ * <p>
+ * opencsv materializes every row as a {@code String[]}, so its cells are handed out as they are, and
+ * {@link SheetReader#cellStrings()} does not copy them again.
+ */
+public final class OpenCsvSheetParser implements SheetParser {
+
+    @Override
+    public SheetReader open(File sheetData) throws IOException {
+        CSVReader reader = new CSVReader(new FileReader(sheetData));
+        return new SheetReader() {
+            private String[] cells;
+
+            @Override
+            public boolean nextRecord() throws IOException {
+                try {
+                    cells = reader.readNext();
+                } catch (CsvValidationException e) {
+                    throw new IOException(e);
+                }
+                return cells != null;
+            }
+
+            @Override
+            public int cellCount() {
+                return cells.length;
+            }
+
+            @Override
+            public CharSequence cell(int index) {
+                return cells[index];
+            }
+
+            @Override
+            public String[] cellStrings() {
+                return cells;
+            }
+
+            @Override
+            public void close() throws IOException {
+                reader.close();
+            }
+        };
+    }
+}
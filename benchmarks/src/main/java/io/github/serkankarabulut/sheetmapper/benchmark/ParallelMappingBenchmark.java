@@ -0,0 +1,100 @@
+package io.github.serkankarabulut.sheetmapper.benchmark;
+
+import io.github.serkankarabulut.sheetmapper.SheetMapper;
+import io.github.serkankarabulut.sheetmapper.annotation.Column;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compares sequential mapping with the parallel modes of {@link SheetMapper}, on a file of 1,000,000 rows shaped
+ * like the {@code User} fixtures of {@code SheetMapperTest}, with an extra quoted note that sometimes spans two lines.
+ * <p>
+ * {@code ordered} returns the rows in file order, {@code unordered} concatenates per-thread lists, and {@code sink}
+ * pushes every row into a thread-safe accumulator without collecting it. {@code pipelined} tokenizes on the calling
+ * thread and converts on {@code parallelism} workers. All variants read the file as UTF-8 bytes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParallelMappingBenchmark {
+    private static final int ROWS = 1_000_000;
+
+    public static class User {
+        @Column(name = "ID") private int id;
+        @Column(name = "Username") private String name;
+        @Column(name = "Active") private boolean isActive;
+        @Column(name = "Note") private String note;
+        public User() {}
+    }
+
+    @Param({"1", "4"})
+    public int parallelism;
+
+    private final SheetMapper mapper = SheetMapper.builder().byteParsing(true).build();
+    private File csvFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        StringBuilder builder = new StringBuilder(ROWS * 40);
+        builder.append("ID,Username,Active,Note\n");
+        for (int i = 0; i < ROWS; i++) {
+            builder.append(i).append(",user-").append(i % 977).append(',').append(i % 2 == 0).append(',');
+            builder.append(i % 10 == 0 ? "\"first line\nsecond, line\"" : "plain note").append('\n');
+        }
+        byte[] csvBytes = builder.toString().getBytes(StandardCharsets.UTF_8);
+        csvFile = Files.write(Files.createTempFile("parallel", ".csv"), csvBytes).toFile();
+        System.out.printf("%nInput size: %.2f MB%n", csvBytes.length / 1_000_000.0);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(csvFile.toPath());
+    }
+
+    @Benchmark
+    public int sequential() {
+        return mapper.map(csvFile, User.class).size();
+    }
+
+    @Benchmark
+    public int ordered() {
+        return mapper.mapParallel(csvFile, User.class, parallelism).size();
+    }
+
+    @Benchmark
+    public int unordered() {
+        return mapper.mapParallelUnordered(csvFile, User.class, parallelism).size();
+    }
+
+    @Benchmark
+    public long sink() {
+        LongAdder ids = new LongAdder();
+        mapper.mapEachParallel(csvFile, User.class, parallelism, user -> ids.add(user.id));
+        return ids.sum();
+    }
+
+    @Benchmark
+    public int pipelined() {
+        return mapper.mapPipelined(csvFile, User.class, parallelism).size();
+    }
+}
@@ -0,0 +1,109 @@
+package io.github.serkankarabulut.sheetmapper.benchmark;
+
+import io.github.serkankarabulut.sheetmapper.annotation.Column;
+import io.github.serkankarabulut.sheetmapper.internal.FieldWriter;
+import io.github.serkankarabulut.sheetmapper.internal.MappingPlan;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cost of instantiating a row object and writing its fields through reflection
+ * ({@link Constructor#newInstance} and {@link Field#set}) with the precomputed path used by
+ * {@link MappingPlan} (a metafactory-generated supplier and {@link FieldWriter}s).
+ * <p>
+ * Values are converted up front, so only instantiation and field stores are measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RowWriteBenchmark {
+
+    public static class Order {
+        @Column private int id;
+        @Column private long customerId;
+        @Column private double amount;
+        @Column private boolean paid;
+        @Column private String currency;
+        @Column private String note;
+        public Order() {}
+    }
+
+    private static final int ID = 42;
+    private static final long CUSTOMER_ID = 1_000_042L;
+    private static final double AMOUNT = 99.95;
+    private static final boolean PAID = true;
+    private static final String CURRENCY = "EUR";
+    private static final String NOTE = "express";
+
+    private Constructor<Order> constructor;
+    private Field[] fields;
+    private Object[] boxedValues;
+
+    private MappingPlan<Order> plan;
+    private FieldWriter[] writers;
+
+    @Setup
+    public void setUp() throws Exception {
+        constructor = Order.class.getDeclaredConstructor();
+        String[] names = {"id", "customerId", "amount", "paid", "currency", "note"};
+        fields = new Field[names.length];
+        for (int i = 0; i < names.length; i++) {
+            fields[i] = Order.class.getDeclaredField(names[i]);
+            fields[i].setAccessible(true);
+        }
+        boxedValues = new Object[]{ID, CUSTOMER_ID, AMOUNT, PAID, CURRENCY, NOTE};
+
+        plan = MappingPlan.of(Order.class);
+        List<MappingPlan.ColumnMapping> columns = plan.columns();
+        writers = new FieldWriter[columns.size()];
+        for (int i = 0; i < writers.length; i++) {
+            writers[i] = columns.get(i).writer();
+        }
+    }
+
+    @Benchmark
+    public Order reflection() throws Exception {
+        Order order = constructor.newInstance();
+        for (int i = 0; i < fields.length; i++) {
+            fields[i].set(order, boxedValues[i]);
+        }
+        return order;
+    }
+
+    @Benchmark
+    public Order methodHandlesBoxed() {
+        Order order = plan.newInstance();
+        for (int i = 0; i < writers.length; i++) {
+            writers[i].set(order, boxedValues[i]);
+        }
+        return order;
+    }
+
+    @Benchmark
+    public Order methodHandlesTyped() {
+        Order order = plan.newInstance();
+        writers[0].setInt(order, ID);
+        writers[1].setLong(order, CUSTOMER_ID);
+        writers[2].setDouble(order, AMOUNT);
+        writers[3].setBoolean(order, PAID);
+        writers[4].set(order, CURRENCY);
+        writers[5].set(order, NOTE);
+        return order;
+    }
+}
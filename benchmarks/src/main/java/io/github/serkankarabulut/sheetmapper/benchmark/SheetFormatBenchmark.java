@@ -0,0 +1,91 @@
+package io.github.serkankarabulut.sheetmapper.benchmark;
+
+import io.github.serkankarabulut.sheetmapper.internal.CsvProcessor;
+import io.github.serkankarabulut.sheetmapper.parser.SheetFormat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the tokenizers on the same 100,000 rows written in different {@link SheetFormat}s, without any quoted
+ * cell.
+ * <p>
+ * {@code csv} and {@code pipe} are quoted formats, whose tokenizers scan ahead for quotes before splitting records in
+ * a single pass. {@code tsv} has no quote character, so every record is split in a single pass without that scan.
+ * {@code charsTokenizerViews} reads decoded characters, {@code bytesTokenizerViews} the raw UTF-8 bytes. Divide the
+ * input size printed at setup by the average time per operation to obtain MB/s.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SheetFormatBenchmark {
+    private static final int ROWS = 100_000;
+
+    @Param({"csv", "tsv", "pipe"})
+    public String format;
+
+    private SheetFormat sheetFormat;
+    private byte[] bytes;
+
+    @Setup
+    public void setUp() {
+        sheetFormat = switch (format) {
+            case "tsv" -> SheetFormat.TSV;
+            case "pipe" -> SheetFormat.PIPE;
+            default -> SheetFormat.CSV;
+        };
+        char delimiter = sheetFormat.delimiter();
+        StringBuilder builder = new StringBuilder(ROWS * 64);
+        builder.append("id").append(delimiter).append("customer").append(delimiter).append("amount").append(delimiter)
+                .append("paid").append(delimiter).append("currency").append(delimiter).append("note\n");
+        for (int i = 0; i < ROWS; i++) {
+            builder.append(i).append(delimiter).append("customer-").append(i % 977).append(delimiter)
+                    .append(i % 1000).append('.').append(i % 100).append(delimiter).append(i % 2 == 0)
+                    .append(delimiter).append("EUR").append(delimiter).append("standard delivery\n");
+        }
+        bytes = builder.toString().getBytes(StandardCharsets.UTF_8);
+        System.out.printf("%nInput size: %.2f MB%n", bytes.length / 1_000_000.0);
+    }
+
+    @Benchmark
+    public long charsTokenizerViews() throws IOException {
+        InputStreamReader reader = new InputStreamReader(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8);
+        try (CsvProcessor processor = new CsvProcessor(reader, sheetFormat)) {
+            return readCells(processor);
+        }
+    }
+
+    @Benchmark
+    public long bytesTokenizerViews() throws IOException {
+        try (CsvProcessor processor = new CsvProcessor(new ByteArrayInputStream(bytes), sheetFormat)) {
+            return readCells(processor);
+        }
+    }
+
+    private static long readCells(CsvProcessor processor) throws IOException {
+        long chars = 0;
+        while (processor.nextRecord()) {
+            for (int i = 0, count = processor.cellCount(); i < count; i++) {
+                chars += processor.cell(i).length();
+            }
+        }
+        return chars;
+    }
+}
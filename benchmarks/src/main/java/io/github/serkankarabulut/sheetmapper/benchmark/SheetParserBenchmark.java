@@ -0,0 +1,87 @@
+package io.github.serkankarabulut.sheetmapper.benchmark;
+
+import io.github.serkankarabulut.sheetmapper.SheetMapper;
+import io.github.serkankarabulut.sheetmapper.annotation.Column;
+import io.github.serkankarabulut.sheetmapper.parser.SheetParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the parsers that can be plugged into {@link SheetMapper} with {@link SheetMapper.Builder#parser}, by
+ * mapping the same file of 200,000 rows with each of them: the three built-in CSV parsers and
+ * {@link OpenCsvSheetParser}.
+ * <p>
+ * To compare parsers on your own data, replace the generated file and the {@code User} class with a sample of your
+ * feed and its target class.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SheetParserBenchmark {
+    private static final int ROWS = 200_000;
+
+    public static class User {
+        @Column(name = "ID") private int id;
+        @Column(name = "Username") private String name;
+        @Column(name = "Active") private boolean isActive;
+        @Column(name = "Note") private String note;
+        public User() {}
+    }
+
+    @Param({"csv", "csvBytes", "csvMapped", "opencsv"})
+    public String parser;
+
+    private SheetMapper mapper;
+    private File csvFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        SheetParser sheetParser = switch (parser) {
+            case "csv" -> SheetParser.csv();
+            case "csvBytes" -> SheetParser.csvBytes();
+            case "csvMapped" -> SheetParser.csvMapped();
+            case "opencsv" -> new OpenCsvSheetParser();
+            default -> throw new IllegalArgumentException("Unknown parser: " + parser);
+        };
+        mapper = SheetMapper.builder().parser(sheetParser).build();
+
+        StringBuilder builder = new StringBuilder(ROWS * 40);
+        builder.append("ID,Username,Active,Note\n");
+        for (int i = 0; i < ROWS; i++) {
+            builder.append(i).append(",user-").append(i % 977).append(',').append(i % 2 == 0).append(',');
+            builder.append(i % 10 == 0 ? "\"said \"\"hi\"\"\"" : "plain note").append('\n');
+        }
+        byte[] csvBytes = builder.toString().getBytes(StandardCharsets.UTF_8);
+        csvFile = Files.write(Files.createTempFile("parsers", ".csv"), csvBytes).toFile();
+        System.out.printf("%nInput size: %.2f MB%n", csvBytes.length / 1_000_000.0);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(csvFile.toPath());
+    }
+
+    @Benchmark
+    public int map() {
+        return mapper.map(csvFile, User.class).size();
+    }
+}
@@ -0,0 +1,364 @@
+package io.github.serkankarabulut.sheetmapper.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An annotation processor that generates a reflection-free mapper for every class with fields annotated with
+ * {@code io.github.serkankarabulut.sheetmapper.annotation.Column}.
+ * <p>
+ * For a class {@code com.example.User}, the processor writes {@code com.example.User$SheetMapper}, an
+ * implementation of {@code io.github.serkankarabulut.sheetmapper.generated.GeneratedMapper} that creates
+ * instances with a plain constructor call and assigns fields directly, or through their setters if the fields are
+ * private. {@code SheetMapper} discovers the generated class by its name at runtime and uses it instead of
+ * scanning the class with reflection.
+ * <p>
+ * A class that cannot be mapped without reflection (for example because a private field has no setter) is
+ * reported with a warning and left to the reflective mapping path. Two fields mapped to the same column are
+ * reported as a compile error.
+ *
+ * @author Serkan Karabulut
+ */
+@SupportedAnnotationTypes(SheetMapperProcessor.COLUMN_ANNOTATION)
+public class SheetMapperProcessor extends AbstractProcessor {
+    static final String COLUMN_ANNOTATION = "io.github.serkankarabulut.sheetmapper.annotation.Column";
+    static final String GENERATED_MAPPER_INTERFACE = "io.github.serkankarabulut.sheetmapper.generated.GeneratedMapper";
+    static final String CLASS_NAME_SUFFIX = "$SheetMapper";
+
+    private Elements elements;
+    private Types types;
+    private Filer filer;
+    private Messager messager;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+        this.filer = processingEnv.getFiler();
+        this.messager = processingEnv.getMessager();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            Set<TypeElement> targets = new LinkedHashSet<>();
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.FIELD) {
+                    targets.add((TypeElement) element.getEnclosingElement());
+                }
+            }
+            for (TypeElement target : targets) {
+                List<MappedField> fields = collectFields(target);
+                if (fields != null) {
+                    writeMapper(target, fields);
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Collects the mapped fields of a class in declaration order and checks that a mapper can be generated for it.
+     *
+     * @param target The class to inspect.
+     * @return The mapped fields, or {@code null} if no mapper is generated for the class.
+     */
+    private List<MappedField> collectFields(TypeElement target) {
+        if (target.getKind() == ElementKind.RECORD || hasColumnConstructor(target)) {
+            // Instantiated through a constructor handle at runtime, which needs no generated code
+            return null;
+        }
+        String skipReason = checkTarget(target);
+        if (skipReason != null) {
+            warn(target, "No SheetMapper mapper generated for " + target.getQualifiedName() + ": " + skipReason);
+            return null;
+        }
+
+        List<MappedField> fields = new ArrayList<>();
+        Set<String> columnNames = new HashSet<>();
+        boolean duplicate = false;
+        for (VariableElement field : ElementFilter.fieldsIn(target.getEnclosedElements())) {
+            AnnotationMirror column = findColumnAnnotation(field);
+            if (column == null) {
+                continue;
+            }
+            String columnName = getColumnName(field, column);
+            if (!columnNames.add(columnName)) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "Column '" + columnName
+                        + "' is mapped by more than one field in class: " + target.getQualifiedName(), field);
+                duplicate = true;
+                continue;
+            }
+            String fieldSkipReason = checkField(field);
+            if (fieldSkipReason != null) {
+                warn(field, "No SheetMapper mapper generated for " + target.getQualifiedName() + ": field '"
+                        + field.getSimpleName() + "' " + fieldSkipReason);
+                return null;
+            }
+            String setter = null;
+            if (field.getModifiers().contains(Modifier.PRIVATE)) {
+                setter = findSetter(target, field);
+                if (setter == null) {
+                    warn(field, "No SheetMapper mapper generated for " + target.getQualifiedName() + ": private field '"
+                            + field.getSimpleName() + "' has no non-private setter; the class is mapped through reflection");
+                    return null;
+                }
+            }
+            fields.add(new MappedField(columnName, field, setter));
+        }
+        return duplicate || fields.isEmpty() ? null : fields;
+    }
+
+    /**
+     * @return Why no mapper can be generated for the class, or {@code null} if one can.
+     */
+    private String checkTarget(TypeElement target) {
+        if (target.getKind() != ElementKind.CLASS) {
+            return "only classes are supported";
+        }
+        if (target.getModifiers().contains(Modifier.ABSTRACT)) {
+            return "the class is abstract";
+        }
+        if (target.getNestingKind() == NestingKind.LOCAL || target.getNestingKind() == NestingKind.ANONYMOUS) {
+            return "local and anonymous classes are not supported";
+        }
+        for (Element element = target; element instanceof TypeElement; element = element.getEnclosingElement()) {
+            if (element.getModifiers().contains(Modifier.PRIVATE)) {
+                return "the class is not accessible from its package";
+            }
+            if (element.getEnclosingElement() instanceof TypeElement && !element.getModifiers().contains(Modifier.STATIC)) {
+                return "inner classes are not supported";
+            }
+        }
+        boolean hasNoArgConstructor = ElementFilter.constructorsIn(target.getEnclosedElements()).stream()
+                .anyMatch(constructor -> constructor.getParameters().isEmpty()
+                        && !constructor.getModifiers().contains(Modifier.PRIVATE));
+        if (!hasNoArgConstructor) {
+            return "the class has no non-private no-arg constructor";
+        }
+        return null;
+    }
+
+    private boolean hasColumnConstructor(TypeElement target) {
+        return ElementFilter.constructorsIn(target.getEnclosedElements()).stream()
+                .flatMap(constructor -> constructor.getParameters().stream())
+                .anyMatch(parameter -> findColumnAnnotation(parameter) != null);
+    }
+
+    /**
+     * @return Why the field cannot be written without reflection, or {@code null} if it can.
+     */
+    private String checkField(VariableElement field) {
+        if (field.getModifiers().contains(Modifier.STATIC)) {
+            return "is static";
+        }
+        if (field.getModifiers().contains(Modifier.FINAL)) {
+            return "is final";
+        }
+        if (!isAccessible(field.asType())) {
+            return "has a type that is not accessible from its package";
+        }
+        return null;
+    }
+
+    private boolean isAccessible(TypeMirror type) {
+        if (type instanceof ArrayType arrayType) {
+            return isAccessible(arrayType.getComponentType());
+        }
+        if (type instanceof DeclaredType declaredType) {
+            for (Element element = declaredType.asElement(); element instanceof TypeElement; element = element.getEnclosingElement()) {
+                if (element.getModifiers().contains(Modifier.PRIVATE)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Finds a non-private, non-static {@code setX} method taking exactly the type of a private field.
+     *
+     * @return The name of the setter, or {@code null} if the class has none.
+     */
+    private String findSetter(TypeElement target, VariableElement field) {
+        String fieldName = field.getSimpleName().toString();
+        String setterName = "set" + Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1);
+        for (ExecutableElement method : ElementFilter.methodsIn(target.getEnclosedElements())) {
+            if (method.getSimpleName().contentEquals(setterName)
+                    && method.getParameters().size() == 1
+                    && types.isSameType(method.getParameters().getFirst().asType(), field.asType())
+                    && !method.getModifiers().contains(Modifier.PRIVATE)
+                    && !method.getModifiers().contains(Modifier.STATIC)) {
+                return setterName;
+            }
+        }
+        return null;
+    }
+
+    private AnnotationMirror findColumnAnnotation(VariableElement element) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            if (annotationType.getQualifiedName().contentEquals(COLUMN_ANNOTATION)) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Determines the column name of a field the same way as the reflective mapping path does: the {@code name}
+     * attribute of the annotation if it is not blank, the name of the field otherwise.
+     */
+    private String getColumnName(VariableElement field, AnnotationMirror column) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : column.getElementValues().entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals("name")) {
+                String name = (String) entry.getValue().getValue();
+                if (!name.trim().isEmpty()) {
+                    return name;
+                }
+            }
+        }
+        return field.getSimpleName().toString();
+    }
+
+    private void writeMapper(TypeElement target, List<MappedField> fields) {
+        PackageElement packageElement = elements.getPackageOf(target);
+        String packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+        String binaryName = elements.getBinaryName(target).toString();
+        String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1)) + CLASS_NAME_SUFFIX;
+        String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        String targetType = types.erasure(target.asType()).toString();
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("@javax.annotation.processing.Generated(\"").append(SheetMapperProcessor.class.getName()).append("\")\n");
+        source.append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n");
+        source.append("public final class ").append(simpleName).append(" implements ")
+                .append(GENERATED_MAPPER_INTERFACE).append('<').append(targetType).append("> {\n\n");
+
+        source.append("    @Override\n");
+        source.append("    public Class<").append(targetType).append("> type() {\n");
+        source.append("        return ").append(targetType).append(".class;\n");
+        source.append("    }\n\n");
+
+        source.append("    @Override\n");
+        source.append("    public String[] columnNames() {\n");
+        source.append("        return new String[]{");
+        for (int i = 0; i < fields.size(); i++) {
+            source.append(i > 0 ? ", " : "").append(elements.getConstantExpression(fields.get(i).columnName()));
+        }
+        source.append("};\n");
+        source.append("    }\n\n");
+
+        source.append("    @Override\n");
+        source.append("    public String[] fieldNames() {\n");
+        source.append("        return new String[]{");
+        for (int i = 0; i < fields.size(); i++) {
+            source.append(i > 0 ? ", " : "").append('"').append(fields.get(i).field().getSimpleName()).append('"');
+        }
+        source.append("};\n");
+        source.append("    }\n\n");
+
+        source.append("    @Override\n");
+        source.append("    public Class<?>[] columnTypes() {\n");
+        source.append("        return new Class<?>[]{");
+        for (int i = 0; i < fields.size(); i++) {
+            source.append(i > 0 ? ", " : "").append(erasedName(fields.get(i).field().asType())).append(".class");
+        }
+        source.append("};\n");
+        source.append("    }\n\n");
+
+        source.append("    @Override\n");
+        source.append("    public ").append(targetType).append(" newInstance() {\n");
+        source.append("        return new ").append(targetType).append("();\n");
+        source.append("    }\n\n");
+
+        source.append("    @Override\n");
+        source.append("    public void set(").append(targetType).append(" target, int column, Object value) {\n");
+        source.append("        switch (column) {\n");
+        for (int i = 0; i < fields.size(); i++) {
+            MappedField field = fields.get(i);
+            String cast = "(" + castTypeName(field.field().asType()) + ") value";
+            source.append("            case ").append(i).append(" -> ");
+            if (field.setter() != null) {
+                source.append("target.").append(field.setter()).append('(').append(cast).append(");\n");
+            } else {
+                source.append("target.").append(field.field().getSimpleName()).append(" = ").append(cast).append(";\n");
+            }
+        }
+        source.append("            default -> throw new IndexOutOfBoundsException(\"Column index out of range: \" + column);\n");
+        source.append("        }\n");
+        source.append("    }\n");
+        source.append("}\n");
+
+        try {
+            JavaFileObject file = filer.createSourceFile(qualifiedName, target);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source.toString());
+            }
+        } catch (IOException e) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Could not write SheetMapper mapper " + qualifiedName + ": " + e.getMessage(), target);
+        }
+    }
+
+    private String erasedName(TypeMirror type) {
+        return types.erasure(type).toString();
+    }
+
+    /**
+     * @return The type a converted value is cast to before it is assigned: the wrapper class for primitive fields,
+     *         which is then unboxed by the assignment, and the erased type otherwise.
+     */
+    private String castTypeName(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return types.boxedClass(types.getPrimitiveType(type.getKind())).getQualifiedName().toString();
+        }
+        return erasedName(type);
+    }
+
+    private void warn(Element element, String message) {
+        messager.printMessage(Diagnostic.Kind.WARNING, message, element);
+    }
+
+    private record MappedField(String columnName, VariableElement field, String setter) {
+    }
+}
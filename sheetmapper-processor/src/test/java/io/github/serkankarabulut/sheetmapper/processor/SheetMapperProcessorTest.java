@@ -0,0 +1,208 @@
+package io.github.serkankarabulut.sheetmapper.processor;
+
+import io.github.serkankarabulut.sheetmapper.SheetMapper;
+import io.github.serkankarabulut.sheetmapper.annotation.Column;
+import io.github.serkankarabulut.sheetmapper.generated.GeneratedMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SheetMapperProcessorTest {
+
+    @TempDir
+    Path tempDir;
+
+    private record Compilation(boolean success, List<Diagnostic<? extends JavaFileObject>> diagnostics, Path classes) {
+
+        boolean hasDiagnostic(Diagnostic.Kind kind, String messagePart) {
+            return diagnostics.stream().anyMatch(diagnostic -> diagnostic.getKind() == kind
+                    && diagnostic.getMessage(Locale.ROOT).contains(messagePart));
+        }
+    }
+
+    private Compilation compile(String className, String source) throws IOException {
+        Path sourceDir = tempDir.resolve("src");
+        Path classesDir = tempDir.resolve("classes");
+        Path sourceFile = sourceDir.resolve(className.replace('.', '/') + ".java");
+        Files.createDirectories(sourceFile.getParent());
+        Files.createDirectories(classesDir);
+        Files.writeString(sourceFile, source);
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, Locale.ROOT, null)) {
+            List<String> options = List.of(
+                    "-classpath", coreClasspath(),
+                    "-d", classesDir.toString(),
+                    "-s", classesDir.toString());
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null,
+                    fileManager.getJavaFileObjects(sourceFile.toFile()));
+            task.setProcessors(List.of(new SheetMapperProcessor()));
+            boolean success = task.call();
+            return new Compilation(success, diagnostics.getDiagnostics(), classesDir);
+        }
+    }
+
+    private static String coreClasspath() {
+        try {
+            return new File(Column.class.getProtectionDomain().getCodeSource().getLocation().toURI()).getPath();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static URLClassLoader classLoader(Compilation compilation) throws IOException {
+        return new URLClassLoader(new URL[]{compilation.classes().toUri().toURL()}, SheetMapperProcessorTest.class.getClassLoader());
+    }
+
+    private File createCsvFile(String content) throws IOException {
+        Path csvFile = tempDir.resolve("data.csv");
+        Files.writeString(csvFile, content);
+        return csvFile.toFile();
+    }
+
+    private static Object readField(Object target, String name) throws ReflectiveOperationException {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        return field.get(target);
+    }
+
+    @Test
+    @DisplayName("Should generate a mapper that SheetMapper uses for package-private fields and private fields with setters")
+    void process_shouldGenerateMapperUsedBySheetMapper() throws Exception {
+        Compilation compilation = compile("com.example.User", """
+                package com.example;
+
+                import io.github.serkankarabulut.sheetmapper.annotation.Column;
+
+                public class User {
+                    @Column(name = "user_id") int id;
+                    @Column private String name;
+                    @Column(name = "active") private boolean enabled;
+                    String notMapped;
+
+                    public User() {}
+
+                    public void setName(String name) { this.name = name.toUpperCase(); }
+                    void setEnabled(boolean enabled) { this.enabled = enabled; }
+                }
+                """);
+
+        assertThat(compilation.success()).isTrue();
+        try (URLClassLoader classLoader = classLoader(compilation)) {
+            Class<?> userClass = classLoader.loadClass("com.example.User");
+            Class<?> mapperClass = classLoader.loadClass("com.example.User" + GeneratedMapper.CLASS_NAME_SUFFIX);
+            assertThat(GeneratedMapper.class).isAssignableFrom(mapperClass);
+
+            GeneratedMapper<?> mapper = (GeneratedMapper<?>) mapperClass.getDeclaredConstructor().newInstance();
+            assertThat(mapper.type()).isEqualTo(userClass);
+            assertThat(mapper.columnNames()).containsExactly("user_id", "name", "active");
+            assertThat(mapper.fieldNames()).containsExactly("id", "name", "enabled");
+            assertThat(mapper.columnTypes()).containsExactly(int.class, String.class, boolean.class);
+
+            File csvFile = createCsvFile("user_id,name,active\n7,alice,true\n");
+            List<?> users = SheetMapper.forCsv().map(csvFile, userClass);
+
+            assertThat(users).hasSize(1);
+            Object user = users.getFirst();
+            assertThat(readField(user, "id")).isEqualTo(7);
+            // The setter is called instead of writing the field directly
+            assertThat(readField(user, "name")).isEqualTo("ALICE");
+            assertThat(readField(user, "enabled")).isEqualTo(true);
+        }
+    }
+
+    @Test
+    @DisplayName("Should name the mapper of a static nested class after its binary name")
+    void process_whenClassIsNested_shouldUseBinaryName() throws Exception {
+        Compilation compilation = compile("com.example.Outer", """
+                package com.example;
+
+                import io.github.serkankarabulut.sheetmapper.annotation.Column;
+
+                public class Outer {
+                    public static class Inner {
+                        @Column java.math.BigDecimal amount;
+                    }
+                }
+                """);
+
+        assertThat(compilation.success()).isTrue();
+        try (URLClassLoader classLoader = classLoader(compilation)) {
+            Class<?> mapperClass = classLoader.loadClass("com.example.Outer$Inner" + GeneratedMapper.CLASS_NAME_SUFFIX);
+            GeneratedMapper<?> mapper = (GeneratedMapper<?>) mapperClass.getDeclaredConstructor().newInstance();
+            assertThat(mapper.type()).isEqualTo(classLoader.loadClass("com.example.Outer$Inner"));
+        }
+    }
+
+    @Test
+    @DisplayName("When a private field has no setter, should warn and not generate a mapper")
+    void process_whenPrivateFieldHasNoSetter_shouldWarnAndSkipClass() throws Exception {
+        Compilation compilation = compile("com.example.Account", """
+                package com.example;
+
+                import io.github.serkankarabulut.sheetmapper.annotation.Column;
+
+                public class Account {
+                    @Column private String iban;
+                }
+                """);
+
+        assertThat(compilation.success()).isTrue();
+        assertThat(compilation.hasDiagnostic(Diagnostic.Kind.WARNING, "private field 'iban' has no non-private setter")).isTrue();
+        assertThat(compilation.classes().resolve("com/example/Account$SheetMapper.class")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("When the class is a record, should not generate a mapper nor warn")
+    void process_whenClassIsRecord_shouldSkipSilently() throws Exception {
+        Compilation compilation = compile("com.example.Shipment", """
+                package com.example;
+
+                import io.github.serkankarabulut.sheetmapper.annotation.Column;
+
+                public record Shipment(@Column String trackingNumber, @Column long weight) {
+                }
+                """);
+
+        assertThat(compilation.success()).isTrue();
+        assertThat(compilation.diagnostics()).noneMatch(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.WARNING);
+        assertThat(compilation.classes().resolve("com/example/Shipment$SheetMapper.class")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("When two fields map to the same column, should fail compilation")
+    void process_whenColumnIsDuplicated_shouldFailCompilation() throws Exception {
+        Compilation compilation = compile("com.example.Product", """
+                package com.example;
+
+                import io.github.serkankarabulut.sheetmapper.annotation.Column;
+
+                public class Product {
+                    @Column(name = "SKU") String sku;
+                    @Column(name = "SKU") String code;
+                }
+                """);
+
+        assertThat(compilation.success()).isFalse();
+        assertThat(compilation.hasDiagnostic(Diagnostic.Kind.ERROR, "Column 'SKU' is mapped by more than one field")).isTrue();
+    }
+}
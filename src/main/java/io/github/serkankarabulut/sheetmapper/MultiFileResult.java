@@ -0,0 +1,73 @@
+package io.github.serkankarabulut.sheetmapper;
+
+import io.github.serkankarabulut.sheetmapper.exception.SheetMappingException;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The outcome of mapping several files with {@link SheetMapper#mapAll(java.util.Collection, Class)}.
+ * <p>
+ * Files are mapped independently, so a file that cannot be mapped does not affect the others: its rows are
+ * discarded and its error is reported in {@link #failures()}, while the rows of every other file are available in
+ * {@link #rowsByFile()}. Both maps iterate in the order in which the files were given.
+ *
+ * @param <T> The type of the mapped objects.
+ * @author Serkan Karabulut
+ */
+public final class MultiFileResult<T> {
+    private final Map<File, List<T>> rowsByFile;
+    private final Map<File, SheetMappingException> failures;
+
+    MultiFileResult(Map<File, List<T>> rowsByFile, Map<File, SheetMappingException> failures) {
+        this.rowsByFile = Collections.unmodifiableMap(rowsByFile);
+        this.failures = Collections.unmodifiableMap(failures);
+    }
+
+    /**
+     * Returns the mapped rows of every file that was mapped successfully.
+     *
+     * @return An unmodifiable map from each successfully mapped file to its rows, in file order.
+     */
+    public Map<File, List<T>> rowsByFile() {
+        return rowsByFile;
+    }
+
+    /**
+     * Returns the rows of all successfully mapped files in a single list.
+     *
+     * @return A new list with the rows of every successfully mapped file, file after file.
+     */
+    public List<T> allRows() {
+        int size = 0;
+        for (List<T> rows : rowsByFile.values()) {
+            size += rows.size();
+        }
+        List<T> allRows = new ArrayList<>(size);
+        for (List<T> rows : rowsByFile.values()) {
+            allRows.addAll(rows);
+        }
+        return allRows;
+    }
+
+    /**
+     * Returns the error of every file that could not be mapped.
+     *
+     * @return An unmodifiable map from each failed file to the reason it failed.
+     */
+    public Map<File, SheetMappingException> failures() {
+        return failures;
+    }
+
+    /**
+     * Tells whether every file was mapped successfully.
+     *
+     * @return {@code true} if no file failed.
+     */
+    public boolean isSuccessful() {
+        return failures.isEmpty();
+    }
+}
@@ -1,28 +1,45 @@
 package io.github.serkankarabulut.sheetmapper;
 
-import com.opencsv.exceptions.CsvValidationException;
 import io.github.serkankarabulut.sheetmapper.annotation.Column;
 import io.github.serkankarabulut.sheetmapper.converter.ConverterRegistry;
 import io.github.serkankarabulut.sheetmapper.exception.SheetMappingException;
-import io.github.serkankarabulut.sheetmapper.internal.CsvProcessor;
+import io.github.serkankarabulut.sheetmapper.internal.CsvSheetParser;
+import io.github.serkankarabulut.sheetmapper.internal.FixedWidthReader;
+import io.github.serkankarabulut.sheetmapper.internal.MappingPlan;
+import io.github.serkankarabulut.sheetmapper.internal.ParallelCsvMapper;
+import io.github.serkankarabulut.sheetmapper.internal.PipelinedCsvMapper;
+import io.github.serkankarabulut.sheetmapper.internal.RowBinding;
+import io.github.serkankarabulut.sheetmapper.internal.RowMapper;
+import io.github.serkankarabulut.sheetmapper.internal.RowMapperGenerator;
+import io.github.serkankarabulut.sheetmapper.internal.SheetRecord;
+import io.github.serkankarabulut.sheetmapper.parser.SheetFormat;
+import io.github.serkankarabulut.sheetmapper.parser.SheetParser;
+import io.github.serkankarabulut.sheetmapper.parser.SheetReader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.FileNotFoundException;
-import java.io.FileReader;
 import java.io.IOException;
-import java.io.Reader;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
+import java.nio.file.NoSuchFileException;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.HashMap;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * The main class for mapping sheet data (e.g., CSV) to a list of Plain Old Java Objects (POJOs).
@@ -37,19 +54,51 @@ public final class SheetMapper {
 
     private static final Logger logger = LoggerFactory.getLogger(SheetMapper.class);
     private final ConverterRegistry converterRegistry;
+    private final boolean generatedRowMappers;
+    private final SheetParser sheetParser;
+    private final boolean fixedWidth;
+    private final boolean header;
+    private final int pipelineBatchSize;
+    private final int pipelineQueueDepth;
+    private final int maxConcurrentFiles;
 
     /**
-     * Private constructor to initialize the SheetMapper with a specific {@link ConverterRegistry}.
+     * Private constructor to initialize the SheetMapper from a {@link Builder}.
      *
-     * @param converterRegistry The registry containing type converters for mapping. Cannot be null.
-     * @throws SheetMappingException if the converterRegistry is null.
+     * @param builder The builder holding the configuration. Its converter registry cannot be null.
+     * @throws SheetMappingException if the converterRegistry or the format is null or a pipeline or concurrency
+     *                               setting is not positive.
      */
-    private SheetMapper(ConverterRegistry converterRegistry) {
-        if (converterRegistry == null) {
+    private SheetMapper(Builder builder) {
+        if (builder.converterRegistry == null) {
             logger.error("ConverterRegistry cannot be null");
             throw new SheetMappingException("ConverterRegistry cannot be null");
         }
-        this.converterRegistry = converterRegistry;
+        if (builder.pipelineBatchSize <= 0) {
+            logger.error("Pipeline batch size must be greater than zero: {}", builder.pipelineBatchSize);
+            throw new SheetMappingException("Pipeline batch size must be greater than zero: " + builder.pipelineBatchSize);
+        }
+        if (builder.pipelineQueueDepth <= 0) {
+            logger.error("Pipeline queue depth must be greater than zero: {}", builder.pipelineQueueDepth);
+            throw new SheetMappingException("Pipeline queue depth must be greater than zero: " + builder.pipelineQueueDepth);
+        }
+        if (builder.maxConcurrentFiles <= 0) {
+            logger.error("Max concurrent files must be greater than zero: {}", builder.maxConcurrentFiles);
+            throw new SheetMappingException("Max concurrent files must be greater than zero: " + builder.maxConcurrentFiles);
+        }
+        if (builder.format == null) {
+            logger.error("Sheet format cannot be null");
+            throw new SheetMappingException("Sheet format cannot be null");
+        }
+        this.converterRegistry = builder.converterRegistry;
+        this.generatedRowMappers = builder.generatedRowMappers;
+        this.sheetParser = builder.sheetParser != null
+                ? builder.sheetParser : CsvSheetParser.of(builder.byteParsing, builder.memoryMapping, builder.format);
+        this.fixedWidth = builder.fixedWidth;
+        this.header = builder.header;
+        this.pipelineBatchSize = builder.pipelineBatchSize;
+        this.pipelineQueueDepth = builder.pipelineQueueDepth;
+        this.maxConcurrentFiles = builder.maxConcurrentFiles;
     }
 
     /**
@@ -58,7 +107,7 @@ public final class SheetMapper {
      * @return A new instance of {@link SheetMapper}.
      */
     public static SheetMapper forCsv() {
-        return new SheetMapper(new ConverterRegistry());
+        return builder().build();
     }
 
     /**
@@ -70,7 +119,36 @@ public final class SheetMapper {
      * @throws SheetMappingException if the provided converterRegistry is null.
      */
     public static SheetMapper forCsv(ConverterRegistry converterRegistry) {
-        return new SheetMapper(converterRegistry);
+        return builder().converterRegistry(converterRegistry).build();
+    }
+
+    /**
+     * Creates a new {@link Builder} for configuring a {@link SheetMapper} beyond the defaults of {@link #forCsv()}.
+     *
+     * @return A new builder.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Eagerly scans the given class and caches its mapping plan, so that the first call to
+     * {@link #map(File, Class)} or any other mapping method does not pay for reflection.
+     * <p>
+     * Mapping plans are cached per class and shared by all {@link SheetMapper} instances, so this method is
+     * typically called once at application startup for every class that will be mapped.
+     *
+     * @param clazz The target class to prepare. Must have a no-argument constructor and fields annotated with {@link Column}.
+     * @return This {@link SheetMapper} instance, to allow chaining.
+     * @throws SheetMappingException if the class is null or cannot be mapped.
+     */
+    public SheetMapper prepare(Class<?> clazz) throws SheetMappingException {
+        if (clazz == null) {
+            logger.error("Class cannot be null");
+            throw new SheetMappingException("Class cannot be null");
+        }
+        MappingPlan.of(clazz);
+        return this;
     }
 
     /**
@@ -85,6 +163,503 @@ public final class SheetMapper {
      *                               I/O errors, or issues with class instantiation and field mapping.
      */
     public <T> List<T> map(File sheetData, Class<T> clazz) throws SheetMappingException {
+        List<T> mappedClasses = new ArrayList<>();
+        mapEach(sheetData, clazz, mappedClasses::add);
+        return mappedClasses;
+    }
+
+    /**
+     * Maps the data from a given sheet file and pushes each mapped object to the given consumer as soon as
+     * its row has been read. No intermediate list is built.
+     *
+     * @param sheetData The file containing the sheet data (e.g., a .csv file). Must exist and be readable.
+     * @param clazz     The target class to which the data should be mapped. Must have a no-argument constructor
+     *                  and fields annotated with {@link Column}.
+     * @param consumer  The consumer receiving each mapped object, in file order. Cannot be null.
+     * @param <T>       The type of the target class.
+     * @throws SheetMappingException if any error occurs during the mapping process, or if the consumer is null.
+     */
+    public <T> void mapEach(File sheetData, Class<T> clazz, Consumer<? super T> consumer) throws SheetMappingException {
+        if (consumer == null) {
+            logger.error("Consumer cannot be null");
+            throw new SheetMappingException("Consumer cannot be null");
+        }
+        try (MappingCursor<T> cursor = openCursor(sheetData, clazz)) {
+            T instance;
+            while ((instance = cursor.next()) != null) {
+                consumer.accept(instance);
+            }
+        }
+    }
+
+    /**
+     * Maps the data from a given sheet file and hands the mapped objects to the given consumer in chunks of
+     * {@code batchSize}. Every chunk except possibly the last one is full; the consumer is not called for an
+     * empty sheet.
+     * <p>
+     * A single buffer is reused for all chunks: it is cleared as soon as the consumer returns. Consumers that
+     * need to keep a chunk beyond the callback (for example, to process it asynchronously) must copy it.
+     *
+     * <pre>{@code
+     * SheetMapper.forCsv().mapInBatches(csvFile, User.class, 500, batch -> userDao.insertAll(batch));
+     * }</pre>
+     *
+     * @param sheetData The file containing the sheet data (e.g., a .csv file). Must exist and be readable.
+     * @param clazz     The target class to which the data should be mapped. Must have a no-argument constructor
+     *                  and fields annotated with {@link Column}.
+     * @param batchSize The maximum number of objects per chunk. Must be greater than zero.
+     * @param consumer  The consumer receiving each chunk, in file order. Cannot be null.
+     * @param <T>       The type of the target class.
+     * @throws SheetMappingException if any error occurs during the mapping process, if the batch size is not
+     *                               positive or if the consumer is null.
+     */
+    public <T> void mapInBatches(File sheetData, Class<T> clazz, int batchSize, Consumer<List<T>> consumer) throws SheetMappingException {
+        if (batchSize <= 0) {
+            logger.error("Batch size must be greater than zero: {}", batchSize);
+            throw new SheetMappingException("Batch size must be greater than zero: " + batchSize);
+        }
+        if (consumer == null) {
+            logger.error("Consumer cannot be null");
+            throw new SheetMappingException("Consumer cannot be null");
+        }
+        List<T> batch = new ArrayList<>(batchSize);
+        mapEach(sheetData, clazz, instance -> {
+            batch.add(instance);
+            if (batch.size() == batchSize) {
+                consumer.accept(batch);
+                batch.clear();
+            }
+        });
+        if (!batch.isEmpty()) {
+            consumer.accept(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * Lazily maps the data from a given sheet file to a {@link Stream} of objects of the specified class.
+     * <p>
+     * Unlike {@link #map(File, Class)}, rows are read and mapped only as the stream is consumed, so memory
+     * usage depends on the current row rather than on the size of the file. The header row is read eagerly,
+     * which means configuration problems (missing file, unmappable class, empty sheet) are reported by this
+     * method itself rather than by the first terminal operation.
+     * <p>
+     * The returned stream holds the underlying file open. It is closed automatically once all rows have been
+     * consumed, but callers that may stop early should use a try-with-resources statement:
+     *
+     * <pre>{@code
+     * try (Stream<User> users = SheetMapper.forCsv().stream(csvFile, User.class)) {
+     *     users.filter(User::isActive).forEach(repository::save);
+     * }
+     * }</pre>
+     *
+     * @param sheetData The file containing the sheet data (e.g., a .csv file). Must exist and be readable.
+     * @param clazz     The target class to which the data should be mapped. Must have a no-argument constructor
+     *                  and fields annotated with {@link Column}.
+     * @param <T>       The type of the target class.
+     * @return A sequential, ordered stream of populated objects of type {@code T}.
+     * @throws SheetMappingException if the file cannot be opened or its header cannot be read. Errors occurring
+     *                               while rows are consumed are thrown from the stream's terminal operation.
+     */
+    public <T> Stream<T> stream(File sheetData, Class<T> clazz) throws SheetMappingException {
+        MappingCursor<T> cursor = openCursor(sheetData, clazz);
+        Spliterator<T> spliterator = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE,
+                Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                T instance = cursor.next();
+                if (instance == null) {
+                    return false;
+                }
+                action.accept(instance);
+                return true;
+            }
+        };
+        return StreamSupport.stream(spliterator, false).onClose(cursor::close);
+    }
+
+    /**
+     * Maps the data from a given sheet file to a list of objects of the specified class, using several threads.
+     * <p>
+     * The data rows are split into byte ranges that are mapped concurrently on a dedicated
+     * {@link java.util.concurrent.ForkJoinPool}. Range boundaries are found safely even if quoted cells contain
+     * line breaks. The result is identical to that of {@link #map(File, Class)}: rows are returned in file order,
+     * and if several rows cannot be mapped, the error of the first of them is thrown.
+     * <p>
+     * Files split into ranges are always read as UTF-8 (or ASCII) bytes, like with
+     * {@link Builder#byteParsing(boolean)}, even if byte parsing is disabled. The default parser reads files in the
+     * platform's default charset, so on a platform whose default charset is not UTF-8, a file with non-ASCII
+     * characters may map differently with {@link #map(File, Class)}. Files are read through memory mappings if
+     * {@link Builder#memoryMapping(boolean)} is enabled. Registered converters must be thread-safe. Small files are
+     * mapped on the calling thread.
+     * <p>
+     * With a {@linkplain Builder#parser(SheetParser) custom parser}, {@linkplain Builder#fixedWidth(boolean)
+     * fixed-width mapping} or a {@link SheetFormat} with an escape character, the file cannot be split. It is then
+     * read on the calling thread, by that parser and in its charset, and its rows are mapped by {@code parallelism}
+     * workers, like with {@link #mapPipelined(File, Class, int)}.
+     *
+     * @param sheetData   The file containing the sheet data (e.g., a .csv file). Must exist and be readable.
+     * @param clazz       The target class to which the data should be mapped. Must have a no-argument constructor
+     *                    and fields annotated with {@link Column}.
+     * @param parallelism The maximum number of threads. Must be greater than zero.
+     * @param <T>         The type of the target class.
+     * @return A list of populated objects of type {@code T}, in file order.
+     * @throws SheetMappingException if any error occurs during the mapping process, or if the parallelism is not
+     *                               positive.
+     */
+    public <T> List<T> mapParallel(File sheetData, Class<T> clazz, int parallelism) throws SheetMappingException {
+        return mapInParallel(sheetData, clazz, parallelism,
+                (parallelMapper, rowMappers) -> parallelMapper.mapOrdered(rowMappers, parallelism),
+                PipelinedCsvMapper::mapOrdered);
+    }
+
+    /**
+     * Maps the data from a given sheet file to a list of objects of the specified class, using several threads,
+     * without preserving the order of the rows.
+     * <p>
+     * This works like {@link #mapParallel(File, Class, int)}, but every thread collects its rows in a list of its
+     * own and the lists are concatenated at the end, so no thread waits for the ranges before it. Use it when the
+     * rows are collected into a set, a map or an aggregate anyway.
+     *
+     * @param sheetData   The file containing the sheet data (e.g., a .csv file). Must exist and be readable.
+     * @param clazz       The target class to which the data should be mapped. Must have a no-argument constructor
+     *                    and fields annotated with {@link Column}.
+     * @param parallelism The maximum number of threads. Must be greater than zero.
+     * @param <T>         The type of the target class.
+     * @return A list of populated objects of type {@code T}, in no particular order.
+     * @throws SheetMappingException if any error occurs during the mapping process, or if the parallelism is not
+     *                               positive.
+     */
+    public <T> List<T> mapParallelUnordered(File sheetData, Class<T> clazz, int parallelism) throws SheetMappingException {
+        return mapInParallel(sheetData, clazz, parallelism,
+                (parallelMapper, rowMappers) -> parallelMapper.mapUnordered(rowMappers, parallelism),
+                PipelinedCsvMapper::mapOrdered);
+    }
+
+    /**
+     * Maps the data from a given sheet file using several threads, and pushes each mapped object to the given
+     * consumer as soon as it has been mapped, in no particular order. No intermediate list is built.
+     * <p>
+     * The consumer is called concurrently from up to {@code parallelism} threads and must be thread-safe, for
+     * example a concurrent collection or an atomic accumulator. If a row cannot be mapped, the exception is thrown
+     * after the running threads have finished; rows mapped until then have already been passed to the consumer.
+     *
+     * @param sheetData   The file containing the sheet data (e.g., a .csv file). Must exist and be readable.
+     * @param clazz       The target class to which the data should be mapped. Must have a no-argument constructor
+     *                    and fields annotated with {@link Column}.
+     * @param parallelism The maximum number of threads. Must be greater than zero.
+     * @param consumer    The thread-safe consumer receiving each mapped object. Cannot be null.
+     * @param <T>         The type of the target class.
+     * @throws SheetMappingException if any error occurs during the mapping process, if the parallelism is not
+     *                               positive or if the consumer is null.
+     */
+    public <T> void mapEachParallel(File sheetData, Class<T> clazz, int parallelism, Consumer<? super T> consumer) throws SheetMappingException {
+        if (consumer == null) {
+            logger.error("Consumer cannot be null");
+            throw new SheetMappingException("Consumer cannot be null");
+        }
+        mapInParallel(sheetData, clazz, parallelism, (parallelMapper, rowMappers) -> {
+            parallelMapper.mapUnordered(rowMappers, parallelism, consumer);
+            return null;
+        }, (pipeline, rowMappers) -> {
+            pipeline.mapUnordered(rowMappers, consumer);
+            return null;
+        });
+    }
+
+    /**
+     * Maps the data from a given sheet file to a list of objects of the specified class, reading and converting
+     * the rows on different threads.
+     * <p>
+     * The calling thread reads and tokenizes the file and hands the rows over, in batches of
+     * {@link Builder#pipelineBatchSize(int) pipelineBatchSize}, to {@code workers} threads that convert them and
+     * create the objects. This pays off for conversion-heavy classes, with dates or {@link java.math.BigDecimal}
+     * fields for instance, and works for any encoding and without splitting the file. The queue between the stages
+     * holds at most {@link Builder#pipelineQueueDepth(int) pipelineQueueDepth} batches, so a slow conversion stage
+     * pauses reading instead of buffering the file. The result is identical to that of {@link #map(File, Class)}.
+     * Registered converters must be thread-safe.
+     *
+     * @param sheetData The file containing the sheet data (e.g., a .csv file). Must exist and be readable.
+     * @param clazz     The target class to which the data should be mapped. Must have a no-argument constructor
+     *                  and fields annotated with {@link Column}.
+     * @param workers   The number of threads converting rows. Must be greater than zero.
+     * @param <T>       The type of the target class.
+     * @return A list of populated objects of type {@code T}, in file order.
+     * @throws SheetMappingException if any error occurs during the mapping process, or if the number of workers is
+     *                               not positive.
+     */
+    public <T> List<T> mapPipelined(File sheetData, Class<T> clazz, int workers) throws SheetMappingException {
+        return mapInPipeline(sheetData, clazz, workers, PipelinedCsvMapper::mapOrdered);
+    }
+
+    /**
+     * Maps the data from a given sheet file like {@link #mapPipelined(File, Class, int)}, and pushes each mapped
+     * object to the given consumer from the worker thread that created it, in no particular order. No intermediate
+     * list is built. The consumer must be thread-safe.
+     *
+     * @param sheetData The file containing the sheet data (e.g., a .csv file). Must exist and be readable.
+     * @param clazz     The target class to which the data should be mapped. Must have a no-argument constructor
+     *                  and fields annotated with {@link Column}.
+     * @param workers   The number of threads converting rows. Must be greater than zero.
+     * @param consumer  The thread-safe consumer receiving each mapped object. Cannot be null.
+     * @param <T>       The type of the target class.
+     * @throws SheetMappingException if any error occurs during the mapping process, if the number of workers is not
+     *                               positive or if the consumer is null.
+     */
+    public <T> void mapEachPipelined(File sheetData, Class<T> clazz, int workers, Consumer<? super T> consumer) throws SheetMappingException {
+        if (consumer == null) {
+            logger.error("Consumer cannot be null");
+            throw new SheetMappingException("Consumer cannot be null");
+        }
+        mapInPipeline(sheetData, clazz, workers, (pipeline, rowMappers) -> {
+            pipeline.mapUnordered(rowMappers, consumer);
+            return null;
+        });
+    }
+
+    /**
+     * Maps several files to objects of the specified class concurrently, each file on a virtual thread of its own.
+     * <p>
+     * At most {@link Builder#maxConcurrentFiles(int) maxConcurrentFiles} files are read at the same time. Every file
+     * is mapped exactly like with {@link #map(File, Class)}, with the mapping plan of the class shared by all of
+     * them. A file that cannot be mapped does not abort the others: its error is collected in the result. Files
+     * that appear more than once are mapped once.
+     *
+     * @param sheetFiles The files containing the sheet data (e.g., .csv files). Cannot be null or contain null.
+     * @param clazz      The target class to which the data should be mapped. Must have a no-argument constructor
+     *                   and fields annotated with {@link Column}.
+     * @param <T>        The type of the target class.
+     * @return The rows of every successfully mapped file and the error of every other file, keyed by file.
+     * @throws SheetMappingException if the collection of files is invalid or the class cannot be mapped.
+     */
+    public <T> MultiFileResult<T> mapAll(Collection<File> sheetFiles, Class<T> clazz) throws SheetMappingException {
+        List<File> files = distinctFiles(sheetFiles, clazz);
+        List<List<T>> rows = new ArrayList<>(files.size());
+        for (int i = 0; i < files.size(); i++) {
+            rows.add(new ArrayList<>());
+        }
+        SheetMappingException[] failures = mapFiles(files, i -> mapEach(files.get(i), clazz, rows.get(i)::add));
+
+        Map<File, List<T>> rowsByFile = new LinkedHashMap<>();
+        Map<File, SheetMappingException> failuresByFile = new LinkedHashMap<>();
+        for (int i = 0; i < files.size(); i++) {
+            if (failures[i] == null) {
+                rowsByFile.put(files.get(i), rows.get(i));
+            } else {
+                failuresByFile.put(files.get(i), failures[i]);
+            }
+        }
+        return new MultiFileResult<>(rowsByFile, failuresByFile);
+    }
+
+    /**
+     * Maps several files concurrently like {@link #mapAll(Collection, Class)}, and pushes each mapped object to the
+     * given consumer together with its file, as soon as its row has been read. No intermediate list is built.
+     * <p>
+     * The consumer is called concurrently from several virtual threads and must be thread-safe. The rows of each
+     * file arrive in file order. If a file fails, the rows passed to the consumer before the failure are not
+     * revoked.
+     *
+     * @param sheetFiles The files containing the sheet data (e.g., .csv files). Cannot be null or contain null.
+     * @param clazz      The target class to which the data should be mapped. Must have a no-argument constructor
+     *                   and fields annotated with {@link Column}.
+     * @param consumer   The thread-safe consumer receiving each file and mapped object. Cannot be null.
+     * @param <T>        The type of the target class.
+     * @return The error of every file that could not be mapped, keyed by file; empty if all files were mapped.
+     * @throws SheetMappingException if the collection of files is invalid, the class cannot be mapped or the
+     *                               consumer is null.
+     */
+    public <T> Map<File, SheetMappingException> mapAllEach(Collection<File> sheetFiles, Class<T> clazz,
+                                                           BiConsumer<File, ? super T> consumer) throws SheetMappingException {
+        if (consumer == null) {
+            logger.error("Consumer cannot be null");
+            throw new SheetMappingException("Consumer cannot be null");
+        }
+        List<File> files = distinctFiles(sheetFiles, clazz);
+        SheetMappingException[] failures = mapFiles(files, i -> {
+            File file = files.get(i);
+            mapEach(file, clazz, instance -> consumer.accept(file, instance));
+        });
+
+        Map<File, SheetMappingException> failuresByFile = new LinkedHashMap<>();
+        for (int i = 0; i < files.size(); i++) {
+            if (failures[i] != null) {
+                failuresByFile.put(files.get(i), failures[i]);
+            }
+        }
+        return failuresByFile;
+    }
+
+    /**
+     * Validates the arguments of a multi-file mapping and prepares the mapping plan of the class, so that errors
+     * that would affect every file are reported once, up front.
+     *
+     * @param sheetFiles The files to map.
+     * @param clazz      The target class.
+     * @return The distinct files, in their original order.
+     * @throws SheetMappingException if the files or the class are invalid.
+     */
+    private List<File> distinctFiles(Collection<File> sheetFiles, Class<?> clazz) {
+        if (sheetFiles == null || sheetFiles.stream().anyMatch(Objects::isNull)) {
+            logger.error("Sheet data files cannot be null or contain null");
+            throw new SheetMappingException("Sheet data files cannot be null or contain null");
+        }
+        prepare(clazz);
+        return new ArrayList<>(new LinkedHashSet<>(sheetFiles));
+    }
+
+    /**
+     * Runs a mapping task for every file on a virtual thread, with at most {@code maxConcurrentFiles} tasks running
+     * at the same time, and waits for all of them.
+     *
+     * @param files   The files to map.
+     * @param mapping Maps the file with the given index.
+     * @return The failure of every file, indexed like the files; {@code null} for files that were mapped.
+     */
+    private SheetMappingException[] mapFiles(List<File> files, IntConsumer mapping) {
+        SheetMappingException[] failures = new SheetMappingException[files.size()];
+        Semaphore permits = new Semaphore(maxConcurrentFiles);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < files.size(); i++) {
+                int index = i;
+                permits.acquireUninterruptibly();
+                executor.execute(() -> {
+                    try {
+                        mapping.accept(index);
+                    } catch (SheetMappingException e) {
+                        failures[index] = e;
+                    } catch (RuntimeException e) {
+                        logger.error("Error mapping file: {}", files.get(index).getAbsolutePath(), e);
+                        failures[index] = new SheetMappingException("Error mapping file: " + files.get(index).getAbsolutePath(), e);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * Validates the arguments of a pipelined mapping, opens the file, reads and binds the header row, and runs the
+     * mapping.
+     *
+     * @param sheetData The file containing the sheet data.
+     * @param clazz     The target class to which the data should be mapped.
+     * @param workers   The number of threads converting rows.
+     * @param mapping   Maps the data rows, given the pipeline and a factory of row mappers.
+     * @param <T>       The type of the target class.
+     * @param <R>       The result of the mapping.
+     * @return The result of the mapping.
+     * @throws SheetMappingException if any error occurs during the mapping process.
+     */
+    private <T, R> R mapInPipeline(File sheetData, Class<T> clazz, int workers, PipelineMapping<T, R> mapping) {
+        if (workers <= 0) {
+            logger.error("Workers must be greater than zero: {}", workers);
+            throw new SheetMappingException("Workers must be greater than zero: " + workers);
+        }
+        validateArguments(sheetData, clazz);
+
+        return pipeline(sheetData, clazz, workers, mapping);
+    }
+
+    /**
+     * Reads and binds the header row of a validated file, if it has one, and maps its data rows in a pipeline.
+     */
+    private <T, R> R pipeline(File sheetData, Class<T> clazz, int workers, PipelineMapping<T, R> mapping) {
+        MappingPlan<T> plan = MappingPlan.of(clazz);
+        try (SheetReader sheetReader = openReader(sheetData, plan)) {
+            Supplier<RowBinding<T>> bindings = bindings(sheetReader, plan);
+            sheetReader.limitCells(bindings.get().requiredCellCount());
+            PipelinedCsvMapper pipeline = new PipelinedCsvMapper(sheetReader, workers, pipelineBatchSize, pipelineQueueDepth);
+            return mapping.map(pipeline, () -> rowMapper(bindings.get()));
+        } catch (Exception e) {
+            throw toMappingException(e, sheetData, clazz);
+        }
+    }
+
+    /**
+     * Validates the arguments of a parallel mapping, reads and binds the header row, if the file has one, and runs
+     * the mapping.
+     *
+     * @param sheetData   The file containing the sheet data.
+     * @param clazz       The target class to which the data should be mapped.
+     * @param parallelism The maximum number of threads.
+     * @param mapping     Maps the data rows, given the parallel mapper and a factory of row mappers.
+     * @param fallback    Maps the data rows in a pipeline instead, if the parser cannot split files.
+     * @param <T>         The type of the target class.
+     * @param <R>         The result of the mapping.
+     * @return The result of the mapping.
+     * @throws SheetMappingException if any error occurs during the mapping process.
+     */
+    private <T, R> R mapInParallel(File sheetData, Class<T> clazz, int parallelism, ParallelMapping<T, R> mapping,
+                                   PipelineMapping<T, R> fallback) {
+        if (parallelism <= 0) {
+            logger.error("Parallelism must be greater than zero: {}", parallelism);
+            throw new SheetMappingException("Parallelism must be greater than zero: " + parallelism);
+        }
+        validateArguments(sheetData, clazz);
+        if (fixedWidth || !(sheetParser instanceof CsvSheetParser csvSheetParser) || !csvSheetParser.splittable()) {
+            return pipeline(sheetData, clazz, parallelism, fallback);
+        }
+
+        MappingPlan<T> plan = MappingPlan.of(clazz);
+        ParallelCsvMapper parallelMapper = new ParallelCsvMapper(sheetData.toPath(),
+                csvSheetParser.input() == CsvSheetParser.Input.MAPPED, csvSheetParser.format());
+        try {
+            Supplier<RowBinding<T>> bindings;
+            if (header) {
+                String[] headers = parallelMapper.readHeader();
+                if (headers == null) {
+                    logger.error("CSV file is empty or does not contain a header row.");
+                    throw new SheetMappingException("CSV file is empty or does not contain a header row.");
+                }
+                bindings = () -> RowBinding.bind(plan, headers, converterRegistry);
+            } else {
+                parallelMapper.noHeader();
+                bindings = () -> RowBinding.bindByIndex(plan, converterRegistry);
+            }
+            parallelMapper.limitCells(bindings.get().requiredCellCount());
+            return mapping.map(parallelMapper, () -> rowMapper(bindings.get()));
+        } catch (Exception e) {
+            throw toMappingException(e, sheetData, clazz);
+        }
+    }
+
+    /**
+     * Validates the mapping arguments, opens the sheet file and reads its header row.
+     *
+     * @param sheetData The file containing the sheet data.
+     * @param clazz     The target class to which the data should be mapped.
+     * @param <T>       The type of the target class.
+     * @return An open {@link MappingCursor} positioned on the first data row.
+     * @throws SheetMappingException if the arguments are invalid or the file or class cannot be prepared for mapping.
+     */
+    private <T> MappingCursor<T> openCursor(File sheetData, Class<T> clazz) {
+        validateArguments(sheetData, clazz);
+
+        MappingPlan<T> plan = MappingPlan.of(clazz);
+        SheetReader sheetReader = null;
+        try {
+            sheetReader = openReader(sheetData, plan);
+            RowBinding<T> binding = bindings(sheetReader, plan).get();
+            sheetReader.limitCells(binding.requiredCellCount());
+            return new MappingCursor<>(sheetData, clazz, rowMapper(binding), sheetReader);
+        } catch (Exception e) {
+            closeQuietly(sheetReader);
+            throw toMappingException(e, sheetData, clazz);
+        }
+    }
+
+    /**
+     * Checks that the target class is given and that the sheet file exists. The file may have any extension, since
+     * its format is set with {@link Builder#format(SheetFormat)}.
+     *
+     * @param sheetData The file containing the sheet data.
+     * @param clazz     The target class to which the data should be mapped.
+     * @throws SheetMappingException if an argument is invalid.
+     */
+    private void validateArguments(File sheetData, Class<?> clazz) {
         if (clazz == null) {
             logger.error("Class cannot be null");
             throw new SheetMappingException("Class cannot be null");
@@ -93,144 +668,409 @@ public final class SheetMapper {
             logger.error("Sheet data file cannot be null and must exist: {}", sheetData);
             throw new SheetMappingException("Sheet data file cannot be null and must exist");
         }
-        if (!sheetData.getName().toLowerCase().endsWith(".csv")) {
-            logger.error("Sheet data file must be a CSV file: {}", sheetData.getAbsolutePath());
-            throw new SheetMappingException("Sheet data file must be a CSV file: " + sheetData.getAbsolutePath());
-        }
+    }
 
-        List<T> mappedClasses = new ArrayList<>();
-        try (Reader reader = new FileReader(sheetData);
-             CsvProcessor csvProcessor = new CsvProcessor(reader)
-        ) {
-            Constructor<T> constructor = clazz.getDeclaredConstructor();
-            Set<Field> fields = findFields(clazz);
-            Map<String, Field> columnFieldMap = fields.stream()
-                    .collect(Collectors.toMap(this::getColumnName, field -> field));
-            Map<String, Integer> headerIndexMap = getHeaderIndexMap(csvProcessor);
-
-            String[] rowData;
-            while ((rowData = csvProcessor.readNext()) != null) {
-                T instance = mapRowToInstance(rowData, headerIndexMap, columnFieldMap, constructor);
-                mappedClasses.add(instance);
-            }
+    /**
+     * Returns the row mapper to use for a binding: a generated one if enabled, the binding itself otherwise.
+     */
+    private <T> RowMapper<T> rowMapper(RowBinding<T> binding) {
+        return generatedRowMappers ? RowMapperGenerator.generate(binding) : binding;
+    }
 
-        } catch (FileNotFoundException e) {
-            logger.error("File not found: {}", sheetData.getAbsolutePath(), e);
-            throw new SheetMappingException("File not found: " + sheetData.getAbsolutePath(), e);
-        } catch (NoSuchMethodException e) {
-            logger.error("Class must have a no-arg constructor: {}", clazz.getName(), e);
-            throw new SheetMappingException("Class must have a no-arg constructor: " + clazz.getName(), e);
-        } catch (InvocationTargetException | InstantiationException | IllegalAccessException e) {
-            logger.error("Error creating instance of class: {}", clazz.getName(), e);
-            throw new SheetMappingException("Error creating instance of class: " + clazz.getName(), e);
-        } catch (IOException | CsvValidationException e) {
-            logger.error("Error reading file: {}", sheetData.getAbsolutePath(), e);
-            throw new SheetMappingException("Error reading file: " + sheetData.getAbsolutePath(), e);
+    /**
+     * Opens a reader for the given file with the configured parser, or a {@link FixedWidthReader} for the columns of
+     * the mapping plan if fixed-width mapping is enabled.
+     *
+     * @param sheetData The file to read.
+     * @param plan      The mapping plan of the target class.
+     * @return A new reader positioned before the first row.
+     * @throws IOException           if the file cannot be opened.
+     * @throws SheetMappingException if the parser returns no reader, or a column has no fixed-width position.
+     */
+    private SheetReader openReader(File sheetData, MappingPlan<?> plan) throws IOException {
+        if (fixedWidth) {
+            return FixedWidthReader.open(sheetData, plan);
         }
-        return mappedClasses;
+        SheetReader sheetReader = sheetParser.open(sheetData);
+        if (sheetReader == null) {
+            logger.error("Sheet parser returned no reader for file: {}", sheetData.getAbsolutePath());
+            throw new SheetMappingException("Sheet parser returned no reader for file: " + sheetData.getAbsolutePath());
+        }
+        return sheetReader;
     }
 
     /**
-     * Scans the target class for fields annotated with {@link Column}.
+     * Closes the given reader after a failure, ignoring any secondary error so that the original cause is reported.
      *
-     * @param clazz The class to scan.
-     * @param <T>   The type of the class.
-     * @return A set of fields that are annotated and should be mapped.
-     * @throws SheetMappingException if no annotated fields are found.
+     * @param sheetReader The reader to close, may be null.
      */
-    private <T> Set<Field> findFields(Class<T> clazz) {
-        Set<Field> fields = Arrays.stream(clazz.getDeclaredFields())
-                .filter(field -> field.isAnnotationPresent(Column.class))
-                .collect(Collectors.toSet());
-        if (fields.isEmpty()) {
-            logger.error("No fields annotated with @Column found in class: {}", clazz.getName());
-            throw new SheetMappingException("No fields annotated with @Column found in class: " + clazz.getName());
+    private void closeQuietly(SheetReader sheetReader) {
+        if (sheetReader == null) {
+            return;
+        }
+        try {
+            sheetReader.close();
+        } catch (IOException e) {
+            logger.debug("Failed to close sheet reader after an error", e);
         }
-        return fields;
     }
 
     /**
-     * Determines the column name for a given field based on its {@link Column} annotation.
-     * If the annotation's {@code name} attribute is set, it is used; otherwise, the field's name is used.
+     * Translates an exception raised while mapping into a {@link SheetMappingException} with a descriptive message.
      *
-     * @param field The field to inspect.
-     * @return The name of the column to map to this field.
+     * @param e         The exception to translate.
+     * @param sheetData The file being mapped.
+     * @param clazz     The target class.
+     * @return The exception to throw.
      */
-    private String getColumnName(Field field) {
-        Column columnAnnotation = field.getAnnotation(Column.class);
-        String name = columnAnnotation.name();
-        return (name == null || name.trim().isEmpty()) ? field.getName() : name;
+    private SheetMappingException toMappingException(Exception e, File sheetData, Class<?> clazz) {
+        if (e instanceof SheetMappingException sheetMappingException) {
+            return sheetMappingException;
+        }
+        if (e instanceof FileNotFoundException || e instanceof NoSuchFileException) {
+            logger.error("File not found: {}", sheetData.getAbsolutePath(), e);
+            return new SheetMappingException("File not found: " + sheetData.getAbsolutePath(), e);
+        }
+        logger.error("Error reading file: {}", sheetData.getAbsolutePath(), e);
+        return new SheetMappingException("Error reading file: " + sheetData.getAbsolutePath(), e);
     }
 
     /**
-     * Reads the first line of the CSV file to build a map of header names to their column indices.
+     * Reads the first line of the CSV file and returns a factory of bindings of the mapping plan to it. Files without
+     * a header row are bound by the index of every column instead, and fixed-width files, which never have one, by
+     * the order of the columns, which are also the cells of a {@link FixedWidthReader}.
+     * <p>
+     * Column names are resolved to cell indices by every binding, once per file and thread, so that missing columns
+     * are reported before any data row is read and data rows can be mapped without any lookups.
      *
-     * @param csvProcessor The CSV processor to read from.
-     * @return A map where keys are header names and values are their 0-based indices.
-     * @throws CsvValidationException if there is an error during CSV validation.
-     * @throws IOException            if an I/O error occurs.
-     * @throws SheetMappingException  if the CSV file is empty or contains no header row.
+     * @param sheetReader The reader to read from.
+     * @param plan        The mapping plan of the target class.
+     * @param <T>         The type of the target class.
+     * @return A factory of new bindings of the plan to the file.
+     * @throws IOException           if an I/O error occurs or the header row is malformed.
+     * @throws SheetMappingException if the CSV file is empty or contains no header row.
      */
-    private Map<String, Integer> getHeaderIndexMap(CsvProcessor csvProcessor) throws CsvValidationException, IOException {
-        String[] headersArray = csvProcessor.readNext();
-        if (headersArray == null) {
+    private <T> Supplier<RowBinding<T>> bindings(SheetReader sheetReader, MappingPlan<T> plan) throws IOException {
+        if (fixedWidth) {
+            return () -> RowBinding.bindInOrder(plan, converterRegistry);
+        }
+        if (!header) {
+            return () -> RowBinding.bindByIndex(plan, converterRegistry);
+        }
+        String[] headers = readHeader(sheetReader);
+        return () -> RowBinding.bind(plan, headers, converterRegistry);
+    }
+
+    /**
+     * Reads the first line of the CSV file.
+     *
+     * @param sheetReader The reader to read from.
+     * @return The cells of the header row.
+     * @throws IOException           if an I/O error occurs or the header row is malformed.
+     * @throws SheetMappingException if the CSV file is empty or contains no header row.
+     */
+    private String[] readHeader(SheetReader sheetReader) throws IOException {
+        if (!sheetReader.nextRecord()) {
             logger.error("CSV file is empty or does not contain a header row.");
             throw new SheetMappingException("CSV file is empty or does not contain a header row.");
         }
-        Map<String, Integer> headerIndexMap = new HashMap<>();
-        for (int i = 0; i < headersArray.length; i++) {
-            headerIndexMap.put(headersArray[i], i);
-        }
-        return headerIndexMap;
+        return sheetReader.cellStrings();
     }
 
     /**
-     * Creates a new instance of the target class and populates its fields with data from a single CSV row.
+     * Maps the data rows of a file whose header row has been read by a {@link ParallelCsvMapper}.
      *
-     * @param rowData        An array of strings representing the data in one row.
-     * @param headerIndexMap A map from column names to their indices.
-     * @param columnFieldMap A map from column names to their corresponding {@link Field} objects.
-     * @param constructor    The no-argument constructor of the target class.
-     * @param <T>            The type of the target object.
-     * @return A new, populated instance of the target class.
-     * @throws SheetMappingException         if a required column is not found in the CSV or a null value is mapped to a primitive type.
-     * @throws InvocationTargetException     if the constructor throws an exception.
-     * @throws InstantiationException        if the class cannot be instantiated.
-     * @throws IllegalAccessException        if the constructor or a field is not accessible.
+     * @param <T> The type of the target class.
+     * @param <R> The result of the mapping.
      */
-    private <T> T mapRowToInstance(String[] rowData, Map<String, Integer> headerIndexMap, Map<String, Field> columnFieldMap, Constructor<T> constructor) throws InvocationTargetException, InstantiationException, IllegalAccessException {
-        T instance = constructor.newInstance();
-        for (Map.Entry<String, Field> entry : columnFieldMap.entrySet()) {
-            String columnName = entry.getKey();
-            Field field = entry.getValue();
-            Integer index = headerIndexMap.get(columnName);
+    @FunctionalInterface
+    private interface ParallelMapping<T, R> {
+        R map(ParallelCsvMapper parallelMapper, Supplier<RowMapper<T>> rowMappers) throws IOException;
+    }
 
-            if (index == null) {
-                logger.error("Column '{}' not found in CSV headers.", columnName);
-                throw new SheetMappingException("Column not found in CSV headers: " + columnName);
-            }
+    /**
+     * Maps the data rows of a file whose header row has been read, through a {@link PipelinedCsvMapper}.
+     *
+     * @param <T> The type of the target class.
+     * @param <R> The result of the mapping.
+     */
+    @FunctionalInterface
+    private interface PipelineMapping<T, R> {
+        R map(PipelinedCsvMapper pipeline, Supplier<RowMapper<T>> rowMappers) throws IOException;
+    }
 
-            if (index >= rowData.length) {
-                logger.warn("Missing value for column '{}' (index {}) in a row. Skipping field set.", columnName, index);
-                throw new SheetMappingException("Missing value for column '" + columnName + "' (index " + index + ") in a row. Skipping field set.");
-            }
+    /**
+     * Pulls rows from an open {@link SheetReader} one at a time and maps each of them to a new instance.
+     * <p>
+     * A cursor owns the underlying reader and releases it when closed or when the last row has been read.
+     *
+     * @param <T> The type of the target class.
+     */
+    private final class MappingCursor<T> implements AutoCloseable {
+        private final File sheetData;
+        private final Class<T> clazz;
+        private final RowMapper<T> rowMapper;
+        private final SheetReader sheetReader;
+        private final SheetRecord sheetRecord;
+        private boolean closed;
 
-            String value = rowData[index];
-            Object convertedValue = converterRegistry.convert(value, field.getType());
+        private MappingCursor(File sheetData, Class<T> clazz, RowMapper<T> rowMapper, SheetReader sheetReader) {
+            this.sheetData = sheetData;
+            this.clazz = clazz;
+            this.rowMapper = rowMapper;
+            this.sheetReader = sheetReader;
+            this.sheetRecord = SheetRecord.of(sheetReader);
+        }
 
-            if (convertedValue == null && field.getType().isPrimitive()) {
-                logger.error("Cannot map null value to primitive type '{}' for field '{}'", field.getType().getName(), field.getName());
-                throw new SheetMappingException("Cannot map null value to primitive type: " + field.getType().getName());
+        /**
+         * Reads and maps the next data row.
+         *
+         * @return The next mapped instance, or {@code null} if there are no more rows.
+         * @throws SheetMappingException if the row cannot be read or mapped.
+         */
+        private T next() {
+            if (closed) {
+                return null;
+            }
+            try {
+                if (!sheetReader.nextRecord()) {
+                    close();
+                    return null;
+                }
+                return rowMapper.mapRow(sheetRecord);
+            } catch (Exception e) {
+                closed = true;
+                closeQuietly(sheetReader);
+                throw toMappingException(e, sheetData, clazz);
             }
+        }
 
+        /**
+         * Closes the underlying reader. Calling this method more than once has no effect.
+         *
+         * @throws SheetMappingException if an I/O error occurs when closing the reader.
+         */
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
             try {
-                field.setAccessible(true);
-                field.set(instance, convertedValue);
-            } catch (IllegalArgumentException e) {
-                logger.error("Type mismatch for field '{}'. Expected {} but got {}.", field.getName(), field.getType().getName(), convertedValue != null ? convertedValue.getClass().getName() : "null");
-                throw new SheetMappingException("Type mismatch for field " + field.getName(), e);
+                sheetReader.close();
+            } catch (IOException e) {
+                throw toMappingException(e, sheetData, clazz);
             }
         }
-        return instance;
     }
-}
\ No newline at end of file
+
+    /**
+     * A builder for {@link SheetMapper} instances.
+     * <p>
+     * Every option has a sensible default, so {@code SheetMapper.builder().build()} is equivalent to
+     * {@link SheetMapper#forCsv()}.
+     */
+    public static final class Builder {
+        private ConverterRegistry converterRegistry = new ConverterRegistry();
+        private boolean generatedRowMappers;
+        private boolean byteParsing;
+        private boolean memoryMapping;
+        private SheetParser sheetParser;
+        private SheetFormat format = SheetFormat.CSV;
+        private boolean fixedWidth;
+        private boolean header = true;
+        private int pipelineBatchSize = 256;
+        private int pipelineQueueDepth = 16;
+        private int maxConcurrentFiles = 16;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the registry used for type conversions. Defaults to a {@link ConverterRegistry} with the default
+         * converters.
+         *
+         * @param converterRegistry The converter registry. Cannot be null.
+         * @return This builder.
+         */
+        public Builder converterRegistry(ConverterRegistry converterRegistry) {
+            this.converterRegistry = converterRegistry;
+            return this;
+        }
+
+        /**
+         * Enables or disables generated row mappers. Disabled by default.
+         * <p>
+         * When enabled, a dedicated class with straight-line code is generated at runtime for every combination of
+         * target class and header layout, instead of mapping each row through a generic loop. This mainly pays off
+         * for wide classes with many columns. If a class cannot be generated, for example because the target class
+         * is in a module that is not open to SheetMapper, the generic loop is used transparently.
+         *
+         * @param generatedRowMappers {@code true} to generate row mappers.
+         * @return This builder.
+         */
+        public Builder generatedRowMappers(boolean generatedRowMappers) {
+            this.generatedRowMappers = generatedRowMappers;
+            return this;
+        }
+
+        /**
+         * Enables or disables byte-level parsing. Disabled by default.
+         * <p>
+         * By default a file is read through a {@link java.io.Reader}, which decodes every byte before the CSV is
+         * split. When enabled, the raw bytes are split instead and only the cells that are mapped are decoded;
+         * cells containing only ASCII characters are copied into strings without any decoding. Files must then be
+         * encoded in UTF-8 (or ASCII), regardless of the platform's default charset.
+         *
+         * @param byteParsing {@code true} to parse raw UTF-8 bytes.
+         * @return This builder.
+         */
+        public Builder byteParsing(boolean byteParsing) {
+            this.byteParsing = byteParsing;
+            return this;
+        }
+
+        /**
+         * Enables or disables reading files through memory mappings. Disabled by default.
+         * <p>
+         * When enabled, files are split in place in read-only mappings of the file instead of being read into a
+         * buffer, which saves a copy and the read calls when the file is already in the page cache. Files larger
+         * than 2 GB are mapped in consecutive windows, and every mapping is released as soon as the mapping
+         * finishes or its stream is closed. Cells are decoded like with {@link #byteParsing(boolean)}, so files
+         * must be encoded in UTF-8 (or ASCII).
+         *
+         * @param memoryMapping {@code true} to read files through memory mappings.
+         * @return This builder.
+         */
+        public Builder memoryMapping(boolean memoryMapping) {
+            this.memoryMapping = memoryMapping;
+            return this;
+        }
+
+        /**
+         * Sets the format of the files read by the built-in parsers. Defaults to {@link SheetFormat#CSV}.
+         * <p>
+         * Tab-, pipe- and semicolon-separated files are supported with {@link SheetFormat#TSV},
+         * {@link SheetFormat#PIPE} and {@link SheetFormat#SEMICOLON}, and other dialects with
+         * {@link SheetFormat#builder()}. Formats without a quote character, such as TSV, are split by a simpler
+         * tokenizer that never tracks quotes. Files of a format with an escape character cannot be split into
+         * ranges, so the parallel mapping methods map their rows in a pipeline. The format does not apply to a
+         * parser set with {@link #parser(SheetParser)}.
+         *
+         * @param format The format. Cannot be null.
+         * @return This builder.
+         */
+        public Builder format(SheetFormat format) {
+            this.format = format;
+            return this;
+        }
+
+        /**
+         * Sets whether files start with a header row. Enabled by default.
+         * <p>
+         * When disabled, the first row is a data row like every other, and every mapped column must declare the
+         * position of its cell with {@link Column#index()}. Columns are bound to their cells directly, without
+         * reading any header, and cells after the highest mapped index are never split. Fixed-width files never have
+         * a header row, whatever this option is set to.
+         *
+         * @param header {@code false} if files have no header row.
+         * @return This builder.
+         */
+        public Builder header(boolean header) {
+            this.header = header;
+            return this;
+        }
+
+        /**
+         * Enables or disables fixed-width mapping. Disabled by default.
+         * <p>
+         * When enabled, files have no delimiters and no header row: every line is a data row, and every mapped
+         * column is sliced from it at the {@link Column#start() start} and {@link Column#length() length} declared
+         * by its annotation, which every column must declare. The spaces a value is padded with are stripped, and a
+         * line that ends before a column maps it as an empty cell. Files are read through a {@link java.io.Reader}
+         * in the platform's default charset. This takes precedence over {@link #parser(SheetParser)},
+         * {@link #format(SheetFormat)}, {@link #byteParsing(boolean)} and {@link #memoryMapping(boolean)}, and the
+         * parallel mapping methods map the rows of fixed-width files in a pipeline.
+         *
+         * @param fixedWidth {@code true} to map fixed-width files.
+         * @return This builder.
+         */
+        public Builder fixedWidth(boolean fixedWidth) {
+            this.fixedWidth = fixedWidth;
+            return this;
+        }
+
+        /**
+         * Sets the parser that reads sheet files. By default, one of the built-in CSV parsers is used, as selected
+         * by {@link #byteParsing(boolean)} and {@link #memoryMapping(boolean)}.
+         * <p>
+         * A parser set here takes precedence over these options and over {@link #format(SheetFormat)}. The
+         * built-in parsers are available from
+         * {@link SheetParser#csv()}, {@link SheetParser#csvBytes()} and {@link SheetParser#csvMapped()}. Files read
+         * by other parsers cannot be split into ranges, so the parallel mapping methods read them on a single thread
+         * and map their rows in a pipeline.
+         *
+         * @param sheetParser The parser, or {@code null} to use the built-in parser selected by the other options.
+         * @return This builder.
+         */
+        public Builder parser(SheetParser sheetParser) {
+            this.sheetParser = sheetParser;
+            return this;
+        }
+
+        /**
+         * Sets the number of rows that {@link SheetMapper#mapPipelined(File, Class, int)} and
+         * {@link SheetMapper#mapEachPipelined(File, Class, int, Consumer)} hand over to a worker at once. Defaults
+         * to 256.
+         * <p>
+         * Larger batches reduce the hand-off overhead per row, smaller ones keep the workers busy sooner and need
+         * less memory.
+         *
+         * @param pipelineBatchSize The number of rows per batch. Must be greater than zero.
+         * @return This builder.
+         */
+        public Builder pipelineBatchSize(int pipelineBatchSize) {
+            this.pipelineBatchSize = pipelineBatchSize;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of batches that may wait for a worker in a pipelined mapping. Defaults to 16.
+         * <p>
+         * When the queue is full, reading pauses until a worker takes a batch, so that the rows read ahead never
+         * take more than about {@code (queueDepth + workers) * batchSize} rows' worth of memory.
+         *
+         * @param pipelineQueueDepth The capacity of the queue, in batches. Must be greater than zero.
+         * @return This builder.
+         */
+        public Builder pipelineQueueDepth(int pipelineQueueDepth) {
+            this.pipelineQueueDepth = pipelineQueueDepth;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of files that {@link SheetMapper#mapAll(Collection, Class)} and
+         * {@link SheetMapper#mapAllEach(Collection, Class, BiConsumer)} read at the same time. Defaults to 16.
+         * <p>
+         * Every file is mapped on a virtual thread of its own, so this limit is not about threads but about the
+         * number of open files and read buffers.
+         *
+         * @param maxConcurrentFiles The maximum number of files mapped at the same time. Must be greater than zero.
+         * @return This builder.
+         */
+        public Builder maxConcurrentFiles(int maxConcurrentFiles) {
+            this.maxConcurrentFiles = maxConcurrentFiles;
+            return this;
+        }
+
+        /**
+         * Creates a new {@link SheetMapper} with the configured options.
+         *
+         * @return A new instance of {@link SheetMapper}.
+         * @throws SheetMappingException if the configuration is invalid.
+         */
+        public SheetMapper build() {
+            return new SheetMapper(this);
+        }
+    }
+}
@@ -6,7 +6,7 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 /**
- * Marks a field within a POJO to be mapped from a column in a sheet (e.g., a CSV file).
+ * Marks a field within a POJO, or a constructor parameter, to be mapped from a column in a sheet (e.g., a CSV file).
  * <p>
  * This annotation is essential for the mapping process. The {@link io.github.serkankarabulut.sheetmapper.SheetMapper}
  * scans for this annotation on the fields of the target class to determine which fields should be populated
@@ -27,12 +27,51 @@ import java.lang.annotation.Target;
  *     @Column
  *     private String userName;
  * }
+ *
+ * // Records are instantiated through their canonical constructor. Components without the annotation
+ * // receive the default value of their type.
+ * public record Product(@Column(name = "SKU") String sku, @Column double price) {
+ * }
+ * }</pre>
+ * <p>
+ * A class without a no-arg constructor may instead annotate the parameters of one of its constructors. Unless
+ * the class is compiled with {@code -parameters}, such parameters must specify the column name explicitly.
+ * <p>
+ * A column may also be bound to a cell position with {@link #index()}, which files without a header row require:
+ *
+ * <pre>{@code
+ * public class Trade {
+ *
+ *     // The first cell of every row.
+ *     @Column(index = 0)
+ *     private String symbol;
+ *
+ *     // The fourth cell of every row.
+ *     @Column(index = 3)
+ *     private double price;
+ * }
+ * }</pre>
+ * <p>
+ * In fixed-width files, which have no delimiters and no header row, every column is located by its
+ * {@link #start()} and {@link #length()} instead of its name:
+ *
+ * <pre>{@code
+ * public class Account {
+ *
+ *     // Characters 0 to 9 of every line.
+ *     @Column(start = 0, length = 10)
+ *     private String accountNumber;
+ *
+ *     // Characters 10 to 21 of every line.
+ *     @Column(start = 10, length = 12)
+ *     private long balance;
+ * }
  * }</pre>
  *
  * @author Serkan Karabulut
  */
 @Retention(RetentionPolicy.RUNTIME)
-@Target(ElementType.FIELD)
+@Target({ElementType.FIELD, ElementType.PARAMETER})
 public @interface Column {
 
     /**
@@ -44,4 +83,35 @@ public @interface Column {
      * @return The name of the column in the sheet. Defaults to an empty string.
      */
     String name() default "";
+
+    /**
+     * Specifies the position of this column in every row, starting from {@code 0}. A column with an index is bound to
+     * that cell directly, without looking up its name in the header row. Files without a header row, as configured
+     * with {@link io.github.serkankarabulut.sheetmapper.SheetMapper.Builder#header(boolean)}, require an index for
+     * every column.
+     *
+     * @return The position of the column in a row. Defaults to {@code -1}, which means that the column is bound by
+     *         its name.
+     */
+    int index() default -1;
+
+    /**
+     * Specifies the position of the first character of this column in every line of a fixed-width file, starting
+     * from {@code 0}. Only used when fixed-width mapping is enabled with
+     * {@link io.github.serkankarabulut.sheetmapper.SheetMapper.Builder#fixedWidth(boolean)}, which requires a start
+     * and a {@link #length()} for every column.
+     *
+     * @return The position of the column in a line. Defaults to {@code -1}, which means that the column has no
+     *         fixed-width position.
+     */
+    int start() default -1;
+
+    /**
+     * Specifies the number of characters of this column in every line of a fixed-width file. Must be set together
+     * with {@link #start()}.
+     *
+     * @return The width of the column. Defaults to {@code -1}, which means that the column has no fixed-width
+     *         position.
+     */
+    int length() default -1;
 }
\ No newline at end of file
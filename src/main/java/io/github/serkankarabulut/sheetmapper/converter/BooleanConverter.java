@@ -0,0 +1,35 @@
+package io.github.serkankarabulut.sheetmapper.converter;
+
+/**
+ * A {@link CharSequenceConverter} specialized for {@code boolean} values, which parses a cell without boxing the result.
+ * <p>
+ * When the converter registered for a {@code boolean} field implements this interface, the mapping engine calls
+ * {@link #convertBoolean(CharSequence)} and stores the result directly into the field. Wherever a boxed
+ * {@link Boolean} is needed, the converter can still be used as a plain {@link CharSequenceConverter}.
+ *
+ * <pre>{@code
+ * // Example implementation of a converter for "Y" and "N" flags
+ * registry.register(boolean.class, (BooleanConverter) value -> value.length() == 1 && value.charAt(0) == 'Y');
+ * }</pre>
+ *
+ * @author Serkan Karabulut
+ */
+@FunctionalInterface
+public interface BooleanConverter extends CharSequenceConverter<Boolean> {
+
+    /**
+     * Converts the given cell value into a {@code boolean}.
+     *
+     * @param value A view of the cell to be converted. This value is never null or blank, and must not be
+     *              retained after the method returns.
+     * @return The converted value.
+     * @throws Exception if any error occurs during the conversion process. The exception will be wrapped in a
+     *                   {@link io.github.serkankarabulut.sheetmapper.exception.SheetMappingException}.
+     */
+    boolean convertBoolean(CharSequence value) throws Exception;
+
+    @Override
+    default Boolean convertChars(CharSequence value) throws Exception {
+        return convertBoolean(value);
+    }
+}
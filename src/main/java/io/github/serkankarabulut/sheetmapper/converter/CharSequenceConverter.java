@@ -0,0 +1,40 @@
+package io.github.serkankarabulut.sheetmapper.converter;
+
+/**
+ * A {@link TypeConverter} that reads a cell through a {@link CharSequence} view instead of a {@link String}.
+ * <p>
+ * Parsers may expose a cell as a view over their own read buffer rather than copying it into a new
+ * {@link String}. A converter implementing this interface is handed such a view as is, so that numbers, flags and
+ * other short values can be parsed without allocating. Plain {@link TypeConverter}s receive
+ * {@code value.toString()} instead.
+ * <p>
+ * The view is only valid for the duration of the call: its contents change once the parser moves on to the next
+ * cell. Implementations that need to keep the value must copy it, e.g. with {@link CharSequence#toString()}.
+ *
+ * <pre>{@code
+ * // Example implementation that maps "Y" and "N" to an enum without creating a String
+ * CharSequenceConverter<Answer> answerConverter = value -> value.charAt(0) == 'Y' ? Answer.YES : Answer.NO;
+ * }</pre>
+ *
+ * @param <T> The target type to which the value will be converted.
+ * @author Serkan Karabulut
+ */
+@FunctionalInterface
+public interface CharSequenceConverter<T> extends TypeConverter<T> {
+
+    /**
+     * Converts the given cell value into an object of type {@code T}.
+     *
+     * @param value A view of the cell to be converted. This value is never null or blank, and must not be
+     *              retained after the method returns.
+     * @return The converted object of type {@code T}.
+     * @throws Exception if any error occurs during the conversion process. The exception will be wrapped in a
+     *                   {@link io.github.serkankarabulut.sheetmapper.exception.SheetMappingException}.
+     */
+    T convertChars(CharSequence value) throws Exception;
+
+    @Override
+    default T convert(String value) throws Exception {
+        return convertChars(value);
+    }
+}
@@ -13,6 +13,11 @@ import java.util.Map;
  * This registry is responsible for holding all available type converters and dispatching
  * conversion tasks to the appropriate one based on the target class. It comes pre-configured
  * with default converters for common Java types but can be extended with custom converters.
+ * <p>
+ * The default converters for primitive types and their wrappers implement the primitive-specialized interfaces
+ * ({@link IntConverter}, {@link LongConverter}, {@link DoubleConverter}, {@link FloatConverter} and
+ * {@link BooleanConverter}), so that primitive fields are populated without boxing. Custom converters registered
+ * for primitive types may implement them as well.
  *
  * @author Serkan Karabulut
  */
@@ -37,24 +42,42 @@ public class ConverterRegistry {
         register(String.class, value -> value);
 
         // Integer and int
-        register(Integer.class, Integer::parseInt);
-        register(int.class, Integer::parseInt);
+        IntConverter intConverter = value -> Integer.parseInt(value, 0, value.length(), 10);
+        register(Integer.class, intConverter);
+        register(int.class, intConverter);
 
         // Long and long
-        register(Long.class, Long::parseLong);
-        register(long.class, Long::parseLong);
+        LongConverter longConverter = value -> Long.parseLong(value, 0, value.length(), 10);
+        register(Long.class, longConverter);
+        register(long.class, longConverter);
 
         // Double and double
-        register(Double.class, Double::parseDouble);
-        register(double.class, Double::parseDouble);
+        DoubleConverter doubleConverter = value -> Double.parseDouble(value.toString());
+        register(Double.class, doubleConverter);
+        register(double.class, doubleConverter);
 
         // Float and float
-        register(Float.class, Float::parseFloat);
-        register(float.class, Float::parseFloat);
+        FloatConverter floatConverter = value -> Float.parseFloat(value.toString());
+        register(Float.class, floatConverter);
+        register(float.class, floatConverter);
 
         // Boolean and boolean
-        register(Boolean.class, Boolean::parseBoolean);
-        register(boolean.class, Boolean::parseBoolean);
+        BooleanConverter booleanConverter = ConverterRegistry::parseBoolean;
+        register(Boolean.class, booleanConverter);
+        register(boolean.class, booleanConverter);
+    }
+
+    /**
+     * Parses a boolean the same way as {@link Boolean#parseBoolean(String)}, without requiring a {@link String}.
+     */
+    private static boolean parseBoolean(CharSequence value) {
+        if (value.length() != 4) {
+            return false;
+        }
+        return Character.toLowerCase(value.charAt(0)) == 't'
+                && Character.toLowerCase(value.charAt(1)) == 'r'
+                && Character.toLowerCase(value.charAt(2)) == 'u'
+                && Character.toLowerCase(value.charAt(3)) == 'e';
     }
 
     /**
@@ -84,7 +107,7 @@ public class ConverterRegistry {
     /**
      * Converts a string value to an instance of the specified target type using a registered converter.
      *
-     * @param csvValue   The raw string value from the sheet cell. If this value is {@code null} or blank,
+     * @param csvValue   The raw value from the sheet cell. If this value is {@code null} or blank,
      *                   the method will return {@code null}.
      * @param targetType The target {@link Class} to convert the string into.
      * @return The converted object, or {@code null} if the input string was null or blank.
@@ -92,22 +115,94 @@ public class ConverterRegistry {
      *                               or if the selected converter fails to process the value.
      */
     public Object convert(String csvValue, Class<?> targetType) {
-        if (csvValue == null || csvValue.trim().isEmpty()) {
+        return convert((CharSequence) csvValue, targetType);
+    }
+
+    /**
+     * Converts a character sequence, such as a view over the parser's buffer, to an instance of the specified target
+     * type using a registered converter.
+     *
+     * @param csvValue   The raw value from the sheet cell. If this value is {@code null} or blank,
+     *                   the method will return {@code null}.
+     * @param targetType The target {@link Class} to convert the value into.
+     * @return The converted object, or {@code null} if the input value was null or blank.
+     * @throws SheetMappingException if no suitable {@link TypeConverter} is found for the target type,
+     *                               or if the selected converter fails to process the value.
+     */
+    public Object convert(CharSequence csvValue, Class<?> targetType) {
+        if (isBlank(csvValue)) {
             return null;
         }
+        return convert(csvValue, targetType, getConverter(targetType));
+    }
 
-        TypeConverter<?> converter = typeConverters.get(targetType);
-
-        if (converter == null) {
-            logger.error("Unsupported type conversion for: {}", targetType.getSimpleName());
-            throw new SheetMappingException("Unsupported type conversion for: " + targetType.getSimpleName());
+    /**
+     * Converts a value using a converter previously obtained from {@link #getConverter(Class)}.
+     * <p>
+     * This variant skips the registry lookup and is intended for callers that resolve the converter of a
+     * column once and then apply it to many cells. A {@link CharSequenceConverter} is handed the value as is;
+     * any other converter receives {@code csvValue.toString()}, which is free if the value already is a
+     * {@link String}.
+     *
+     * @param csvValue   The raw value from the sheet cell, possibly a view over the parser's buffer. If this value
+     *                   is {@code null} or blank, the method will return {@code null}.
+     * @param targetType The target {@link Class}, used for error reporting.
+     * @param converter  The converter to apply.
+     * @return The converted object, or {@code null} if the input string was null or blank.
+     * @throws SheetMappingException if the converter fails to process the value.
+     */
+    public Object convert(CharSequence csvValue, Class<?> targetType, TypeConverter<?> converter) {
+        if (isBlank(csvValue)) {
+            return null;
         }
 
         try {
-            return converter.convert(csvValue);
+            if (converter instanceof CharSequenceConverter<?> charSequenceConverter) {
+                return charSequenceConverter.convertChars(csvValue);
+            }
+            return converter.convert(csvValue.toString());
         } catch (Exception e) {
             logger.error("Error converting value '{}' to type {}: {}", csvValue, targetType.getSimpleName(), e.getMessage(), e);
             throw new SheetMappingException("Error converting value '" + csvValue + "' to type " + targetType.getSimpleName(), e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Checks whether a raw cell value is considered empty. Blank values are never passed to a {@link TypeConverter};
+     * they are mapped to {@code null} instead.
+     * <p>
+     * A value is blank if it consists only of characters that {@link String#trim()} would remove. The check scans
+     * the value in place and never allocates.
+     *
+     * @param csvValue The raw value from the sheet cell.
+     * @return {@code true} if the value is {@code null}, empty or consists only of whitespace.
+     */
+    public static boolean isBlank(CharSequence csvValue) {
+        if (csvValue == null) {
+            return true;
+        }
+        for (int i = 0, length = csvValue.length(); i < length; i++) {
+            if (csvValue.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the converter registered for the specified target type.
+     *
+     * @param targetType The target {@link Class} to look up.
+     * @return The registered converter, never {@code null}.
+     * @throws SheetMappingException if no suitable {@link TypeConverter} is found for the target type.
+     */
+    public TypeConverter<?> getConverter(Class<?> targetType) {
+        TypeConverter<?> converter = typeConverters.get(targetType);
+
+        if (converter == null) {
+            logger.error("Unsupported type conversion for: {}", targetType.getSimpleName());
+            throw new SheetMappingException("Unsupported type conversion for: " + targetType.getSimpleName());
+        }
+        return converter;
+    }
+}
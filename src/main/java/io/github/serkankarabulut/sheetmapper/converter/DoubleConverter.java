@@ -0,0 +1,35 @@
+package io.github.serkankarabulut.sheetmapper.converter;
+
+/**
+ * A {@link CharSequenceConverter} specialized for {@code double} values, which parses a cell without boxing the result.
+ * <p>
+ * When the converter registered for a {@code double} field implements this interface, the mapping engine calls
+ * {@link #convertDouble(CharSequence)} and stores the result directly into the field. Wherever a boxed
+ * {@link Double} is needed, the converter can still be used as a plain {@link CharSequenceConverter}.
+ *
+ * <pre>{@code
+ * // Example implementation of a converter for percentages such as "12.5%"
+ * registry.register(double.class, (DoubleConverter) value -> Double.parseDouble(value.toString().replace("%", "")) / 100);
+ * }</pre>
+ *
+ * @author Serkan Karabulut
+ */
+@FunctionalInterface
+public interface DoubleConverter extends CharSequenceConverter<Double> {
+
+    /**
+     * Converts the given cell value into a {@code double}.
+     *
+     * @param value A view of the cell to be converted. This value is never null or blank, and must not be
+     *              retained after the method returns.
+     * @return The converted value.
+     * @throws Exception if any error occurs during the conversion process. The exception will be wrapped in a
+     *                   {@link io.github.serkankarabulut.sheetmapper.exception.SheetMappingException}.
+     */
+    double convertDouble(CharSequence value) throws Exception;
+
+    @Override
+    default Double convertChars(CharSequence value) throws Exception {
+        return convertDouble(value);
+    }
+}
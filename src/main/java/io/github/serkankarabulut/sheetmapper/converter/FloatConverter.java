@@ -0,0 +1,35 @@
+package io.github.serkankarabulut.sheetmapper.converter;
+
+/**
+ * A {@link CharSequenceConverter} specialized for {@code float} values, which parses a cell without boxing the result.
+ * <p>
+ * When the converter registered for a {@code float} field implements this interface, the mapping engine calls
+ * {@link #convertFloat(CharSequence)} and stores the result directly into the field. Wherever a boxed
+ * {@link Float} is needed, the converter can still be used as a plain {@link CharSequenceConverter}.
+ *
+ * <pre>{@code
+ * // Example implementation of a converter for decimal values with a comma separator
+ * registry.register(float.class, (FloatConverter) value -> Float.parseFloat(value.toString().replace(',', '.')));
+ * }</pre>
+ *
+ * @author Serkan Karabulut
+ */
+@FunctionalInterface
+public interface FloatConverter extends CharSequenceConverter<Float> {
+
+    /**
+     * Converts the given cell value into a {@code float}.
+     *
+     * @param value A view of the cell to be converted. This value is never null or blank, and must not be
+     *              retained after the method returns.
+     * @return The converted value.
+     * @throws Exception if any error occurs during the conversion process. The exception will be wrapped in a
+     *                   {@link io.github.serkankarabulut.sheetmapper.exception.SheetMappingException}.
+     */
+    float convertFloat(CharSequence value) throws Exception;
+
+    @Override
+    default Float convertChars(CharSequence value) throws Exception {
+        return convertFloat(value);
+    }
+}
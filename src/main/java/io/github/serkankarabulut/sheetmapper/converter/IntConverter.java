@@ -0,0 +1,35 @@
+package io.github.serkankarabulut.sheetmapper.converter;
+
+/**
+ * A {@link CharSequenceConverter} specialized for {@code int} values, which parses a cell without boxing the result.
+ * <p>
+ * When the converter registered for an {@code int} field implements this interface, the mapping engine calls
+ * {@link #convertInt(CharSequence)} and stores the result directly into the field. Wherever a boxed
+ * {@link Integer} is needed, the converter can still be used as a plain {@link CharSequenceConverter}.
+ *
+ * <pre>{@code
+ * // Example implementation of a converter for hexadecimal int values
+ * registry.register(int.class, (IntConverter) value -> Integer.parseInt(value, 0, value.length(), 16));
+ * }</pre>
+ *
+ * @author Serkan Karabulut
+ */
+@FunctionalInterface
+public interface IntConverter extends CharSequenceConverter<Integer> {
+
+    /**
+     * Converts the given cell value into an {@code int}.
+     *
+     * @param value A view of the cell to be converted. This value is never null or blank, and must not be
+     *              retained after the method returns.
+     * @return The converted value.
+     * @throws Exception if any error occurs during the conversion process. The exception will be wrapped in a
+     *                   {@link io.github.serkankarabulut.sheetmapper.exception.SheetMappingException}.
+     */
+    int convertInt(CharSequence value) throws Exception;
+
+    @Override
+    default Integer convertChars(CharSequence value) throws Exception {
+        return convertInt(value);
+    }
+}
@@ -0,0 +1,35 @@
+package io.github.serkankarabulut.sheetmapper.converter;
+
+/**
+ * A {@link CharSequenceConverter} specialized for {@code long} values, which parses a cell without boxing the result.
+ * <p>
+ * When the converter registered for a {@code long} field implements this interface, the mapping engine calls
+ * {@link #convertLong(CharSequence)} and stores the result directly into the field. Wherever a boxed
+ * {@link Long} is needed, the converter can still be used as a plain {@link CharSequenceConverter}.
+ *
+ * <pre>{@code
+ * // Example implementation of a converter for hexadecimal long values
+ * registry.register(long.class, (LongConverter) value -> Long.parseLong(value, 0, value.length(), 16));
+ * }</pre>
+ *
+ * @author Serkan Karabulut
+ */
+@FunctionalInterface
+public interface LongConverter extends CharSequenceConverter<Long> {
+
+    /**
+     * Converts the given cell value into a {@code long}.
+     *
+     * @param value A view of the cell to be converted. This value is never null or blank, and must not be
+     *              retained after the method returns.
+     * @return The converted value.
+     * @throws Exception if any error occurs during the conversion process. The exception will be wrapped in a
+     *                   {@link io.github.serkankarabulut.sheetmapper.exception.SheetMappingException}.
+     */
+    long convertLong(CharSequence value) throws Exception;
+
+    @Override
+    default Long convertChars(CharSequence value) throws Exception {
+        return convertLong(value);
+    }
+}
@@ -0,0 +1,61 @@
+package io.github.serkankarabulut.sheetmapper.generated;
+
+/**
+ * A mapper generated at compile time by the {@code sheetmapper-processor} annotation processor.
+ * <p>
+ * For every class with fields annotated with {@link io.github.serkankarabulut.sheetmapper.annotation.Column},
+ * the processor generates a class named after the target class with a {@code $SheetMapper} suffix
+ * (e.g. {@code com.example.User$SheetMapper}) implementing this interface. When such a class is present,
+ * {@link io.github.serkankarabulut.sheetmapper.SheetMapper} uses it to instantiate and populate the target class
+ * instead of scanning it with reflection.
+ * <p>
+ * Implementations are not meant to be written by hand.
+ *
+ * @param <T> The type of the target class.
+ * @author Serkan Karabulut
+ */
+public interface GeneratedMapper<T> {
+
+    /**
+     * The suffix appended to the binary name of the target class to form the name of its generated mapper.
+     */
+    String CLASS_NAME_SUFFIX = "$SheetMapper";
+
+    /**
+     * @return The target class of this mapper.
+     */
+    Class<T> type();
+
+    /**
+     * @return The names of the mapped columns, in field declaration order.
+     */
+    String[] columnNames();
+
+    /**
+     * @return The names of the fields the columns are written to, in the same order as {@link #columnNames()}.
+     */
+    String[] fieldNames();
+
+    /**
+     * @return The declared types of the fields the columns are written to, in the same order as {@link #columnNames()}.
+     */
+    Class<?>[] columnTypes();
+
+    /**
+     * Creates a new, empty instance of the target class.
+     *
+     * @return A new instance.
+     */
+    T newInstance();
+
+    /**
+     * Writes a converted value into the field of one column.
+     *
+     * @param target The object whose field is written.
+     * @param column The position of the column in {@link #columnNames()}.
+     * @param value  The converted value. Never {@code null} for primitive fields.
+     * @throws ClassCastException        if the value is not compatible with the type of the field.
+     * @throws IndexOutOfBoundsException if the column position is out of range.
+     */
+    void set(T target, int column, Object value);
+}
@@ -0,0 +1,22 @@
+package io.github.serkankarabulut.sheetmapper.internal;
+
+import java.io.IOException;
+
+/**
+ * A {@link CsvTokenizer} over bytes that knows the byte offset of the records it reads, so that a file can be read
+ * in independent byte ranges.
+ *
+ * @author Serkan Karabulut
+ */
+interface ByteRangeTokenizer extends CsvTokenizer {
+
+    /**
+     * Returns the offset at which the next record starts. A line feed that completes the {@code \r\n} of the
+     * previous record is skipped first, so the offset is always the first byte of the next record, or the end of
+     * the input.
+     *
+     * @return The offset of the next record in the underlying file or stream.
+     * @throws IOException if the input cannot be read.
+     */
+    long offset() throws IOException;
+}
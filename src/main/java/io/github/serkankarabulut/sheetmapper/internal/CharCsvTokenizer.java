@@ -0,0 +1,414 @@
+package io.github.serkankarabulut.sheetmapper.internal;
+
+import io.github.serkankarabulut.sheetmapper.parser.SheetFormat;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A {@link CsvTokenizer} that reads decoded characters from a {@link Reader} into a single reusable buffer.
+ * <p>
+ * A record is first located as a whole: the buffer is scanned for a line break outside of quotes, reading more
+ * input, compacting and growing the buffer as needed. The record is then split into cells, whose boundaries are
+ * recorded in two {@code int} arrays. Cells are exposed as views over the buffer, so reading a record allocates
+ * nothing. Only cells whose content is not a contiguous run of the buffer (because they contain doubled quotes or
+ * are only partly quoted) are rewritten, in place, to remove the quoting.
+ * <p>
+ * Before a record is read, the buffer ahead of it is scanned for the next quote. Records that end before that quote
+ * are split on delimiters in a single pass, without tracking quotes or scanning for the end of the record first.
+ * The first record that reaches the quote is read the regular way, and so are the records after it until the next
+ * scan. Formats without a quote character skip the scan: all of their records are split in that single pass.
+ *
+ * @author Serkan Karabulut
+ */
+final class CharCsvTokenizer implements CsvTokenizer {
+    private final char delimiter;
+    private final boolean quoting;
+    private final int quote;
+    private final int escape;
+    private final char carriageReturn;
+    private final char structuralMax;
+
+    private final Reader reader;
+    private char[] buffer;
+    private int position;
+    private int limit;
+    private boolean endOfInput;
+    private boolean skipLineFeed;
+
+    private int[] cellStarts = new int[16];
+    private int[] cellEnds = new int[16];
+    private int cellCount;
+    private int cellLimit = Integer.MAX_VALUE;
+    private int quoteFreeEnd;
+    private int nextQuoteScan;
+    private final CellView view = new CellView();
+
+    CharCsvTokenizer(Reader reader) {
+        this(reader, DEFAULT_BUFFER_SIZE);
+    }
+
+    CharCsvTokenizer(Reader reader, int bufferSize) {
+        this(reader, bufferSize, SheetFormat.CSV);
+    }
+
+    CharCsvTokenizer(Reader reader, int bufferSize, SheetFormat format) {
+        this.reader = reader;
+        this.buffer = new char[bufferSize];
+        this.delimiter = format.delimiter();
+        this.quoting = format.hasQuote();
+        this.quote = CsvTokenizer.quoteOf(format);
+        this.escape = CsvTokenizer.escapeOf(format);
+        this.carriageReturn = CsvTokenizer.carriageReturnOf(format);
+        this.structuralMax = (char) Math.max(delimiter, carriageReturn);
+    }
+
+    @Override
+    public boolean nextRecord() throws IOException {
+        cellCount = 0;
+        if (skipLineFeed) {
+            skipLineFeed = false;
+            if (position == limit && !fill()) {
+                return false;
+            }
+            if (buffer[position] == '\n') {
+                position++;
+            }
+        }
+        if (position == limit && !fill()) {
+            return false;
+        }
+        if (!quoting) {
+            nextUnquotedRecord();
+            return true;
+        }
+        if (position >= quoteFreeEnd && position >= nextQuoteScan) {
+            scanForQuote();
+        }
+        if (position < quoteFreeEnd && splitQuoteFree()) {
+            return true;
+        }
+        int end = findRecordEnd();
+        split(position, end);
+        if (end < limit) {
+            skipLineFeed = buffer[end] == '\r';
+            position = end + 1;
+        } else {
+            position = end;
+        }
+        return true;
+    }
+
+    /**
+     * Reads the record starting at {@link #position} of a format without quotes. The record is split up to the end
+     * of the buffer, and split again after more input has been read if it does not end there.
+     */
+    private void nextUnquotedRecord() throws IOException {
+        while (true) {
+            quoteFreeEnd = limit;
+            if (splitQuoteFree()) {
+                return;
+            }
+            if (!fill()) {
+                split(position, limit);
+                position = limit;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Scans up to {@link #QUOTE_SCAN_SIZE} characters ahead of {@link #position} for a quote. If one is found, the next
+     * scan is postponed until after the characters that were scanned past it, so that input with quotes on every line
+     * is not scanned twice.
+     */
+    private void scanForQuote() {
+        char[] chars = buffer;
+        int end = position + Math.min(limit - position, QUOTE_SCAN_SIZE);
+        int i = position;
+        while (i < end && chars[i] != quote) {
+            i++;
+        }
+        quoteFreeEnd = i;
+        nextQuoteScan = i < end ? i + QUOTE_SCAN_SIZE : i;
+    }
+
+    /**
+     * Splits the record starting at {@link #position} on delimiters alone, if it ends before {@link #quoteFreeEnd}.
+     * With a comma or a tab as the delimiter, letters, digits and most punctuation are greater than both the
+     * delimiter and the line breaks, so they cost a single comparison.
+     *
+     * @return {@code false} if the record does not end before the next quote; no cells are kept.
+     */
+    private boolean splitQuoteFree() {
+        char[] chars = buffer;
+        int end = quoteFreeEnd;
+        int cellStart = position;
+        for (int i = position; i < end; i++) {
+            char c = chars[i];
+            if (c <= structuralMax) {
+                if (c == delimiter) {
+                    if (cellCount < cellLimit) {
+                        addCell(cellStart, i);
+                    }
+                    cellStart = i + 1;
+                } else if (c == '\n' || c == carriageReturn) {
+                    if (cellCount < cellLimit) {
+                        addCell(cellStart, i);
+                    }
+                    skipLineFeed = c == '\r';
+                    position = i + 1;
+                    return true;
+                }
+            }
+        }
+        cellCount = 0;
+        return false;
+    }
+
+    /**
+     * Scans for the line break that ends the record starting at {@link #position}, reading more input as needed.
+     * Reading may move the record to the start of the buffer.
+     *
+     * @return The index of the line break, or {@link #limit} if the record ends with the input.
+     */
+    private int findRecordEnd() throws IOException {
+        int scan = position;
+        boolean quoted = false;
+        while (true) {
+            char[] chars = buffer;
+            int end = limit;
+            while (scan < end) {
+                char c = chars[scan];
+                if (c == quote) {
+                    quoted = !quoted;
+                } else if (quoted) {
+                    if (c == escape) {
+                        if (scan + 1 == end) {
+                            // The escaped character has not been read yet
+                            break;
+                        }
+                        char next = chars[scan + 1];
+                        if (next == quote || next == escape) {
+                            scan++;
+                        }
+                    }
+                } else if (c == '\n' || c == carriageReturn) {
+                    return scan;
+                }
+                scan++;
+            }
+            int previousPosition = position;
+            boolean filled = fill();
+            scan -= previousPosition - position;
+            if (!filled) {
+                if (quoted) {
+                    throw new IOException("Unterminated quoted field at end of input");
+                }
+                return limit;
+            }
+        }
+    }
+
+    /**
+     * Moves the unconsumed input to the start of the buffer, grows the buffer if it is full, and reads more input.
+     *
+     * @return {@code false} if the end of the input has been reached.
+     */
+    private boolean fill() throws IOException {
+        if (endOfInput) {
+            return false;
+        }
+        if (position > 0) {
+            System.arraycopy(buffer, position, buffer, 0, limit - position);
+            limit -= position;
+            position = 0;
+            quoteFreeEnd = nextQuoteScan = 0;
+        }
+        if (limit == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        int read;
+        do {
+            read = reader.read(buffer, limit, buffer.length - limit);
+        } while (read == 0);
+        if (read < 0) {
+            endOfInput = true;
+            return false;
+        }
+        limit += read;
+        return true;
+    }
+
+    /**
+     * Splits the record between {@code start} (inclusive) and {@code end} (exclusive) into cells.
+     */
+    private void split(int start, int end) {
+        char[] chars = buffer;
+        int i = start;
+        while (true) {
+            int cellStart = i;
+            while (i < end) {
+                char c = chars[i];
+                if (c == delimiter || c == quote) {
+                    break;
+                }
+                i++;
+            }
+            if (i < end && chars[i] == quote) {
+                i = splitQuoted(cellStart, i, end);
+            } else {
+                addCell(cellStart, i);
+            }
+            if (i >= end || cellCount == cellLimit) {
+                return;
+            }
+            i++;
+        }
+    }
+
+    /**
+     * Reads a cell that contains at least one quote. Only called for formats with a quote character. Spaces and
+     * tabs before the opening quote of a cell are dropped, as opencsv does.
+     *
+     * @param cellStart  The index of the first character of the cell.
+     * @param firstQuote The index of the first quote in the cell.
+     * @param end        The end of the record.
+     * @return The index of the delimiter that ends the cell, or {@code end}.
+     */
+    private int splitQuoted(int cellStart, int firstQuote, int end) {
+        char[] chars = buffer;
+        if (isLeadingWhitespace(chars, cellStart, firstQuote)) {
+            cellStart = firstQuote;
+        }
+        if (firstQuote == cellStart) {
+            // A fully quoted cell without doubled or escaped quotes is a contiguous run of the buffer
+            int close = firstQuote + 1;
+            while (close < end && chars[close] != quote && chars[close] != escape) {
+                close++;
+            }
+            if (close < end && chars[close] == quote && (close + 1 == end || chars[close + 1] == delimiter)) {
+                addCell(cellStart + 1, close);
+                return close + 1;
+            }
+        }
+
+        int write = firstQuote;
+        int i = firstQuote;
+        boolean quoted = false;
+        while (i < end) {
+            char c = chars[i];
+            if (c == quote) {
+                if (quoted && i + 1 < end && chars[i + 1] == quote) {
+                    chars[write++] = (char) quote;
+                    i += 2;
+                } else {
+                    quoted = !quoted;
+                    i++;
+                }
+            } else if (quoted && c == escape && i + 1 < end && (chars[i + 1] == quote || chars[i + 1] == escape)) {
+                chars[write++] = chars[i + 1];
+                i += 2;
+            } else if (c == delimiter && !quoted) {
+                break;
+            } else {
+                chars[write++] = c;
+                i++;
+            }
+        }
+        addCell(cellStart, write);
+        return i;
+    }
+
+    /**
+     * @return {@code true} if the characters between {@code from} (inclusive) and {@code to} (exclusive) are all spaces
+     * or tabs.
+     */
+    private static boolean isLeadingWhitespace(char[] chars, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (chars[i] != ' ' && chars[i] != '\t') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void addCell(int start, int end) {
+        if (cellCount == cellStarts.length) {
+            cellStarts = Arrays.copyOf(cellStarts, cellCount * 2);
+            cellEnds = Arrays.copyOf(cellEnds, cellCount * 2);
+        }
+        cellStarts[cellCount] = start;
+        cellEnds[cellCount] = end;
+        cellCount++;
+    }
+
+    @Override
+    public void limitCells(int cellLimit) {
+        this.cellLimit = cellLimit;
+    }
+
+    @Override
+    public int cellCount() {
+        return cellCount;
+    }
+
+    @Override
+    public CharSequence cell(int index) {
+        Objects.checkIndex(index, cellCount);
+        view.start = cellStarts[index];
+        view.end = cellEnds[index];
+        return view;
+    }
+
+    @Override
+    public String[] cellStrings() {
+        String[] cells = new String[cellCount];
+        for (int i = 0; i < cellCount; i++) {
+            cells[i] = new String(buffer, cellStarts[i], cellEnds[i] - cellStarts[i]);
+        }
+        return cells;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * A reusable view of one cell in the buffer.
+     */
+    private final class CellView implements CharSequence {
+        private int start;
+        private int end;
+
+        @Override
+        public int length() {
+            return end - start;
+        }
+
+        @Override
+        public char charAt(int index) {
+            Objects.checkIndex(index, end - start);
+            return buffer[start + index];
+        }
+
+        @Override
+        public CharSequence subSequence(int from, int to) {
+            Objects.checkFromToIndex(from, to, end - start);
+            return new String(buffer, start + from, to - from);
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return start == end;
+        }
+
+        @Override
+        public String toString() {
+            return new String(buffer, start, end - start);
+        }
+    }
+}
@@ -0,0 +1,361 @@
+package io.github.serkankarabulut.sheetmapper.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A minimal class file writer, just capable enough to emit the classes generated by {@link RowMapperGenerator}.
+ * <p>
+ * It supports a constant pool, instance fields and methods whose code may contain forward branches, a single
+ * exception handler and full stack map frames supplied by the caller. It performs no verification of its own;
+ * malformed code is rejected by the JVM when the class is defined.
+ *
+ * @author Serkan Karabulut
+ */
+final class ClassFileWriter {
+    static final int ACC_PUBLIC = 0x0001;
+    static final int ACC_PRIVATE = 0x0002;
+    static final int ACC_FINAL = 0x0010;
+    static final int ACC_SUPER = 0x0020;
+
+    static final int VERIFICATION_TOP = 0;
+    static final int VERIFICATION_INTEGER = 1;
+    static final int VERIFICATION_OBJECT = 7;
+
+    private static final int JAVA_21_MAJOR_VERSION = 65;
+
+    private final ByteArrayOutputStream constantPoolBytes = new ByteArrayOutputStream();
+    private final DataOutputStream constantPool = new DataOutputStream(constantPoolBytes);
+    private final Map<String, Integer> constantIndexes = new HashMap<>();
+    private int constantCount = 1;
+
+    private final int thisClass;
+    private final int superClass;
+    private final int[] interfaces;
+    private final List<byte[]> fields = new ArrayList<>();
+    private final List<byte[]> methods = new ArrayList<>();
+
+    /**
+     * @param className      The internal name of the class to write (e.g. {@code com/example/Foo$$Mapper}).
+     * @param superName      The internal name of the super class.
+     * @param interfaceNames The internal names of the implemented interfaces.
+     */
+    ClassFileWriter(String className, String superName, String... interfaceNames) {
+        this.thisClass = classConstant(className);
+        this.superClass = classConstant(superName);
+        this.interfaces = new int[interfaceNames.length];
+        for (int i = 0; i < interfaceNames.length; i++) {
+            interfaces[i] = classConstant(interfaceNames[i]);
+        }
+    }
+
+    /**
+     * @return The constant pool index of the class being written.
+     */
+    int thisClass() {
+        return thisClass;
+    }
+
+    int utf8Constant(String value) {
+        return constant("Utf8:" + value, out -> {
+            out.writeByte(1);
+            out.writeUTF(value);
+        });
+    }
+
+    int integerConstant(int value) {
+        return constant("Integer:" + value, out -> {
+            out.writeByte(3);
+            out.writeInt(value);
+        });
+    }
+
+    int classConstant(String internalName) {
+        int nameIndex = utf8Constant(internalName);
+        return constant("Class:" + internalName, out -> {
+            out.writeByte(7);
+            out.writeShort(nameIndex);
+        });
+    }
+
+    int fieldConstant(String owner, String name, String descriptor) {
+        return memberConstant(9, owner, name, descriptor);
+    }
+
+    int methodConstant(String owner, String name, String descriptor) {
+        return memberConstant(10, owner, name, descriptor);
+    }
+
+    int interfaceMethodConstant(String owner, String name, String descriptor) {
+        return memberConstant(11, owner, name, descriptor);
+    }
+
+    private int memberConstant(int tag, String owner, String name, String descriptor) {
+        int classIndex = classConstant(owner);
+        int nameIndex = utf8Constant(name);
+        int descriptorIndex = utf8Constant(descriptor);
+        int nameAndTypeIndex = constant("NameAndType:" + name + ":" + descriptor, out -> {
+            out.writeByte(12);
+            out.writeShort(nameIndex);
+            out.writeShort(descriptorIndex);
+        });
+        return constant(tag + ":" + owner + "." + name + ":" + descriptor, out -> {
+            out.writeByte(tag);
+            out.writeShort(classIndex);
+            out.writeShort(nameAndTypeIndex);
+        });
+    }
+
+    private int constant(String key, ConstantWriter writer) {
+        Integer existing = constantIndexes.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        try {
+            writer.write(constantPool);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        int index = constantCount++;
+        constantIndexes.put(key, index);
+        return index;
+    }
+
+    void addField(int access, String name, String descriptor) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeShort(access);
+            out.writeShort(utf8Constant(name));
+            out.writeShort(utf8Constant(descriptor));
+            out.writeShort(0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        fields.add(bytes.toByteArray());
+    }
+
+    void addMethod(int access, String name, String descriptor, Code code) {
+        int codeAttribute = utf8Constant("Code");
+        int stackMapAttribute = code.frames.size() > 0 ? utf8Constant("StackMapTable") : 0;
+        byte[] stackMap = code.frames.size() > 0 ? code.stackMapTable() : null;
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeShort(access);
+            out.writeShort(utf8Constant(name));
+            out.writeShort(utf8Constant(descriptor));
+            out.writeShort(1);
+
+            byte[] instructions = code.bytes.toByteArray();
+            int exceptionTableLength = code.handlerPc >= 0 ? 1 : 0;
+            int attributeLength = 2 + 2 + 4 + instructions.length + 2 + exceptionTableLength * 8 + 2
+                    + (stackMap != null ? 6 + stackMap.length : 0);
+            out.writeShort(codeAttribute);
+            out.writeInt(attributeLength);
+            out.writeShort(code.maxStack);
+            out.writeShort(code.maxLocals);
+            out.writeInt(instructions.length);
+            out.write(instructions);
+            out.writeShort(exceptionTableLength);
+            if (exceptionTableLength > 0) {
+                out.writeShort(code.tryStart);
+                out.writeShort(code.tryEnd);
+                out.writeShort(code.handlerPc);
+                out.writeShort(0);
+            }
+            if (stackMap != null) {
+                out.writeShort(1);
+                out.writeShort(stackMapAttribute);
+                out.writeInt(stackMap.length);
+                out.write(stackMap);
+            } else {
+                out.writeShort(0);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        methods.add(bytes.toByteArray());
+    }
+
+    /**
+     * @return The complete class file.
+     */
+    byte[] toByteArray() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0);
+            out.writeShort(JAVA_21_MAJOR_VERSION);
+            out.writeShort(constantCount);
+            constantPool.flush();
+            out.write(constantPoolBytes.toByteArray());
+            out.writeShort(ACC_PUBLIC | ACC_FINAL | ACC_SUPER);
+            out.writeShort(thisClass);
+            out.writeShort(superClass);
+            out.writeShort(interfaces.length);
+            for (int index : interfaces) {
+                out.writeShort(index);
+            }
+            out.writeShort(fields.size());
+            for (byte[] field : fields) {
+                out.write(field);
+            }
+            out.writeShort(methods.size());
+            for (byte[] method : methods) {
+                out.write(method);
+            }
+            out.writeShort(0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @FunctionalInterface
+    private interface ConstantWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    /**
+     * The bytecode of one method, together with its exception handler and stack map frames.
+     */
+    static final class Code {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final List<int[]> frames = new ArrayList<>();
+        private final int maxStack;
+        private final int maxLocals;
+        private int tryStart = -1;
+        private int tryEnd = -1;
+        private int handlerPc = -1;
+
+        Code(int maxStack, int maxLocals) {
+            this.maxStack = maxStack;
+            this.maxLocals = maxLocals;
+        }
+
+        int position() {
+            return bytes.size();
+        }
+
+        Code op(int opcode) {
+            bytes.write(opcode);
+            return this;
+        }
+
+        Code op(int opcode, int u2) {
+            bytes.write(opcode);
+            return u2(u2);
+        }
+
+        Code u1(int value) {
+            bytes.write(value);
+            return this;
+        }
+
+        Code u2(int value) {
+            bytes.write(value >>> 8);
+            bytes.write(value);
+            return this;
+        }
+
+        /**
+         * Emits a branch instruction with a placeholder offset.
+         *
+         * @param opcode The branch opcode.
+         * @return The position of the instruction, to be passed to {@link #patchBranch(int)}.
+         */
+        int branch(int opcode) {
+            int position = position();
+            bytes.write(opcode);
+            u2(0);
+            return position;
+        }
+
+        /**
+         * Points a branch emitted by {@link #branch(int)} at the current position.
+         *
+         * @param branchPosition The position of the branch instruction.
+         */
+        void patchBranch(int branchPosition) {
+            byte[] current = bytes.toByteArray();
+            int offset = position() - branchPosition;
+            current[branchPosition + 1] = (byte) (offset >>> 8);
+            current[branchPosition + 2] = (byte) offset;
+            bytes.reset();
+            bytes.write(current, 0, current.length);
+        }
+
+        /**
+         * Declares a handler for any throwable raised between {@code start} (inclusive) and {@code end} (exclusive)
+         * at the current position.
+         */
+        void handler(int start, int end) {
+            this.tryStart = start;
+            this.tryEnd = end;
+            this.handlerPc = position();
+        }
+
+        /**
+         * Records a full stack map frame at the current position. Frames must be recorded in increasing order of
+         * position; recording a second frame at the same position is ignored.
+         *
+         * @param locals The verification types of the locals, as (tag, constant index) pairs for object types and
+         *               single tags otherwise.
+         * @param stack  The verification types of the operand stack, in the same encoding.
+         */
+        void frame(int[] locals, int[] stack) {
+            int position = position();
+            if (!frames.isEmpty() && frames.getLast()[0] == position) {
+                return;
+            }
+            int[] frame = new int[3 + locals.length + stack.length];
+            frame[0] = position;
+            frame[1] = locals.length;
+            frame[2] = stack.length;
+            System.arraycopy(locals, 0, frame, 3, locals.length);
+            System.arraycopy(stack, 0, frame, 3 + locals.length, stack.length);
+            frames.add(frame);
+        }
+
+        private byte[] stackMapTable() {
+            ByteArrayOutputStream table = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(table)) {
+                out.writeShort(frames.size());
+                int previous = -1;
+                for (int[] frame : frames) {
+                    out.writeByte(255);
+                    out.writeShort(frame[0] - previous - 1);
+                    previous = frame[0];
+                    writeVerificationTypes(out, frame, 3, frame[1]);
+                    writeVerificationTypes(out, frame, 3 + frame[1], frame[2]);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return table.toByteArray();
+        }
+
+        private static void writeVerificationTypes(DataOutputStream out, int[] frame, int offset, int length) throws IOException {
+            int count = 0;
+            for (int i = offset; i < offset + length; i++) {
+                count++;
+                if (frame[i] == VERIFICATION_OBJECT) {
+                    i++;
+                }
+            }
+            out.writeShort(count);
+            for (int i = offset; i < offset + length; i++) {
+                out.writeByte(frame[i]);
+                if (frame[i] == VERIFICATION_OBJECT) {
+                    out.writeShort(frame[++i]);
+                }
+            }
+        }
+    }
+}
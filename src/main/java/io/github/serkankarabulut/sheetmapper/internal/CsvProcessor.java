@@ -1,22 +1,45 @@
 package io.github.serkankarabulut.sheetmapper.internal;
 
-import com.opencsv.CSVReader;
-import com.opencsv.exceptions.CsvValidationException;
+import io.github.serkankarabulut.sheetmapper.parser.SheetFormat;
+import io.github.serkankarabulut.sheetmapper.parser.SheetReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.Reader;
+import java.lang.reflect.Constructor;
+import java.nio.channels.FileChannel;
+import java.util.function.Function;
 
 /**
- * A wrapper class for {@link CSVReader} to handle the process of reading a CSV file.
+ * Reads the records of a CSV file, or of any other delimited file described by a {@link SheetFormat}, through a
+ * {@link CsvTokenizer}, either from decoded characters or from the raw bytes of UTF-8 input.
  * <p>
  * This class is intended for internal use within the SheetMapper library only. It abstracts the
  * underlying CSV parsing logic and implements {@link AutoCloseable} to be used safely within
  * a try-with-resources statement, ensuring that the reader is always closed.
+ * <p>
+ * Records can be read either as string arrays with {@link #readNext()}, or in place with {@link #nextRecord()},
+ * after which the processor itself exposes the cells of the current record as views over its read buffer. It is the
+ * {@link SheetReader} of the built-in CSV parsers.
+ * <p>
+ * The byte tokenizers find the end of records with a {@link RecordScanner} chosen once, when this class is
+ * initialized: the Vector API backend if the {@code jdk.incubator.vector} module is present (it is only resolved
+ * when the JVM is started with {@code --add-modules jdk.incubator.vector}), and the portable SWAR backend otherwise.
+ * The Vector API backend is the only class compiled against the incubator module, and is loaded by name.
+ * Formats with an escape character always use the SWAR backend.
  *
  * @author Serkan Karabulut
  */
-public class CsvProcessor implements AutoCloseable {
-    private final CSVReader csvReader;
+public class CsvProcessor implements SheetRecord, SheetReader {
+    private static final Logger logger = LoggerFactory.getLogger(CsvProcessor.class);
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final String VECTOR_SCANNER = "io.github.serkankarabulut.sheetmapper.internal.VectorRecordScanner";
+    private static final Function<SheetFormat, RecordScanner> RECORD_SCANNERS =
+            recordScanners(ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent());
+
+    private final CsvTokenizer tokenizer;
 
     /**
      * Constructs a new CsvProcessor.
@@ -24,28 +47,172 @@ public class CsvProcessor implements AutoCloseable {
      * @param reader The reader providing the CSV data.
      */
     public CsvProcessor(Reader reader) {
-        this.csvReader = new CSVReader(reader);
+        this(reader, SheetFormat.CSV);
+    }
+
+    /**
+     * Constructs a new CsvProcessor for a delimited file of the given format.
+     *
+     * @param reader The reader providing the data.
+     * @param format The format of the data.
+     */
+    public CsvProcessor(Reader reader, SheetFormat format) {
+        this.tokenizer = new CharCsvTokenizer(reader, CsvTokenizer.DEFAULT_BUFFER_SIZE, format);
+    }
+
+    /**
+     * Constructs a new CsvProcessor that tokenizes raw bytes without decoding them up front. Only the cells that
+     * are read are decoded, and cells containing only ASCII characters are never run through a UTF-8 decoder.
+     *
+     * @param input The stream providing the CSV data, encoded in UTF-8 or ASCII.
+     */
+    public CsvProcessor(InputStream input) {
+        this(input, SheetFormat.CSV);
+    }
+
+    /**
+     * Constructs a new CsvProcessor that tokenizes the raw bytes of a delimited file of the given format, like
+     * {@link #CsvProcessor(InputStream)}.
+     *
+     * @param input  The stream providing the data, encoded in UTF-8 or ASCII.
+     * @param format The format of the data.
+     */
+    public CsvProcessor(InputStream input, SheetFormat format) {
+        this.tokenizer = new Utf8CsvTokenizer(input, CsvTokenizer.DEFAULT_BUFFER_SIZE, 0, format);
+    }
+
+    /**
+     * Constructs a new CsvProcessor that tokenizes a file in place, through read-only memory mappings, without
+     * copying it into a buffer. The file is mapped in windows, so its size is not limited to 2 GB. Cells are decoded
+     * like with {@link #CsvProcessor(InputStream)}.
+     *
+     * @param channel The channel of a file encoded in UTF-8 or ASCII.
+     * @throws IOException if the size of the file cannot be determined.
+     */
+    public CsvProcessor(FileChannel channel) throws IOException {
+        this(channel, SheetFormat.CSV);
+    }
+
+    /**
+     * Constructs a new CsvProcessor that tokenizes a delimited file of the given format in place, like
+     * {@link #CsvProcessor(FileChannel)}.
+     *
+     * @param channel The channel of a file encoded in UTF-8 or ASCII.
+     * @param format  The format of the file.
+     * @throws IOException if the size of the file cannot be determined.
+     */
+    public CsvProcessor(FileChannel channel, SheetFormat format) throws IOException {
+        this.tokenizer = new MappedCsvTokenizer(channel, 0, channel.size(), MappedCsvTokenizer.DEFAULT_WINDOW_SIZE,
+                format);
     }
 
     /**
      * Reads the next line from the CSV input stream and converts it into a string array.
      *
      * @return A string array containing the entries of the next line. Returns {@code null} if the end of the stream has been reached.
-     * @throws CsvValidationException if a validation error occurs while parsing the CSV.
-     * @throws IOException            if an I/O error occurs during reading.
+     * @throws IOException if an I/O error occurs during reading, or if the input ends inside a quoted field.
      */
-    public String[] readNext() throws CsvValidationException, IOException {
-        return csvReader.readNext();
+    public String[] readNext() throws IOException {
+        return tokenizer.nextRecord() ? tokenizer.cellStrings() : null;
     }
 
     /**
-     * Closes the underlying {@link CSVReader}. This method is automatically called
+     * Limits the cells split from every following line to the given number of leading cells. The remaining cells
+     * of a line are skipped without being split, unescaped or copied, also by {@link #readNext()}. Typically called
+     * after the header row has been read, with the number of cells the mapped columns need.
+     *
+     * @param cellLimit The number of leading cells to read from every line. Must be greater than zero.
+     */
+    @Override
+    public void limitCells(int cellLimit) {
+        tokenizer.limitCells(cellLimit);
+    }
+
+    /**
+     * Advances to the next line of the CSV input stream without materializing its cells.
+     *
+     * @return {@code true} if a line was read, {@code false} if the end of the stream has been reached.
+     * @throws IOException if an I/O error occurs during reading, or if the input ends inside a quoted field.
+     */
+    @Override
+    public boolean nextRecord() throws IOException {
+        return tokenizer.nextRecord();
+    }
+
+    @Override
+    public int cellCount() {
+        return tokenizer.cellCount();
+    }
+
+    @Override
+    public CharSequence cell(int index) {
+        return tokenizer.cell(index);
+    }
+
+    @Override
+    public String[] cellStrings() {
+        return tokenizer.cellStrings();
+    }
+
+    /**
+     * Closes the underlying reader, stream or channel and releases any memory mapping. This method is automatically called
      * when the object is used in a try-with-resources statement.
      *
-     * @throws IOException if an I/O error occurs when closing the reader.
+     * @throws IOException if an I/O error occurs when closing the reader, stream or channel.
      */
     @Override
     public void close() throws IOException {
-        csvReader.close();
+        tokenizer.close();
+    }
+
+    /**
+     * @param format The format of the data.
+     * @return A new record scanner for the given format, for a single tokenizer: of the backend chosen at startup,
+     * or of the SWAR backend if the format has an escape character.
+     */
+    static RecordScanner newRecordScanner(SheetFormat format) {
+        return format.hasEscape() ? new SwarRecordScanner(format) : RECORD_SCANNERS.apply(format);
+    }
+
+    /**
+     * Chooses the record scanner backend.
+     *
+     * @param vectorModulePresent Whether the Vector API module has been resolved.
+     * @return Creates scanners of the Vector API backend if it is present and usable, of the SWAR backend otherwise.
+     */
+    static Function<SheetFormat, RecordScanner> recordScanners(boolean vectorModulePresent) {
+        if (vectorModulePresent) {
+            try {
+                Function<SheetFormat, RecordScanner> vectorScanners = vectorScanners();
+                logger.debug("Scanning records with the Vector API");
+                return vectorScanners;
+            } catch (ReflectiveOperationException | LinkageError e) {
+                logger.warn("The {} module is present but cannot be used, scanning records without it", VECTOR_MODULE, e);
+            }
+        }
+        return SwarRecordScanner::new;
+    }
+
+    /**
+     * Looks up the constructor of the Vector API backend. The backend is compiled separately, against the incubator
+     * module, so it is only referred to by name.
+     *
+     * @return Creates scanners of the Vector API backend.
+     * @throws ReflectiveOperationException if the backend is not on the class path.
+     * @throws LinkageError                 if the backend cannot be loaded, for example without the module.
+     */
+    private static Function<SheetFormat, RecordScanner> vectorScanners() throws ReflectiveOperationException {
+        Constructor<? extends RecordScanner> constructor = Class.forName(VECTOR_SCANNER)
+                .asSubclass(RecordScanner.class)
+                .getDeclaredConstructor(SheetFormat.class);
+        // Fail here rather than on the first tokenizer
+        constructor.newInstance(SheetFormat.CSV);
+        return format -> {
+            try {
+                return constructor.newInstance(format);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Cannot create a record scanner: " + VECTOR_SCANNER, e);
+            }
+        };
     }
-}
\ No newline at end of file
+}
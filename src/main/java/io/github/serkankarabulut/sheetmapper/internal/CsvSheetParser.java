@@ -0,0 +1,112 @@
+package io.github.serkankarabulut.sheetmapper.internal;
+
+import io.github.serkankarabulut.sheetmapper.parser.SheetFormat;
+import io.github.serkankarabulut.sheetmapper.parser.SheetParser;
+import io.github.serkankarabulut.sheetmapper.parser.SheetReader;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * The built-in parsers for CSV files and other delimited files, which open files as a {@link CsvProcessor}.
+ * <p>
+ * This class is intended for internal use within the SheetMapper library only. Unlike other parsers, the built-in
+ * ones can also split a single file into byte ranges for {@link ParallelCsvMapper}, unless its format has an escape
+ * character.
+ *
+ * @author Serkan Karabulut
+ */
+public final class CsvSheetParser implements SheetParser {
+    private final Input input;
+    private final SheetFormat format;
+
+    /**
+     * Creates a parser.
+     *
+     * @param input  How files are read.
+     * @param format The format of the files.
+     */
+    public CsvSheetParser(Input input, SheetFormat format) {
+        this.input = input;
+        this.format = format;
+    }
+
+    /**
+     * Returns the parser selected by the byte parsing and memory mapping options.
+     *
+     * @param byteParsing   Whether raw bytes are split.
+     * @param memoryMapping Whether files are memory-mapped. Takes precedence over byte parsing.
+     * @param format        The format of the files.
+     * @return The parser.
+     */
+    public static CsvSheetParser of(boolean byteParsing, boolean memoryMapping, SheetFormat format) {
+        if (memoryMapping) {
+            return new CsvSheetParser(Input.MAPPED, format);
+        }
+        return new CsvSheetParser(byteParsing ? Input.BYTES : Input.CHARS, format);
+    }
+
+    @Override
+    public SheetReader open(File sheetData) throws IOException {
+        return switch (input) {
+            case CHARS -> new CsvProcessor(new FileReader(sheetData), format);
+            case BYTES -> new CsvProcessor(new FileInputStream(sheetData), format);
+            case MAPPED -> openMapped(sheetData);
+        };
+    }
+
+    private SheetReader openMapped(File sheetData) throws IOException {
+        FileChannel channel = FileChannel.open(sheetData.toPath(), StandardOpenOption.READ);
+        try {
+            return new CsvProcessor(channel, format);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @return How files are read.
+     */
+    public Input input() {
+        return input;
+    }
+
+    /**
+     * @return The format of the files.
+     */
+    public SheetFormat format() {
+        return format;
+    }
+
+    /**
+     * @return {@code true} if a single file can be split into byte ranges for {@link ParallelCsvMapper}.
+     */
+    public boolean splittable() {
+        return !format.hasEscape();
+    }
+
+    /**
+     * How the built-in parsers read files.
+     */
+    public enum Input {
+        /**
+         * Reads decoded characters through a {@link FileReader}.
+         */
+        CHARS,
+
+        /**
+         * Splits the raw bytes of UTF-8 files.
+         */
+        BYTES,
+
+        /**
+         * Splits UTF-8 files in read-only memory mappings.
+         */
+        MAPPED
+    }
+}
@@ -0,0 +1,86 @@
+package io.github.serkankarabulut.sheetmapper.internal;
+
+import io.github.serkankarabulut.sheetmapper.parser.SheetFormat;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Splits delimited input into records and cells, in the dialect described by a {@link SheetFormat}.
+ * <p>
+ * Quoting follows RFC 4180 leniently: a quote toggles the quoted state wherever it appears, two consecutive quotes
+ * inside a quoted section stand for one literal quote, and delimiters and line breaks inside a quoted section are
+ * part of the cell. Inside a quoted section, the escape character of the format, if any, turns a following quote or
+ * escape into a literal one. By default a record ends at {@code \n}, {@code \r\n} or {@code \r}, and backslashes
+ * have no special meaning.
+ * <p>
+ * Implementations read into a reusable buffer and expose the cells of the current record as views over it, through
+ * {@link SheetRecord}. The same view instance is repositioned on every call of {@link #cell(int)}.
+ * Closing a tokenizer closes its input.
+ * <p>
+ * Cells are located in two passes: the whole record is scanned once to find its end, then it is split into cells.
+ * With {@link #limitCells(int)}, splitting stops after the last cell that is needed, and the rest of the record is
+ * skipped without being split or unescaped.
+ * <p>
+ * Input without quotes needs neither pass: implementations scan ahead for the next quote, up to
+ * {@link #QUOTE_SCAN_SIZE} units at a time, and split the records before it on delimiters alone. The regular
+ * two-pass path takes over as soon as a record reaches a quote. Formats without a quote character never take the
+ * regular path: every record is split in a single pass, and split again after more input is read if it does not end
+ * within the buffer.
+ *
+ * @author Serkan Karabulut
+ */
+interface CsvTokenizer extends SheetRecord, Closeable {
+    int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    int QUOTE_SCAN_SIZE = 16 * 1024;
+
+    /**
+     * Stands for a character that a format does not have, such as a missing escape character. No {@code char} and
+     * no {@code byte} is equal to it.
+     */
+    int NO_CHARACTER = 0x10000;
+
+    /**
+     * Advances to the next record.
+     *
+     * @return {@code true} if a record was read, {@code false} at the end of the input.
+     * @throws IOException if the input cannot be read or ends inside a quoted section.
+     */
+    boolean nextRecord() throws IOException;
+
+    /**
+     * Limits the cells that are split from every following record, so that columns after the last mapped one cost
+     * nothing but the scan for the end of the record. Records with fewer cells are split completely.
+     *
+     * @param cellLimit The number of leading cells to split. Must be greater than zero.
+     */
+    void limitCells(int cellLimit);
+
+    /**
+     * @return The cells of the current record, copied into new strings.
+     */
+    String[] cellStrings();
+
+    /**
+     * @return The quote character of the format, or {@link #NO_CHARACTER}.
+     */
+    static int quoteOf(SheetFormat format) {
+        return format.hasQuote() ? format.quote() : NO_CHARACTER;
+    }
+
+    /**
+     * @return The escape character of the format, or {@link #NO_CHARACTER}.
+     */
+    static int escapeOf(SheetFormat format) {
+        return format.hasEscape() ? format.escape() : NO_CHARACTER;
+    }
+
+    /**
+     * @return The second character that ends a line: {@code \r} if any line ending ends a record, or {@code \n}
+     * again if only line feeds do, so that comparing with both {@code \n} and this character finds the line breaks
+     * of the format.
+     */
+    static char carriageReturnOf(SheetFormat format) {
+        return format.lineEnding() == SheetFormat.LineEnding.ANY ? '\r' : '\n';
+    }
+}
@@ -0,0 +1,490 @@
+package io.github.serkankarabulut.sheetmapper.internal;
+
+import io.github.serkankarabulut.sheetmapper.generated.GeneratedMapper;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+
+/**
+ * Writes a value into one field of a target object through a precomputed {@link MethodHandle}.
+ * <p>
+ * This class is intended for internal use within the SheetMapper library only. A writer is created once per
+ * mapped field when a {@link MappingPlan} is built. Its setter handle is adapted to an erased type, so that
+ * every call is an exact invocation that needs no per-call type adaptation. Primitive fields get a dedicated
+ * writer that exposes a typed setter (e.g. {@link #setInt(Object, int)}), which stores the value without boxing.
+ * <p>
+ * Fields of classes with a compile-time {@link GeneratedMapper} are written through that mapper instead, without
+ * any reflection. Constructor arguments of records and other immutable classes are written into a slot of the
+ * {@link MappingPlan.Arguments} buffer, which is passed as the target object. Primitive arguments have typed slots,
+ * so their writers expose the same typed setters as the writers of primitive fields.
+ *
+ * @author Serkan Karabulut
+ */
+public abstract class FieldWriter {
+    private final Field field;
+    private final String fieldName;
+    private final Class<?> fieldType;
+
+    private FieldWriter(Field field) {
+        this(field, field.getName(), field.getType());
+    }
+
+    private FieldWriter(Field field, String fieldName, Class<?> fieldType) {
+        this.field = field;
+        this.fieldName = fieldName;
+        this.fieldType = fieldType;
+    }
+
+    /**
+     * Creates a writer for the given field.
+     *
+     * @param field The field to write to. Must already be accessible.
+     * @return A writer specialized for the type of the field.
+     * @throws IllegalAccessException if the field cannot be written to, for example because it is final.
+     */
+    public static FieldWriter of(Field field) throws IllegalAccessException {
+        MethodHandle setter = MethodHandles.lookup().unreflectSetter(field);
+        Class<?> type = field.getType();
+        if (type == int.class) {
+            return new IntWriter(field, setter.asType(MethodType.methodType(void.class, Object.class, int.class)));
+        }
+        if (type == long.class) {
+            return new LongWriter(field, setter.asType(MethodType.methodType(void.class, Object.class, long.class)));
+        }
+        if (type == double.class) {
+            return new DoubleWriter(field, setter.asType(MethodType.methodType(void.class, Object.class, double.class)));
+        }
+        if (type == float.class) {
+            return new FloatWriter(field, setter.asType(MethodType.methodType(void.class, Object.class, float.class)));
+        }
+        if (type == boolean.class) {
+            return new BooleanWriter(field, setter.asType(MethodType.methodType(void.class, Object.class, boolean.class)));
+        }
+        return new ObjectWriter(field, setter.asType(MethodType.methodType(void.class, Object.class, Object.class)));
+    }
+
+    /**
+     * Creates a writer that delegates to a mapper generated at compile time.
+     *
+     * @param mapper    The generated mapper.
+     * @param column    The position of the column in the generated mapper.
+     * @param <T>       The type of the target class.
+     * @return A writer for the column.
+     */
+    public static <T> FieldWriter generated(GeneratedMapper<T> mapper, int column) {
+        return new GeneratedWriter<>(mapper, column);
+    }
+
+    /**
+     * Creates a writer that stores the value of a constructor argument into an argument buffer.
+     *
+     * @param position The position of the argument in the constructor's parameter list.
+     * @param name     The name of the parameter or record component.
+     * @param type     The declared type of the parameter.
+     * @return A writer whose target is the {@link MappingPlan.Arguments} buffer.
+     */
+    public static FieldWriter argument(int position, String name, Class<?> type) {
+        return type.isPrimitive() ? new PrimitiveArgumentWriter(position, name, type) : new ArgumentWriter(position, name, type);
+    }
+
+    /**
+     * @return {@code true} if values can be written without boxing through the typed setter matching
+     *         {@link #fieldType()}, e.g. {@link #setInt(Object, int)} for an {@code int} field.
+     */
+    public boolean hasTypedSetter() {
+        return false;
+    }
+
+    /**
+     * @return {@code true} if this writer stores a constructor argument into an argument buffer rather than
+     *         writing a field of the target object.
+     */
+    public boolean isArgument() {
+        return false;
+    }
+
+    /**
+     * @return The field this writer writes to, or {@code null} if the writer stores a constructor argument or
+     *         the field is written by a generated mapper and was never looked up through reflection.
+     */
+    public Field field() {
+        return field;
+    }
+
+    /**
+     * @return The name of the field this writer writes to.
+     */
+    public String fieldName() {
+        return fieldName;
+    }
+
+    /**
+     * @return The declared type of the field this writer writes to.
+     */
+    public Class<?> fieldType() {
+        return fieldType;
+    }
+
+    /**
+     * Writes a value into the field, unboxing it first if the field is primitive.
+     *
+     * @param target The object whose field is written.
+     * @param value  The value to write.
+     * @throws ClassCastException if the value is not compatible with the type of the field.
+     */
+    public abstract void set(Object target, Object value);
+
+    /**
+     * Writes an {@code int} value into an {@code int} field without boxing.
+     *
+     * @param target The object whose field is written.
+     * @param value  The value to write.
+     * @throws UnsupportedOperationException if the field is not of type {@code int}.
+     */
+    public void setInt(Object target, int value) {
+        throw unsupported(int.class);
+    }
+
+    /**
+     * Writes a {@code long} value into a {@code long} field without boxing.
+     *
+     * @param target The object whose field is written.
+     * @param value  The value to write.
+     * @throws UnsupportedOperationException if the field is not of type {@code long}.
+     */
+    public void setLong(Object target, long value) {
+        throw unsupported(long.class);
+    }
+
+    /**
+     * Writes a {@code double} value into a {@code double} field without boxing.
+     *
+     * @param target The object whose field is written.
+     * @param value  The value to write.
+     * @throws UnsupportedOperationException if the field is not of type {@code double}.
+     */
+    public void setDouble(Object target, double value) {
+        throw unsupported(double.class);
+    }
+
+    /**
+     * Writes a {@code float} value into a {@code float} field without boxing.
+     *
+     * @param target The object whose field is written.
+     * @param value  The value to write.
+     * @throws UnsupportedOperationException if the field is not of type {@code float}.
+     */
+    public void setFloat(Object target, float value) {
+        throw unsupported(float.class);
+    }
+
+    /**
+     * Writes a {@code boolean} value into a {@code boolean} field without boxing.
+     *
+     * @param target The object whose field is written.
+     * @param value  The value to write.
+     * @throws UnsupportedOperationException if the field is not of type {@code boolean}.
+     */
+    public void setBoolean(Object target, boolean value) {
+        throw unsupported(boolean.class);
+    }
+
+    private UnsupportedOperationException unsupported(Class<?> type) {
+        return new UnsupportedOperationException("Field " + fieldName + " of type " + fieldType.getName() + " cannot be written as " + type.getName());
+    }
+
+    /**
+     * Rethrows a throwable raised by a setter handle. Setters cannot throw checked exceptions, so anything that
+     * is not a {@link RuntimeException} or an {@link Error} indicates a bug.
+     *
+     * @param throwable The throwable raised by the handle.
+     * @return Never returns normally; declared so that callers can write {@code throw rethrow(e)}.
+     */
+    private static RuntimeException rethrow(Throwable throwable) {
+        if (throwable instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (throwable instanceof Error error) {
+            throw error;
+        }
+        throw new IllegalStateException(throwable);
+    }
+
+    private static final class ObjectWriter extends FieldWriter {
+        private final MethodHandle setter;
+
+        private ObjectWriter(Field field, MethodHandle setter) {
+            super(field);
+            this.setter = setter;
+        }
+
+        @Override
+        public void set(Object target, Object value) {
+            try {
+                setter.invokeExact(target, value);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+    }
+
+    private static final class IntWriter extends FieldWriter {
+        private final MethodHandle setter;
+
+        private IntWriter(Field field, MethodHandle setter) {
+            super(field);
+            this.setter = setter;
+        }
+
+        @Override
+        public boolean hasTypedSetter() {
+            return true;
+        }
+
+        @Override
+        public void set(Object target, Object value) {
+            setInt(target, (Integer) value);
+        }
+
+        @Override
+        public void setInt(Object target, int value) {
+            try {
+                setter.invokeExact(target, value);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+    }
+
+    private static final class LongWriter extends FieldWriter {
+        private final MethodHandle setter;
+
+        private LongWriter(Field field, MethodHandle setter) {
+            super(field);
+            this.setter = setter;
+        }
+
+        @Override
+        public boolean hasTypedSetter() {
+            return true;
+        }
+
+        @Override
+        public void set(Object target, Object value) {
+            setLong(target, (Long) value);
+        }
+
+        @Override
+        public void setLong(Object target, long value) {
+            try {
+                setter.invokeExact(target, value);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+    }
+
+    private static final class DoubleWriter extends FieldWriter {
+        private final MethodHandle setter;
+
+        private DoubleWriter(Field field, MethodHandle setter) {
+            super(field);
+            this.setter = setter;
+        }
+
+        @Override
+        public boolean hasTypedSetter() {
+            return true;
+        }
+
+        @Override
+        public void set(Object target, Object value) {
+            setDouble(target, (Double) value);
+        }
+
+        @Override
+        public void setDouble(Object target, double value) {
+            try {
+                setter.invokeExact(target, value);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+    }
+
+    private static final class FloatWriter extends FieldWriter {
+        private final MethodHandle setter;
+
+        private FloatWriter(Field field, MethodHandle setter) {
+            super(field);
+            this.setter = setter;
+        }
+
+        @Override
+        public boolean hasTypedSetter() {
+            return true;
+        }
+
+        @Override
+        public void set(Object target, Object value) {
+            setFloat(target, (Float) value);
+        }
+
+        @Override
+        public void setFloat(Object target, float value) {
+            try {
+                setter.invokeExact(target, value);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+    }
+
+    private static final class BooleanWriter extends FieldWriter {
+        private final MethodHandle setter;
+
+        private BooleanWriter(Field field, MethodHandle setter) {
+            super(field);
+            this.setter = setter;
+        }
+
+        @Override
+        public boolean hasTypedSetter() {
+            return true;
+        }
+
+        @Override
+        public void set(Object target, Object value) {
+            setBoolean(target, (Boolean) value);
+        }
+
+        @Override
+        public void setBoolean(Object target, boolean value) {
+            try {
+                setter.invokeExact(target, value);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+    }
+
+    private static final class GeneratedWriter<T> extends FieldWriter {
+        private final GeneratedMapper<T> mapper;
+        private final int column;
+
+        private GeneratedWriter(GeneratedMapper<T> mapper, int column) {
+            super(null, mapper.fieldNames()[column], mapper.columnTypes()[column]);
+            this.mapper = mapper;
+            this.column = column;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void set(Object target, Object value) {
+            mapper.set((T) target, column, value);
+        }
+    }
+
+    private static final class ArgumentWriter extends FieldWriter {
+        private final int position;
+
+        private ArgumentWriter(int position, String name, Class<?> type) {
+            super(null, name, type);
+            this.position = position;
+        }
+
+        @Override
+        public boolean isArgument() {
+            return true;
+        }
+
+        @Override
+        public void set(Object target, Object value) {
+            ((MappingPlan.Arguments) target).references[position] = fieldType().cast(value);
+        }
+    }
+
+    /**
+     * Writes a primitive constructor argument into its {@code long} or {@code double} slot. The typed setters of
+     * {@code int}, {@code long}, {@code double}, {@code float} and {@code boolean} arguments store the value
+     * without boxing; other primitive arguments are only written through {@link #set(Object, Object)}.
+     */
+    private static final class PrimitiveArgumentWriter extends FieldWriter {
+        private final int position;
+        private final Class<?> valueType;
+
+        private PrimitiveArgumentWriter(int position, String name, Class<?> type) {
+            super(null, name, type);
+            this.position = position;
+            this.valueType = MethodType.methodType(type).wrap().returnType();
+        }
+
+        @Override
+        public boolean isArgument() {
+            return true;
+        }
+
+        @Override
+        public boolean hasTypedSetter() {
+            Class<?> type = fieldType();
+            return type == int.class || type == long.class || type == double.class || type == float.class || type == boolean.class;
+        }
+
+        @Override
+        public void set(Object target, Object value) {
+            MappingPlan.Arguments arguments = (MappingPlan.Arguments) target;
+            Object unboxed = valueType.cast(value);
+            if (unboxed instanceof Double || unboxed instanceof Float) {
+                arguments.doubles[position] = ((Number) unboxed).doubleValue();
+            } else if (unboxed instanceof Boolean booleanValue) {
+                arguments.longs[position] = booleanValue ? 1 : 0;
+            } else if (unboxed instanceof Character character) {
+                arguments.longs[position] = character;
+            } else {
+                arguments.longs[position] = ((Number) unboxed).longValue();
+            }
+        }
+
+        @Override
+        public void setInt(Object target, int value) {
+            if (fieldType() != int.class) {
+                super.setInt(target, value);
+            }
+            ((MappingPlan.Arguments) target).longs[position] = value;
+        }
+
+        @Override
+        public void setLong(Object target, long value) {
+            if (fieldType() != long.class) {
+                super.setLong(target, value);
+            }
+            ((MappingPlan.Arguments) target).longs[position] = value;
+        }
+
+        @Override
+        public void setDouble(Object target, double value) {
+            if (fieldType() != double.class) {
+                super.setDouble(target, value);
+            }
+            ((MappingPlan.Arguments) target).doubles[position] = value;
+        }
+
+        @Override
+        public void setFloat(Object target, float value) {
+            if (fieldType() != float.class) {
+                super.setFloat(target, value);
+            }
+            ((MappingPlan.Arguments) target).doubles[position] = value;
+        }
+
+        @Override
+        public void setBoolean(Object target, boolean value) {
+            if (fieldType() != boolean.class) {
+                super.setBoolean(target, value);
+            }
+            ((MappingPlan.Arguments) target).longs[position] = value ? 1 : 0;
+        }
+    }
+}
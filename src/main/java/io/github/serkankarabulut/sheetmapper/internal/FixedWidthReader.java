@@ -0,0 +1,218 @@
+package io.github.serkankarabulut.sheetmapper.internal;
+
+import io.github.serkankarabulut.sheetmapper.exception.SheetMappingException;
+import io.github.serkankarabulut.sheetmapper.parser.SheetReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Reads the lines of a fixed-width file and exposes the mapped columns of the current line as views over a single
+ * reusable buffer.
+ * <p>
+ * This class is intended for internal use within the SheetMapper library only. A fixed-width file has no delimiters
+ * and no header row: every column occupies the same range of characters in every line, as declared by the
+ * {@link io.github.serkankarabulut.sheetmapper.annotation.Column#start() start} and
+ * {@link io.github.serkankarabulut.sheetmapper.annotation.Column#length() length} of its annotation. The only scan is
+ * the one for the end of the line. Cell {@code i} is the column {@code i} of the mapping plan, sliced from the line
+ * by offset arithmetic when it is read, and stripped of the spaces it is padded with. A line that ends before a
+ * column yields an empty cell, so that trailing blanks may be trimmed by the exporter.
+ * <p>
+ * A line ends at {@code \n}, {@code \r\n} or {@code \r}.
+ *
+ * @author Serkan Karabulut
+ */
+public final class FixedWidthReader implements SheetReader, SheetRecord {
+    private static final Logger logger = LoggerFactory.getLogger(FixedWidthReader.class);
+
+    private final Reader reader;
+    private final int[] starts;
+    private final int[] ends;
+    private char[] buffer;
+    private int position;
+    private int limit;
+    private boolean endOfInput;
+    private boolean skipLineFeed;
+    private int lineStart;
+    private int lineEnd;
+    private final CellView view = new CellView();
+
+    FixedWidthReader(Reader reader, int bufferSize, int[] starts, int[] lengths) {
+        this.reader = reader;
+        this.buffer = new char[bufferSize];
+        this.starts = starts.clone();
+        this.ends = new int[starts.length];
+        for (int i = 0; i < starts.length; i++) {
+            ends[i] = starts[i] + lengths[i];
+        }
+    }
+
+    /**
+     * Opens a fixed-width file for the columns of a mapping plan.
+     *
+     * @param sheetData The file to read.
+     * @param plan      The mapping plan, every column of which must have a fixed-width position.
+     * @return A new reader positioned before the first line.
+     * @throws SheetMappingException if a column has no fixed-width position. The file is not opened then.
+     * @throws IOException           if the file cannot be opened.
+     */
+    public static FixedWidthReader open(File sheetData, MappingPlan<?> plan) throws IOException {
+        List<MappingPlan.ColumnMapping> columns = plan.columns();
+        int[] starts = new int[columns.size()];
+        int[] lengths = new int[columns.size()];
+        for (int i = 0; i < starts.length; i++) {
+            MappingPlan.ColumnMapping column = columns.get(i);
+            if (!column.hasFixedWidth()) {
+                logger.error("Column '{}' has no fixed-width start and length in class: {}", column.name(), plan.type().getName());
+                throw new SheetMappingException("Column '" + column.name() + "' has no fixed-width start and length in class: "
+                        + plan.type().getName());
+            }
+            starts[i] = column.start();
+            lengths[i] = column.length();
+        }
+        return new FixedWidthReader(new FileReader(sheetData), CsvTokenizer.DEFAULT_BUFFER_SIZE, starts, lengths);
+    }
+
+    @Override
+    public boolean nextRecord() throws IOException {
+        if (skipLineFeed) {
+            skipLineFeed = false;
+            if (position == limit && !fill()) {
+                return false;
+            }
+            if (buffer[position] == '\n') {
+                position++;
+            }
+        }
+        if (position == limit && !fill()) {
+            return false;
+        }
+        int scan = position;
+        while (true) {
+            char[] chars = buffer;
+            int end = limit;
+            while (scan < end && chars[scan] != '\n' && chars[scan] != '\r') {
+                scan++;
+            }
+            if (scan < end) {
+                break;
+            }
+            int previousPosition = position;
+            boolean filled = fill();
+            scan -= previousPosition - position;
+            if (!filled) {
+                break;
+            }
+        }
+        lineStart = position;
+        lineEnd = scan;
+        if (scan < limit) {
+            skipLineFeed = buffer[scan] == '\r';
+            position = scan + 1;
+        } else {
+            position = scan;
+        }
+        return true;
+    }
+
+    /**
+     * Moves the unconsumed input to the start of the buffer, grows the buffer if it is full, and reads more input.
+     *
+     * @return {@code false} if the end of the input has been reached.
+     */
+    private boolean fill() throws IOException {
+        if (endOfInput) {
+            return false;
+        }
+        if (position > 0) {
+            System.arraycopy(buffer, position, buffer, 0, limit - position);
+            limit -= position;
+            position = 0;
+        }
+        if (limit == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        int read;
+        do {
+            read = reader.read(buffer, limit, buffer.length - limit);
+        } while (read == 0);
+        if (read < 0) {
+            endOfInput = true;
+            return false;
+        }
+        limit += read;
+        return true;
+    }
+
+    /**
+     * @return The number of mapped columns, which every line has.
+     */
+    @Override
+    public int cellCount() {
+        return starts.length;
+    }
+
+    @Override
+    public CharSequence cell(int index) {
+        Objects.checkIndex(index, starts.length);
+        char[] chars = buffer;
+        int start = Math.min(lineStart + starts[index], lineEnd);
+        int end = Math.min(lineStart + ends[index], lineEnd);
+        while (start < end && chars[start] == ' ') {
+            start++;
+        }
+        while (end > start && chars[end - 1] == ' ') {
+            end--;
+        }
+        view.start = start;
+        view.end = end;
+        return view;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * A reusable view of one cell in the buffer.
+     */
+    private final class CellView implements CharSequence {
+        private int start;
+        private int end;
+
+        @Override
+        public int length() {
+            return end - start;
+        }
+
+        @Override
+        public char charAt(int index) {
+            Objects.checkIndex(index, end - start);
+            return buffer[start + index];
+        }
+
+        @Override
+        public CharSequence subSequence(int from, int to) {
+            Objects.checkFromToIndex(from, to, end - start);
+            return new String(buffer, start + from, to - from);
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return start == end;
+        }
+
+        @Override
+        public String toString() {
+            return new String(buffer, start, end - start);
+        }
+    }
+}
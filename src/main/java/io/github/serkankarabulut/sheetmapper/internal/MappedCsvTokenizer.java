@@ -0,0 +1,558 @@
+package io.github.serkankarabulut.sheetmapper.internal;
+
+import io.github.serkankarabulut.sheetmapper.parser.SheetFormat;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A {@link CsvTokenizer} that splits the UTF-8 bytes of a file region directly in memory-mapped windows of the file.
+ * <p>
+ * Unlike {@link Utf8CsvTokenizer}, no bytes are copied into a buffer and no read calls are made: records are located
+ * in a read-only mapping of the file, and cells are views over that mapping. A single mapping cannot exceed 2 GB, so
+ * the region is mapped in windows. When a record runs past the end of the current window, a new window is mapped
+ * starting at that record; windows are grown if a single record does not fit. The previous window is unmapped
+ * immediately, and the last one when the tokenizer is closed, instead of waiting for the garbage collector.
+ * <p>
+ * Because the mapping is read-only, cells whose quoting must be removed (because they contain doubled quotes or are
+ * only partly quoted) are unescaped into a scratch buffer that is reused for every record. Cells are decoded like
+ * in {@link Utf8CsvTokenizer}: 7-bit cells are copied into Latin-1 strings, other cells are decoded as UTF-8.
+ * Records that precede the next quote in the window are split in a single pass, as in {@link CharCsvTokenizer}, and
+ * so are all records of formats without a quote character. Like {@link Utf8CsvTokenizer}, the window is searched for
+ * delimiters, line breaks and quotes eight bytes at a time, with {@link Swar} words read straight from the mapping,
+ * and the end of a record with quotes is found by a {@link SwarRecordScanner}.
+ *
+ * @author Serkan Karabulut
+ */
+final class MappedCsvTokenizer implements ByteRangeTokenizer {
+    private static final Logger logger = LoggerFactory.getLogger(MappedCsvTokenizer.class);
+
+    static final int DEFAULT_WINDOW_SIZE = 256 * 1024 * 1024;
+
+    private static final MethodHandle INVOKE_CLEANER = findCleaner();
+    private static final long LINE_FEEDS = Swar.broadcast((byte) '\n');
+
+    private final byte delimiter;
+    private final boolean quoting;
+    private final int quote;
+    private final int escape;
+    private final byte carriageReturn;
+    private final long delimiters;
+    private final long carriageReturns;
+    private final SwarRecordScanner recordScanner;
+
+    private final FileChannel channel;
+    private final long regionEnd;
+    private final int windowSize;
+    private MappedByteBuffer window;
+    private long windowStart;
+    private int position;
+    private int limit;
+    private boolean skipLineFeed;
+    private boolean asciiRecord;
+
+    private int[] cellStarts = new int[16];
+    private int[] cellEnds = new int[16];
+    private boolean[] scratchCells = new boolean[16];
+    private int cellCount;
+    private int cellLimit = Integer.MAX_VALUE;
+    private int quoteFreeEnd;
+    private int nextQuoteScan;
+    private byte[] scratch = new byte[256];
+    private ByteBuffer scratchBuffer = ByteBuffer.wrap(scratch);
+    private int scratchLength;
+    private byte[] copyBuffer = new byte[256];
+    private final CellView view = new CellView();
+
+    /**
+     * Creates a tokenizer for a whole file.
+     *
+     * @param channel The channel of the file. It is closed together with the tokenizer.
+     */
+    MappedCsvTokenizer(FileChannel channel) throws IOException {
+        this(channel, 0, channel.size(), DEFAULT_WINDOW_SIZE, SheetFormat.CSV);
+    }
+
+    /**
+     * Creates a tokenizer for a region of a file.
+     *
+     * @param channel     The channel of the file. It is closed together with the tokenizer.
+     * @param regionStart The offset of the first byte of the first record.
+     * @param regionEnd   The offset after the last byte of the region.
+     * @param windowSize  The size of a mapped window, unless a record requires more.
+     * @param format      The format of the file.
+     */
+    MappedCsvTokenizer(FileChannel channel, long regionStart, long regionEnd, int windowSize, SheetFormat format) {
+        this.channel = channel;
+        this.regionEnd = regionEnd;
+        this.windowSize = windowSize;
+        this.windowStart = regionStart;
+        this.delimiter = (byte) format.delimiter();
+        this.quoting = format.hasQuote();
+        this.quote = CsvTokenizer.quoteOf(format);
+        this.escape = CsvTokenizer.escapeOf(format);
+        this.carriageReturn = (byte) CsvTokenizer.carriageReturnOf(format);
+        this.delimiters = Swar.broadcast(delimiter);
+        this.carriageReturns = Swar.broadcast(carriageReturn);
+        this.recordScanner = quoting ? new SwarRecordScanner(format) : null;
+    }
+
+    @Override
+    public boolean nextRecord() throws IOException {
+        cellCount = 0;
+        scratchLength = 0;
+        if (skipLineFeed) {
+            skipLineFeed = false;
+            if (position == limit && !remap(0)) {
+                return false;
+            }
+            if (window.get(position) == '\n') {
+                position++;
+            }
+        }
+        if (position == limit && !remap(0)) {
+            return false;
+        }
+        if (!quoting) {
+            nextUnquotedRecord();
+            return true;
+        }
+        if (position >= quoteFreeEnd && position >= nextQuoteScan) {
+            scanForQuote();
+        }
+        if (position < quoteFreeEnd && splitQuoteFree()) {
+            return true;
+        }
+        int end = findRecordEnd();
+        split(position, end);
+        if (end < limit) {
+            skipLineFeed = window.get(end) == '\r';
+            position = end + 1;
+        } else {
+            position = end;
+        }
+        return true;
+    }
+
+    /**
+     * Reads the record starting at {@link #position} of a format without quotes. The record is split up to the end
+     * of the window, and split again in a new window if it does not end there.
+     */
+    private void nextUnquotedRecord() throws IOException {
+        while (true) {
+            quoteFreeEnd = limit;
+            if (splitQuoteFree()) {
+                return;
+            }
+            if (windowStart + limit >= regionEnd) {
+                split(position, limit);
+                asciiRecord = false;
+                position = limit;
+                return;
+            }
+            int recordLength = limit - position;
+            if (recordLength == Integer.MAX_VALUE) {
+                throw new IOException("Record larger than " + Integer.MAX_VALUE + " bytes");
+            }
+            remap(2L * recordLength);
+        }
+    }
+
+    /**
+     * Scans up to {@link #QUOTE_SCAN_SIZE} bytes ahead of {@link #position} for a quote. If one is found, the next
+     * scan is postponed until after the bytes that were scanned past it, so that input with quotes on every line is
+     * not scanned twice.
+     */
+    private void scanForQuote() {
+        int end = position + Math.min(limit - position, QUOTE_SCAN_SIZE);
+        int i = recordScanner.indexOfQuote(window, position, end);
+        quoteFreeEnd = i;
+        nextQuoteScan = i < end ? i + QUOTE_SCAN_SIZE : i;
+    }
+
+    /**
+     * Splits the record starting at {@link #position} on delimiters alone, if it ends before {@link #quoteFreeEnd},
+     * and records whether the record is pure ASCII.
+     *
+     * @return {@code false} if the record does not end before the next quote; no cells are kept.
+     */
+    private boolean splitQuoteFree() {
+        MappedByteBuffer bytes = window;
+        int end = quoteFreeEnd;
+        int cellStart = position;
+        long bits = 0;
+        int i = position;
+        for (; i <= end - Long.BYTES; i += Long.BYTES) {
+            long word = Swar.load(bytes, i);
+            long lineBreaks = Swar.match(word, LINE_FEEDS) | Swar.match(word, carriageReturns);
+            long structural = Swar.match(word, delimiters) | lineBreaks;
+            while (structural != 0) {
+                long match = structural & -structural;
+                int at = i + Swar.firstIndex(match);
+                if ((lineBreaks & match) != 0) {
+                    return endQuoteFree(cellStart, at, bits | word & Swar.leadingBytes(at - i));
+                }
+                if (cellCount < cellLimit) {
+                    addCell(cellStart, at, false);
+                }
+                cellStart = at + 1;
+                structural ^= match;
+            }
+            bits |= word;
+        }
+        for (; i < end; i++) {
+            byte b = bytes.get(i);
+            if (b == delimiter) {
+                if (cellCount < cellLimit) {
+                    addCell(cellStart, i, false);
+                }
+                cellStart = i + 1;
+            } else if (b == '\n' || b == carriageReturn) {
+                return endQuoteFree(cellStart, i, bits);
+            }
+            bits |= b;
+        }
+        cellCount = 0;
+        return false;
+    }
+
+    private boolean endQuoteFree(int cellStart, int lineBreak, long bits) {
+        if (cellCount < cellLimit) {
+            addCell(cellStart, lineBreak, false);
+        }
+        asciiRecord = (bits & Swar.HIGH_BITS) == 0;
+        skipLineFeed = window.get(lineBreak) == '\r';
+        position = lineBreak + 1;
+        return true;
+    }
+
+    /**
+     * Scans for the line break that ends the record starting at {@link #position}, mapping a new window if the
+     * record continues past the current one, and records whether the record is pure ASCII.
+     *
+     * @return The index of the line break in the window, or {@link #limit} if the record ends with the region.
+     */
+    private int findRecordEnd() throws IOException {
+        SwarRecordScanner scanner = recordScanner;
+        scanner.reset();
+        int scan = position;
+        while (true) {
+            int end = scanner.findLineBreak(window, scan, limit);
+            if (end < limit) {
+                asciiRecord = scanner.ascii();
+                return end;
+            }
+            if (windowStart + limit >= regionEnd) {
+                if (scanner.quoted) {
+                    throw new IOException("Unterminated quoted field at end of input");
+                }
+                asciiRecord = scanner.ascii();
+                return limit;
+            }
+            int recordLength = limit - position;
+            if (recordLength == Integer.MAX_VALUE) {
+                throw new IOException("Record larger than " + Integer.MAX_VALUE + " bytes");
+            }
+            scan = recordLength;
+            remap(2L * recordLength);
+        }
+    }
+
+    /**
+     * Maps the window starting at {@link #position} of the current window and unmaps the current window.
+     *
+     * @param minimumSize The size the new window should have at least, unless the region ends earlier.
+     * @return {@code false} if the region has been fully read.
+     */
+    private boolean remap(long minimumSize) throws IOException {
+        long start = windowStart + position;
+        long remaining = regionEnd - start;
+        if (remaining <= 0) {
+            return false;
+        }
+        long size = Math.min(remaining, Math.min(Integer.MAX_VALUE, Math.max(windowSize, minimumSize)));
+        MappedByteBuffer next = channel.map(FileChannel.MapMode.READ_ONLY, start, size);
+        unmap(window);
+        window = next;
+        windowStart = start;
+        position = 0;
+        quoteFreeEnd = nextQuoteScan = 0;
+        limit = (int) size;
+        return true;
+    }
+
+    /**
+     * Splits the record between {@code start} (inclusive) and {@code end} (exclusive) into cells.
+     */
+    private void split(int start, int end) {
+        MappedByteBuffer bytes = window;
+        int i = start;
+        while (true) {
+            int cellStart = i;
+            while (i < end) {
+                byte b = bytes.get(i);
+                if (b == delimiter || b == quote) {
+                    break;
+                }
+                i++;
+            }
+            if (i < end && bytes.get(i) == quote) {
+                i = splitQuoted(cellStart, i, end);
+            } else {
+                addCell(cellStart, i, false);
+            }
+            if (i >= end || cellCount == cellLimit) {
+                return;
+            }
+            i++;
+        }
+    }
+
+    /**
+     * Reads a cell that contains at least one quote. Only called for formats with a quote character. Spaces and
+     * tabs before the opening quote of a cell are dropped, as opencsv does.
+     *
+     * @param cellStart  The index of the first byte of the cell.
+     * @param firstQuote The index of the first quote in the cell.
+     * @param end        The end of the record.
+     * @return The index of the delimiter that ends the cell, or {@code end}.
+     */
+    private int splitQuoted(int cellStart, int firstQuote, int end) {
+        MappedByteBuffer bytes = window;
+        if (isLeadingWhitespace(bytes, cellStart, firstQuote)) {
+            cellStart = firstQuote;
+        }
+        if (firstQuote == cellStart) {
+            // A fully quoted cell without doubled or escaped quotes is a contiguous run of the window
+            int close = firstQuote + 1;
+            while (close < end && bytes.get(close) != quote && bytes.get(close) != escape) {
+                close++;
+            }
+            if (close < end && bytes.get(close) == quote && (close + 1 == end || bytes.get(close + 1) == delimiter)) {
+                addCell(cellStart + 1, close, false);
+                return close + 1;
+            }
+        }
+
+        int scratchStart = scratchLength;
+        ensureScratch(end - cellStart);
+        bytes.get(cellStart, scratch, scratchLength, firstQuote - cellStart);
+        scratchLength += firstQuote - cellStart;
+        int i = firstQuote;
+        boolean quoted = false;
+        while (i < end) {
+            byte b = bytes.get(i);
+            if (b == quote) {
+                if (quoted && i + 1 < end && bytes.get(i + 1) == quote) {
+                    scratch[scratchLength++] = (byte) quote;
+                    i += 2;
+                } else {
+                    quoted = !quoted;
+                    i++;
+                }
+            } else if (quoted && b == escape && i + 1 < end
+                    && (bytes.get(i + 1) == quote || bytes.get(i + 1) == escape)) {
+                scratch[scratchLength++] = bytes.get(i + 1);
+                i += 2;
+            } else if (b == delimiter && !quoted) {
+                break;
+            } else {
+                scratch[scratchLength++] = b;
+                i++;
+            }
+        }
+        addCell(scratchStart, scratchLength, true);
+        return i;
+    }
+
+    /**
+     * @return {@code true} if the bytes between {@code from} (inclusive) and {@code to} (exclusive) are all spaces
+     * or tabs.
+     */
+    private static boolean isLeadingWhitespace(MappedByteBuffer bytes, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (bytes.get(i) != ' ' && bytes.get(i) != '\t') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void ensureScratch(int additional) {
+        if (scratchLength + additional > scratch.length) {
+            scratch = Arrays.copyOf(scratch, Math.max(scratch.length * 2, scratchLength + additional));
+            scratchBuffer = ByteBuffer.wrap(scratch);
+        }
+    }
+
+    private void addCell(int start, int end, boolean inScratch) {
+        if (cellCount == cellStarts.length) {
+            cellStarts = Arrays.copyOf(cellStarts, cellCount * 2);
+            cellEnds = Arrays.copyOf(cellEnds, cellCount * 2);
+            scratchCells = Arrays.copyOf(scratchCells, cellCount * 2);
+        }
+        cellStarts[cellCount] = start;
+        cellEnds[cellCount] = end;
+        scratchCells[cellCount] = inScratch;
+        cellCount++;
+    }
+
+    @Override
+    public long offset() throws IOException {
+        if (skipLineFeed) {
+            skipLineFeed = false;
+            if ((position < limit || remap(0)) && window.get(position) == '\n') {
+                position++;
+            }
+        }
+        return windowStart + position;
+    }
+
+    @Override
+    public void limitCells(int cellLimit) {
+        this.cellLimit = cellLimit;
+    }
+
+    @Override
+    public int cellCount() {
+        return cellCount;
+    }
+
+    @Override
+    public CharSequence cell(int index) {
+        Objects.checkIndex(index, cellCount);
+        view.reset(scratchCells[index] ? scratchBuffer : window, cellStarts[index], cellEnds[index]);
+        return view;
+    }
+
+    @Override
+    public String[] cellStrings() {
+        String[] cells = new String[cellCount];
+        for (int i = 0; i < cellCount; i++) {
+            ByteBuffer source = scratchCells[i] ? scratchBuffer : window;
+            cells[i] = decode(source, cellStarts[i], cellEnds[i], asciiRecord || isAscii(source, cellStarts[i], cellEnds[i]));
+        }
+        return cells;
+    }
+
+    private String decode(ByteBuffer source, int start, int end, boolean ascii) {
+        int length = end - start;
+        if (copyBuffer.length < length) {
+            copyBuffer = new byte[Math.max(length, copyBuffer.length * 2)];
+        }
+        source.get(start, copyBuffer, 0, length);
+        return new String(copyBuffer, 0, length, ascii ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8);
+    }
+
+    private static boolean isAscii(ByteBuffer source, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (source.get(i) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Unmaps the current window and closes the channel. Cell views must not be used afterwards.
+     */
+    @Override
+    public void close() throws IOException {
+        MappedByteBuffer current = window;
+        window = null;
+        position = limit = 0;
+        cellCount = 0;
+        unmap(current);
+        channel.close();
+    }
+
+    /**
+     * Releases a mapping immediately if the JVM allows it, or leaves it to the garbage collector otherwise.
+     */
+    private static void unmap(MappedByteBuffer buffer) {
+        if (buffer == null || INVOKE_CLEANER == null) {
+            return;
+        }
+        try {
+            INVOKE_CLEANER.invoke((ByteBuffer) buffer);
+        } catch (Throwable e) {
+            logger.debug("Could not unmap a mapped window, leaving it to the garbage collector", e);
+        }
+    }
+
+    private static MethodHandle findCleaner() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            return MethodHandles.lookup()
+                    .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                    .bindTo(theUnsafe.get(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            logger.debug("Mapped windows cannot be unmapped explicitly and will be released by the garbage collector", e);
+            return null;
+        }
+    }
+
+    /**
+     * A reusable view of one cell in the mapped window or in the scratch buffer. ASCII cells are read in place;
+     * other cells are decoded when the view is positioned on them.
+     */
+    private final class CellView implements CharSequence {
+        private ByteBuffer source;
+        private int start;
+        private int end;
+        private String decoded;
+
+        private void reset(ByteBuffer source, int start, int end) {
+            this.source = source;
+            this.start = start;
+            this.end = end;
+            this.decoded = asciiRecord || isAscii(source, start, end) ? null : decode(source, start, end, false);
+        }
+
+        @Override
+        public int length() {
+            return decoded == null ? end - start : decoded.length();
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (decoded != null) {
+                return decoded.charAt(index);
+            }
+            Objects.checkIndex(index, end - start);
+            return (char) source.get(start + index);
+        }
+
+        @Override
+        public CharSequence subSequence(int from, int to) {
+            if (decoded != null) {
+                return decoded.substring(from, to);
+            }
+            Objects.checkFromToIndex(from, to, end - start);
+            return decode(source, start + from, start + to, true);
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return start == end;
+        }
+
+        @Override
+        public String toString() {
+            return decoded != null ? decoded : decode(source, start, end, true);
+        }
+    }
+}
@@ -0,0 +1,650 @@
+package io.github.serkankarabulut.sheetmapper.internal;
+
+import io.github.serkankarabulut.sheetmapper.annotation.Column;
+import io.github.serkankarabulut.sheetmapper.exception.SheetMappingException;
+import io.github.serkankarabulut.sheetmapper.generated.GeneratedMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * An immutable, precompiled description of how rows are mapped to a target class.
+ * <p>
+ * This class is intended for internal use within the SheetMapper library only. Scanning a class for
+ * {@link Column} annotations and resolving its constructor is relatively expensive, so the result is computed
+ * once per class and cached for the lifetime of that class in a {@link ClassValue}. Subsequent mappings of
+ * the same class reuse the cached plan.
+ * <p>
+ * The plan holds no reflective objects on the row hot path: instances are created through a
+ * {@link LambdaMetafactory}-generated {@link Supplier} and fields are written through {@link FieldWriter}s.
+ * If the class has a {@link GeneratedMapper} produced at compile time, the plan is built from it and the class
+ * is not scanned: only the annotations of its mapped fields are read, for their fixed-width positions.
+ * <p>
+ * Records, and classes with a constructor whose parameters are annotated with {@link Column}, are instantiated
+ * through that constructor instead. Its arguments are the leading {@link #argumentCount()} columns of the plan:
+ * converted values are gathered into an {@link Arguments} buffer and passed to a cached constructor handle that
+ * reads every parameter from its slot, so that no argument array is allocated per row. Primitive arguments have
+ * typed slots and are never boxed, like primitive fields. Fields annotated with {@link Column} are written after
+ * construction, as usual.
+ *
+ * @param <T> The type of the target class.
+ * @author Serkan Karabulut
+ */
+public final class MappingPlan<T> {
+    private static final Logger logger = LoggerFactory.getLogger(MappingPlan.class);
+
+    private static final ClassValue<MappingPlan<?>> PLANS = new ClassValue<>() {
+        @Override
+        protected MappingPlan<?> computeValue(Class<?> type) {
+            return build(type);
+        }
+    };
+
+    private final Class<T> type;
+    private final Supplier<T> instantiator;
+    private final MethodHandle constructor;
+    private final int parameterCount;
+    private final List<ColumnMapping> columns;
+    private final int argumentCount;
+
+    private MappingPlan(Class<T> type, Supplier<T> instantiator, List<ColumnMapping> columns) {
+        this(type, instantiator, null, 0, columns);
+    }
+
+    private MappingPlan(Class<T> type, Supplier<T> instantiator, MethodHandle constructor, int parameterCount,
+                        List<ColumnMapping> columns) {
+        this.type = type;
+        this.instantiator = instantiator;
+        this.constructor = constructor;
+        this.parameterCount = parameterCount;
+        this.columns = List.copyOf(columns);
+        int count = 0;
+        while (count < columns.size() && columns.get(count).writer().isArgument()) {
+            count++;
+        }
+        this.argumentCount = count;
+    }
+
+    /**
+     * Returns the mapping plan for the given class, building and caching it on first use.
+     *
+     * @param type The target class.
+     * @param <T>  The type of the target class.
+     * @return The cached mapping plan.
+     * @throws SheetMappingException if the class has no accessible no-arg or annotated constructor, is abstract,
+     *                               has no fields or parameters annotated with {@link Column}, or maps two fields
+     *                               to the same column.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> MappingPlan<T> of(Class<T> type) {
+        return (MappingPlan<T>) PLANS.get(type);
+    }
+
+    /**
+     * Scans the given class and builds a new mapping plan for it.
+     *
+     * @param type The class to scan.
+     * @param <T>  The type of the class.
+     * @return A new mapping plan.
+     * @throws SheetMappingException if the class cannot be mapped.
+     */
+    private static <T> MappingPlan<T> build(Class<T> type) {
+        GeneratedMapper<T> generatedMapper = findGeneratedMapper(type);
+        if (generatedMapper != null) {
+            return fromGeneratedMapper(type, generatedMapper);
+        }
+
+        List<ColumnMapping> columns = new ArrayList<>();
+        Set<String> columnNames = new HashSet<>();
+        Constructor<T> columnConstructor = findColumnConstructor(type);
+        if (columnConstructor != null) {
+            addConstructorColumns(type, columnConstructor, columns, columnNames);
+            MethodHandle constructorHandle = createConstructorHandle(type, columnConstructor);
+            addFieldColumns(type, columns, columnNames);
+            return newPlan(new MappingPlan<>(type, null, constructorHandle, columnConstructor.getParameterCount(), columns));
+        }
+
+        Constructor<T> constructor;
+        try {
+            constructor = type.getDeclaredConstructor();
+        } catch (NoSuchMethodException e) {
+            logger.error("Class must have a no-arg constructor: {}", type.getName(), e);
+            throw new SheetMappingException("Class must have a no-arg constructor: " + type.getName(), e);
+        }
+        Supplier<T> instantiator = createInstantiator(type, constructor);
+        addFieldColumns(type, columns, columnNames);
+        return newPlan(new MappingPlan<>(type, instantiator, columns));
+    }
+
+    private static <T> MappingPlan<T> newPlan(MappingPlan<T> plan) {
+        if (plan.columns.isEmpty()) {
+            logger.error("No fields annotated with @Column found in class: {}", plan.type.getName());
+            throw new SheetMappingException("No fields annotated with @Column found in class: " + plan.type.getName());
+        }
+        logger.debug("Built mapping plan for {} with {} columns", plan.type.getName(), plan.columns.size());
+        return plan;
+    }
+
+    /**
+     * Finds the constructor the target class is instantiated through when it cannot be instantiated empty: the
+     * canonical constructor of a record, or the constructor of a class whose parameters are annotated with
+     * {@link Column}.
+     *
+     * @param type The target class.
+     * @param <T>  The type of the target class.
+     * @return The constructor, or {@code null} if the class is instantiated through its no-arg constructor.
+     * @throws SheetMappingException if more than one constructor has annotated parameters.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> Constructor<T> findColumnConstructor(Class<T> type) {
+        if (type.isRecord()) {
+            RecordComponent[] components = type.getRecordComponents();
+            Class<?>[] parameterTypes = new Class<?>[components.length];
+            for (int i = 0; i < components.length; i++) {
+                parameterTypes[i] = components[i].getType();
+            }
+            try {
+                return type.getDeclaredConstructor(parameterTypes);
+            } catch (NoSuchMethodException e) {
+                logger.error("Error creating instance of class: {} has no canonical constructor", type.getName(), e);
+                throw new SheetMappingException("Error creating instance of class: " + type.getName(), e);
+            }
+        }
+        Constructor<T> found = null;
+        for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+            boolean annotated = false;
+            for (Parameter parameter : constructor.getParameters()) {
+                annotated |= parameter.isAnnotationPresent(Column.class);
+            }
+            if (!annotated) {
+                continue;
+            }
+            if (found != null) {
+                logger.error("More than one constructor has parameters annotated with @Column in class: {}", type.getName());
+                throw new SheetMappingException("More than one constructor has parameters annotated with @Column in class: " + type.getName());
+            }
+            found = (Constructor<T>) constructor;
+        }
+        return found;
+    }
+
+    /**
+     * Adds a column for every annotated parameter of the given constructor. For a record, the annotations of its
+     * components are used. Parameters without a column receive the default value of their type, which their slot
+     * in a new {@link Arguments} buffer already holds.
+     */
+    private static void addConstructorColumns(Class<?> type, Constructor<?> constructor,
+                                              List<ColumnMapping> columns, Set<String> columnNames) {
+        Parameter[] parameters = constructor.getParameters();
+        RecordComponent[] components = type.isRecord() ? type.getRecordComponents() : null;
+        for (int i = 0; i < parameters.length; i++) {
+            Class<?> parameterType = parameters[i].getType();
+
+            String name;
+            Column columnAnnotation;
+            if (components != null) {
+                name = components[i].getName();
+                columnAnnotation = getRecordComponentColumn(type, components[i]);
+            } else {
+                name = parameters[i].isNamePresent() ? parameters[i].getName() : null;
+                columnAnnotation = parameters[i].getAnnotation(Column.class);
+            }
+            if (columnAnnotation == null) {
+                continue;
+            }
+            String columnName = isBlank(columnAnnotation.name()) ? name : columnAnnotation.name();
+            if (columnName == null) {
+                logger.error("Constructor parameter {} of class {} must specify a column name", parameters[i].getName(), type.getName());
+                throw new SheetMappingException("Constructor parameter " + parameters[i].getName()
+                        + " must specify a column name in class: " + type.getName());
+            }
+            addColumn(type, columns, columnNames, newColumn(type, columnName,
+                    FieldWriter.argument(i, name != null ? name : parameters[i].getName(), parameterType), columnAnnotation));
+        }
+    }
+
+    /**
+     * Reads the {@link Column} annotation of a record component, which is propagated to its private field.
+     */
+    private static Column getRecordComponentColumn(Class<?> type, RecordComponent component) {
+        try {
+            return type.getDeclaredField(component.getName()).getAnnotation(Column.class);
+        } catch (NoSuchFieldException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Adds a column for every field of the given class annotated with {@link Column}, in declaration order.
+     * The fields of a record are its components and are handled by {@link #addConstructorColumns}.
+     */
+    private static void addFieldColumns(Class<?> type, List<ColumnMapping> columns, Set<String> columnNames) {
+        if (type.isRecord()) {
+            return;
+        }
+        for (Field field : type.getDeclaredFields()) {
+            if (!field.isAnnotationPresent(Column.class)) {
+                continue;
+            }
+            String columnName = getColumnName(field);
+            field.setAccessible(true);
+            addColumn(type, columns, columnNames,
+                    newColumn(type, columnName, createWriter(type, field), field.getAnnotation(Column.class)));
+        }
+    }
+
+    /**
+     * Creates a column, with the index and the fixed-width position declared by its annotation, if any.
+     *
+     * @throws SheetMappingException if the annotation declares a negative index, only one of a start and a length,
+     *                               or an invalid one.
+     */
+    private static ColumnMapping newColumn(Class<?> type, String columnName, FieldWriter writer, Column columnAnnotation) {
+        int index = columnAnnotation != null ? columnAnnotation.index() : -1;
+        if (index < -1) {
+            logger.error("Column '{}' of class {} has a negative index: {}", columnName, type.getName(), index);
+            throw new SheetMappingException("Column '" + columnName + "' must have an index of at least 0 in class: "
+                    + type.getName());
+        }
+        int start = columnAnnotation != null ? columnAnnotation.start() : -1;
+        int length = columnAnnotation != null ? columnAnnotation.length() : -1;
+        if ((start != -1 || length != -1) && (start < 0 || length <= 0)) {
+            logger.error("Column '{}' of class {} has an invalid fixed-width position: start {}, length {}",
+                    columnName, type.getName(), start, length);
+            throw new SheetMappingException("Column '" + columnName + "' must have a start of at least 0 and a length"
+                    + " greater than 0 in class: " + type.getName());
+        }
+        return new ColumnMapping(columnName, writer, index, start, length);
+    }
+
+    private static void addColumn(Class<?> type, List<ColumnMapping> columns, Set<String> columnNames, ColumnMapping column) {
+        if (!columnNames.add(column.name())) {
+            logger.error("Column '{}' is mapped by more than one field in class: {}", column.name(), type.getName());
+            throw new SheetMappingException("Column '" + column.name() + "' is mapped by more than one field in class: " + type.getName());
+        }
+        columns.add(column);
+    }
+
+    /**
+     * Looks up the mapper generated at compile time for the given class by the {@code sheetmapper-processor}
+     * annotation processor.
+     *
+     * @param type The target class.
+     * @param <T>  The type of the target class.
+     * @return The generated mapper, or {@code null} if the class has none.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> GeneratedMapper<T> findGeneratedMapper(Class<T> type) {
+        ClassLoader classLoader = type.getClassLoader();
+        if (classLoader == null) {
+            return null;
+        }
+        Class<?> mapperClass;
+        try {
+            mapperClass = Class.forName(type.getName() + GeneratedMapper.CLASS_NAME_SUFFIX, true, classLoader);
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+        if (!GeneratedMapper.class.isAssignableFrom(mapperClass)) {
+            return null;
+        }
+        try {
+            GeneratedMapper<T> mapper = (GeneratedMapper<T>) mapperClass.getDeclaredConstructor().newInstance();
+            if (mapper.type() != type) {
+                logger.warn("Ignoring generated mapper {} because it targets {}", mapperClass.getName(), mapper.type());
+                return null;
+            }
+            return mapper;
+        } catch (ReflectiveOperationException e) {
+            logger.warn("Ignoring generated mapper {} because it cannot be instantiated", mapperClass.getName(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Builds a mapping plan that instantiates and populates the target class through its generated mapper.
+     *
+     * @param type   The target class.
+     * @param mapper The generated mapper of the target class.
+     * @param <T>    The type of the target class.
+     * @return A new mapping plan.
+     */
+    private static <T> MappingPlan<T> fromGeneratedMapper(Class<T> type, GeneratedMapper<T> mapper) {
+        String[] columnNames = mapper.columnNames();
+        String[] fieldNames = mapper.fieldNames();
+        List<ColumnMapping> columns = new ArrayList<>(columnNames.length);
+        for (int i = 0; i < columnNames.length; i++) {
+            columns.add(newColumn(type, columnNames[i], FieldWriter.generated(mapper, i), getFieldColumn(type, fieldNames[i])));
+        }
+        logger.debug("Built mapping plan for {} from generated mapper with {} columns", type.getName(), columns.size());
+        return new MappingPlan<>(type, mapper::newInstance, columns);
+    }
+
+    /**
+     * Reads the {@link Column} annotation of a field written by a generated mapper, for its fixed-width position.
+     */
+    private static Column getFieldColumn(Class<?> type, String fieldName) {
+        try {
+            return type.getDeclaredField(fieldName).getAnnotation(Column.class);
+        } catch (NoSuchFieldException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Creates a {@link Supplier} that invokes the no-arg constructor of the target class.
+     * <p>
+     * The supplier is spun by {@link LambdaMetafactory}, which makes instantiation a plain constructor call that
+     * the JIT can inline. If the metafactory cannot be used for the class, a supplier invoking the constructor
+     * handle is returned instead. The constructor is subject to the usual access checks: it must be accessible
+     * to the library without suppressing Java language access control.
+     *
+     * @param type        The target class.
+     * @param constructor The no-arg constructor of the target class.
+     * @param <T>         The type of the target class.
+     * @return A supplier of new instances.
+     * @throws SheetMappingException if the class is abstract or the constructor is not accessible.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> Supplier<T> createInstantiator(Class<T> type, Constructor<T> constructor) {
+        if (Modifier.isAbstract(type.getModifiers())) {
+            logger.error("Error creating instance of class: {} is abstract", type.getName());
+            throw new SheetMappingException("Error creating instance of class: " + type.getName());
+        }
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodHandle constructorHandle;
+        try {
+            constructorHandle = lookup.unreflectConstructor(constructor);
+        } catch (IllegalAccessException e) {
+            logger.error("Error creating instance of class: {}", type.getName(), e);
+            throw new SheetMappingException("Error creating instance of class: " + type.getName(), e);
+        }
+        if (!isVisibleToLibrary(type)) {
+            logger.debug("Using a method handle instantiator for class: {} is not visible to the library's class loader",
+                    type.getName());
+            return handleInstantiator(constructorHandle);
+        }
+        try {
+            CallSite callSite = LambdaMetafactory.metafactory(lookup, "get",
+                    MethodType.methodType(Supplier.class), MethodType.methodType(Object.class),
+                    constructorHandle, MethodType.methodType(type));
+            return (Supplier<T>) callSite.getTarget().invokeExact();
+        } catch (Throwable e) {
+            logger.debug("Falling back to a method handle instantiator for class: {}", type.getName(), e);
+            return handleInstantiator(constructorHandle);
+        }
+    }
+
+    /**
+     * Checks whether the given class is the class its name resolves to from the class loader of the library. The
+     * class spun by {@link LambdaMetafactory} for the library's lookup is defined in that loader and refers to the
+     * target class by name, so it cannot link against a class loaded by a child loader, such as the loader of a
+     * plugin or a web application.
+     */
+    private static boolean isVisibleToLibrary(Class<?> type) {
+        try {
+            return Class.forName(type.getName(), false, MappingPlan.class.getClassLoader()) == type;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Creates a {@link Supplier} that invokes the given no-arg constructor handle.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> Supplier<T> handleInstantiator(MethodHandle constructorHandle) {
+        MethodHandle erasedHandle = constructorHandle.asType(MethodType.methodType(Object.class));
+        return () -> {
+            try {
+                return (T) erasedHandle.invokeExact();
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    /**
+     * Creates a handle that invokes the given constructor with every argument read from its slot in the arrays of
+     * an {@link Arguments} buffer. Like the no-arg constructor, it must be accessible to the library without
+     * suppressing access control.
+     *
+     * @param type        The target class.
+     * @param constructor The constructor mapped columns are passed to.
+     * @return A handle of type {@code (Object[], long[], double[])Object}.
+     * @throws SheetMappingException if the class is abstract or the constructor is not accessible.
+     */
+    private static MethodHandle createConstructorHandle(Class<?> type, Constructor<?> constructor) {
+        if (Modifier.isAbstract(type.getModifiers())) {
+            logger.error("Error creating instance of class: {} is abstract", type.getName());
+            throw new SheetMappingException("Error creating instance of class: " + type.getName());
+        }
+        MethodHandle constructorHandle;
+        try {
+            constructorHandle = MethodHandles.lookup().unreflectConstructor(constructor);
+        } catch (IllegalAccessException e) {
+            logger.error("Error creating instance of class: {}", type.getName(), e);
+            throw new SheetMappingException("Error creating instance of class: " + type.getName(), e);
+        }
+        Class<?>[] parameterTypes = constructor.getParameterTypes();
+        MethodHandle[] slotReaders = new MethodHandle[parameterTypes.length];
+        int[] slotArrays = new int[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            Class<?> slotArray = Arguments.slotArray(parameterTypes[i]);
+            MethodHandle reader = MethodHandles.insertArguments(MethodHandles.arrayElementGetter(slotArray), 1, i);
+            slotReaders[i] = MethodHandles.explicitCastArguments(reader, MethodType.methodType(parameterTypes[i], slotArray));
+            slotArrays[i] = slotArray == Object[].class ? 0 : slotArray == long[].class ? 1 : 2;
+        }
+        MethodHandle spread = MethodHandles.filterArguments(constructorHandle, 0, slotReaders);
+        return MethodHandles.permuteArguments(spread.asType(spread.type().changeReturnType(Object.class)),
+                MethodType.methodType(Object.class, Object[].class, long[].class, double[].class), slotArrays);
+    }
+
+    /**
+     * Creates the {@link FieldWriter} for a mapped field.
+     *
+     * @param type  The target class.
+     * @param field The mapped field, already made accessible.
+     * @return A writer for the field.
+     * @throws SheetMappingException if the field cannot be written to.
+     */
+    private static FieldWriter createWriter(Class<?> type, Field field) {
+        try {
+            return FieldWriter.of(field);
+        } catch (IllegalAccessException e) {
+            logger.error("Field '{}' of class {} cannot be written to", field.getName(), type.getName(), e);
+            throw new SheetMappingException("Field '" + field.getName() + "' cannot be written to in class: " + type.getName(), e);
+        }
+    }
+
+    /**
+     * Determines the column name for a given field based on its {@link Column} annotation.
+     * If the annotation's {@code name} attribute is set, it is used; otherwise, the field's name is used.
+     *
+     * @param field The field to inspect.
+     * @return The name of the column to map to this field.
+     */
+    private static String getColumnName(Field field) {
+        Column columnAnnotation = field.getAnnotation(Column.class);
+        String name = columnAnnotation.name();
+        return isBlank(name) ? field.getName() : name;
+    }
+
+    private static boolean isBlank(String name) {
+        return name == null || name.trim().isEmpty();
+    }
+
+    /**
+     * @return The target class of this plan.
+     */
+    public Class<T> type() {
+        return type;
+    }
+
+    /**
+     * @return The mapped columns: constructor arguments first, in parameter order, then fields in declaration order.
+     */
+    public List<ColumnMapping> columns() {
+        return columns;
+    }
+
+    /**
+     * @return The number of leading {@link #columns()} that are passed to the constructor, or {@code 0} if the class
+     *         is instantiated through its no-arg constructor.
+     */
+    public int argumentCount() {
+        return argumentCount;
+    }
+
+    /**
+     * @return A new argument buffer for {@link #newInstance(Arguments)}, holding the default value of every
+     *         constructor parameter, or {@code null} if the class is instantiated through its no-arg constructor.
+     */
+    public Arguments newArgumentBuffer() {
+        return constructor != null ? new Arguments(parameterCount) : null;
+    }
+
+    /**
+     * Creates a new, empty instance of the target class through its no-arg constructor.
+     *
+     * @return A new instance.
+     * @throws SheetMappingException if the constructor throws an exception or the class cannot be linked.
+     * @throws IllegalStateException if the class is instantiated through a constructor with arguments.
+     */
+    public T newInstance() {
+        if (instantiator == null) {
+            throw new IllegalStateException("Class is instantiated through a constructor with arguments: " + type.getName());
+        }
+        try {
+            return instantiator.get();
+        } catch (Exception | LinkageError e) {
+            logger.error("Error creating instance of class: {}", type.getName(), e);
+            throw new SheetMappingException("Error creating instance of class: " + type.getName(), e);
+        }
+    }
+
+    /**
+     * Creates a new instance of the target class through the constructor the argument columns are passed to.
+     *
+     * @param arguments The argument buffer obtained from {@link #newArgumentBuffer()}, populated by the writers of
+     *                  the argument columns.
+     * @return A new instance.
+     * @throws SheetMappingException if the constructor throws an exception or the class cannot be linked.
+     */
+    @SuppressWarnings("unchecked")
+    public T newInstance(Arguments arguments) {
+        try {
+            return (T) constructor.invokeExact(arguments.references, arguments.longs, arguments.doubles);
+        } catch (Throwable e) {
+            if (e instanceof Error error && !(e instanceof LinkageError)) {
+                throw error;
+            }
+            logger.error("Error creating instance of class: {}", type.getName(), e);
+            throw new SheetMappingException("Error creating instance of class: " + type.getName(), e);
+        }
+    }
+
+    /**
+     * The argument buffer of a constructor: one slot per parameter, in the array matching its type. References are
+     * stored in {@code references}, integral values, {@code char} and {@code boolean} as a {@code long}, and
+     * floating-point values as a {@code double}, so that primitive arguments are never boxed. A new buffer holds
+     * {@code null}, {@code 0} or {@code false} in every slot, the default value of every parameter.
+     */
+    public static final class Arguments {
+        final Object[] references;
+        final long[] longs;
+        final double[] doubles;
+
+        private Arguments(int parameterCount) {
+            this.references = new Object[parameterCount];
+            this.longs = new long[parameterCount];
+            this.doubles = new double[parameterCount];
+        }
+
+        /**
+         * @return The type of the array holding the slot of a parameter of the given type.
+         */
+        static Class<?> slotArray(Class<?> parameterType) {
+            if (!parameterType.isPrimitive()) {
+                return Object[].class;
+            }
+            return parameterType == double.class || parameterType == float.class ? double[].class : long[].class;
+        }
+    }
+
+    /**
+     * A single column of the plan: the name of the column in the sheet header, the writer of the field or
+     * constructor argument it is mapped to, its cell index if it is bound by position, and its position in the lines
+     * of a fixed-width file.
+     *
+     * @param name   The column name.
+     * @param writer The writer of the target field.
+     * @param index  The index of the cell the column is bound to, or {@code -1} if it is bound by its name.
+     * @param start  The position of the column in a fixed-width line, or {@code -1} if it has none.
+     * @param length The width of the column in a fixed-width line, or {@code -1} if it has none.
+     */
+    public record ColumnMapping(String name, FieldWriter writer, int index, int start, int length) {
+
+        /**
+         * Creates a column that is bound by its name and has no fixed-width position.
+         *
+         * @param name   The column name.
+         * @param writer The writer of the target field.
+         */
+        public ColumnMapping(String name, FieldWriter writer) {
+            this(name, writer, -1, -1, -1);
+        }
+
+        /**
+         * @return {@code true} if the column is bound to the cell at {@link #index()} instead of by its name.
+         */
+        public boolean hasIndex() {
+            return index >= 0;
+        }
+
+        /**
+         * @return {@code true} if the column has a position in the lines of a fixed-width file.
+         */
+        public boolean hasFixedWidth() {
+            return start >= 0;
+        }
+
+        /**
+         * @return The target field, or {@code null} if it is a constructor argument or written by a generated mapper.
+         */
+        public Field field() {
+            return writer.field();
+        }
+
+        /**
+         * @return The name of the target field.
+         */
+        public String fieldName() {
+            return writer.fieldName();
+        }
+
+        /**
+         * @return The declared type of the target field.
+         */
+        public Class<?> type() {
+            return writer.fieldType();
+        }
+    }
+}
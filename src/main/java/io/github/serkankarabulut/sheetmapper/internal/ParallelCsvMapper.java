@@ -0,0 +1,585 @@
+package io.github.serkankarabulut.sheetmapper.internal;
+
+import io.github.serkankarabulut.sheetmapper.parser.SheetFormat;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Maps the data rows of a single CSV file on several threads by splitting the file into byte ranges.
+ * <p>
+ * This class is intended for internal use within the SheetMapper library only. The data rows are divided into
+ * ranges of roughly equal size. A record boundary cannot be located from an arbitrary offset alone, because a line
+ * break may be part of a quoted cell, so every range speculatively starts after the first line break at or after its
+ * nominal start, and is mapped on a {@link ForkJoinPool} from there. Each range maps every record that starts before
+ * the nominal end of the range, and reports the offset where the following record starts.
+ * <p>
+ * Ranges are then verified in file order: the first range starts at a known record boundary, so its end offset is
+ * exact, and a range whose speculative start matches the end of its predecessor was parsed correctly. A range whose
+ * start was guessed wrong (because its first line break was inside quotes) is discarded and mapped again from the
+ * correct offset. A wrong guess inverts the quoted state, so the rest of the file may look like a single quoted cell;
+ * a speculative range therefore reads at most one minimum range size past its nominal end, and a range that reaches
+ * that limit is mapped again from its verified start as well. Rows are returned in file order, and if a row cannot be mapped, the failure of the first such row
+ * in file order is thrown, exactly as if the file had been mapped sequentially.
+ * <p>
+ * When row order does not matter, {@link #mapUnordered(Supplier, int)} and
+ * {@link #mapUnordered(Supplier, int, Consumer)} avoid waiting for ranges in file order. Rows cannot be handed out
+ * before their range is verified, so these methods locate the exact record boundaries first: every range is scanned
+ * for quotes in parallel, and the parity of the quotes before each range, which tells whether its first line break
+ * is quoted, is accumulated in file order. The scan is much cheaper than mapping, and no range is ever mapped twice.
+ * <p>
+ * The file is read as UTF-8, either through buffered reads or through memory mappings, in any {@link SheetFormat}
+ * without an escape character: an escaped quote does not change the quoted state, so the quote parity of a range
+ * would not tell whether its first line break is quoted. Every range gets its own
+ * {@link RowMapper}, so converters registered in the {@link io.github.serkankarabulut.sheetmapper.converter.ConverterRegistry}
+ * must be thread-safe.
+ *
+ * @author Serkan Karabulut
+ */
+public final class ParallelCsvMapper {
+    private static final Logger logger = LoggerFactory.getLogger(ParallelCsvMapper.class);
+
+    /**
+     * The smallest range worth mapping on its own thread.
+     */
+    static final long DEFAULT_MIN_RANGE_SIZE = 1024 * 1024;
+
+    /**
+     * The number of ranges per thread, so that threads that finish early can take over work.
+     */
+    private static final int RANGES_PER_THREAD = 4;
+
+    private final Path file;
+    private final boolean memoryMapping;
+    private final SheetFormat format;
+    private final int quote;
+    private final byte carriageReturn;
+    private final long minRangeSize;
+    private long dataStart = -1;
+    private int cellLimit = Integer.MAX_VALUE;
+
+    /**
+     * Creates a mapper for the given file.
+     *
+     * @param file          The CSV file, encoded in UTF-8 or ASCII.
+     * @param memoryMapping {@code true} to read the file through memory mappings instead of buffered reads.
+     */
+    public ParallelCsvMapper(Path file, boolean memoryMapping) {
+        this(file, memoryMapping, SheetFormat.CSV);
+    }
+
+    /**
+     * Creates a mapper for the given file of the given format.
+     *
+     * @param file          The file, encoded in UTF-8 or ASCII.
+     * @param memoryMapping {@code true} to read the file through memory mappings instead of buffered reads.
+     * @param format        The format of the file. It must not have an escape character.
+     * @throws IllegalArgumentException if the format has an escape character.
+     */
+    public ParallelCsvMapper(Path file, boolean memoryMapping, SheetFormat format) {
+        this(file, memoryMapping, format, DEFAULT_MIN_RANGE_SIZE);
+    }
+
+    ParallelCsvMapper(Path file, boolean memoryMapping, SheetFormat format, long minRangeSize) {
+        if (format.hasEscape()) {
+            throw new IllegalArgumentException("Files with an escape character cannot be split into ranges: " + format);
+        }
+        this.file = file;
+        this.memoryMapping = memoryMapping;
+        this.format = format;
+        this.quote = CsvTokenizer.quoteOf(format);
+        this.carriageReturn = (byte) CsvTokenizer.carriageReturnOf(format);
+        this.minRangeSize = minRangeSize;
+    }
+
+    /**
+     * Reads the header row. Must be called before the data rows are mapped, unless the file has
+     * {@linkplain #noHeader() no header row}.
+     *
+     * @return The cells of the header row, or {@code null} if the file is empty.
+     * @throws IOException if the file cannot be read.
+     */
+    public String[] readHeader() throws IOException {
+        try (ByteRangeTokenizer tokenizer = open(0, Long.MAX_VALUE)) {
+            if (!tokenizer.nextRecord()) {
+                return null;
+            }
+            String[] headers = tokenizer.cellStrings();
+            dataStart = tokenizer.offset();
+            return headers;
+        }
+    }
+
+    /**
+     * Marks the file as having no header row, so that its first record is a data row. Must be called instead of
+     * {@link #readHeader()}.
+     */
+    public void noHeader() {
+        dataStart = 0;
+    }
+
+    /**
+     * Limits the cells split from every data row, like {@link CsvProcessor#limitCells(int)}.
+     *
+     * @param cellLimit The number of leading cells to read from every row. Must be greater than zero.
+     */
+    public void limitCells(int cellLimit) {
+        this.cellLimit = cellLimit;
+    }
+
+    /**
+     * Maps all data rows on a dedicated pool of the given size.
+     *
+     * @param rowMappers  Creates a row mapper for every range. Row mappers are not shared between threads.
+     * @param parallelism The number of threads.
+     * @param <T>         The type of the target class.
+     * @return The mapped rows, in file order.
+     * @throws IOException if the file cannot be read or is malformed.
+     */
+    public <T> List<T> mapOrdered(Supplier<RowMapper<T>> rowMappers, int parallelism) throws IOException {
+        if (dataStart < 0) {
+            throw new IllegalStateException("The header row has not been read");
+        }
+        long[] boundaries = nominalBoundaries(parallelism);
+        int rangeCount = boundaries.length - 1;
+        if (rangeCount == 1) {
+            Range<T> range = mapRange(dataStart, boundaries[1], Long.MAX_VALUE, rowMappers);
+            return range.rowsOrThrow();
+        }
+
+        List<ForkJoinTask<Range<T>>> tasks = new ArrayList<>(rangeCount);
+        try (ForkJoinPool pool = new ForkJoinPool(parallelism)) {
+            for (int i = 0; i < rangeCount; i++) {
+                long nominalStart = boundaries[i];
+                long stop = boundaries[i + 1];
+                boolean first = i == 0;
+                tasks.add(pool.submit(() -> {
+                    if (first) {
+                        return mapRange(dataStart, stop, Long.MAX_VALUE, rowMappers);
+                    }
+                    long limit = stop == Long.MAX_VALUE ? Long.MAX_VALUE : stop + minRangeSize;
+                    return mapRange(speculativeStart(nominalStart), stop, limit, rowMappers);
+                }));
+            }
+
+            List<T> rows = new ArrayList<>();
+            long expectedStart = dataStart;
+            for (int i = 0; i < rangeCount; i++) {
+                Range<T> range = tasks.get(i).join();
+                if (range.start != expectedStart || range.truncated) {
+                    logger.debug("Range {} started inside a quoted cell at offset {} or ran past its limit, mapping it again from offset {}", i, range.start, expectedStart);
+                    range = mapRange(expectedStart, boundaries[i + 1], Long.MAX_VALUE, rowMappers);
+                }
+                rows.addAll(range.rowsOrThrow());
+                expectedStart = range.end;
+            }
+            return rows;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Maps all data rows on a dedicated pool of the given size, without preserving their order. Every range collects
+     * its rows in a list of its own, and the lists are concatenated once all ranges are mapped.
+     *
+     * @param rowMappers  Creates a row mapper for every range. Row mappers are not shared between threads.
+     * @param parallelism The number of threads.
+     * @param <T>         The type of the target class.
+     * @return The mapped rows, in no particular order.
+     * @throws IOException if the file cannot be read or is malformed.
+     */
+    public <T> List<T> mapUnordered(Supplier<RowMapper<T>> rowMappers, int parallelism) throws IOException {
+        List<List<T>> chunks = mapUnordered(rowMappers, parallelism, ArrayList::new, List::add);
+        int size = 0;
+        for (List<T> chunk : chunks) {
+            size += chunk.size();
+        }
+        List<T> rows = new ArrayList<>(size);
+        for (List<T> chunk : chunks) {
+            rows.addAll(chunk);
+        }
+        return rows;
+    }
+
+    /**
+     * Maps all data rows on a dedicated pool of the given size, and passes every row to the sink as soon as it is
+     * mapped. The sink is called concurrently from several threads and must be thread-safe.
+     * <p>
+     * If a row cannot be mapped, ranges that have not started yet are skipped, and the failure is thrown once the
+     * running ranges have finished. Rows mapped until then have already been passed to the sink.
+     *
+     * @param rowMappers  Creates a row mapper for every range. Row mappers are not shared between threads.
+     * @param parallelism The number of threads.
+     * @param sink        Receives the mapped rows, in no particular order.
+     * @param <T>         The type of the target class.
+     * @throws IOException if the file cannot be read or is malformed.
+     */
+    public <T> void mapUnordered(Supplier<RowMapper<T>> rowMappers, int parallelism, Consumer<? super T> sink) throws IOException {
+        mapUnordered(rowMappers, parallelism, () -> sink, (target, row) -> target.accept(row));
+    }
+
+    /**
+     * Maps every range from its exact start into a target of its own.
+     *
+     * @param targets Creates the target of a range.
+     * @param adder   Adds a row to a target.
+     * @return The targets of all ranges, in file order.
+     */
+    private <T, C> List<C> mapUnordered(Supplier<RowMapper<T>> rowMappers, int parallelism, Supplier<C> targets,
+                                        BiConsumer<C, T> adder) throws IOException {
+        if (dataStart < 0) {
+            throw new IllegalStateException("The header row has not been read");
+        }
+        long[] boundaries = nominalBoundaries(parallelism);
+        int rangeCount = boundaries.length - 1;
+        if (rangeCount == 1) {
+            C target = targets.get();
+            mapRecords(dataStart, boundaries[1], Long.MAX_VALUE, rowMappers.get(), row -> adder.accept(target, row));
+            return List.of(target);
+        }
+
+        try (ForkJoinPool pool = new ForkJoinPool(parallelism)) {
+            long[] starts = exactStarts(boundaries, pool);
+            AtomicBoolean failed = new AtomicBoolean();
+            Exception[] failures = new Exception[rangeCount];
+            List<ForkJoinTask<C>> tasks = new ArrayList<>(rangeCount);
+            for (int i = 0; i < rangeCount; i++) {
+                int index = i;
+                long start = starts[i];
+                long stop = boundaries[i + 1];
+                tasks.add(pool.submit(() -> {
+                    C target = targets.get();
+                    if (!failed.get()) {
+                        try {
+                            mapRecords(start, stop, Long.MAX_VALUE, rowMappers.get(), row -> adder.accept(target, row));
+                        } catch (IOException | RuntimeException e) {
+                            failures[index] = e;
+                            failed.set(true);
+                        }
+                    }
+                    return target;
+                }));
+            }
+
+            List<C> results = new ArrayList<>(rangeCount);
+            for (ForkJoinTask<C> task : tasks) {
+                results.add(task.join());
+            }
+            for (Exception failure : failures) {
+                if (failure != null) {
+                    throw rethrow(failure);
+                }
+            }
+            return results;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Divides the data rows into ranges.
+     *
+     * @return The nominal offsets of the ranges, the last one being {@link Long#MAX_VALUE}.
+     */
+    private long[] nominalBoundaries(int parallelism) throws IOException {
+        long size;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            size = channel.size();
+        }
+        long dataSize = Math.max(0, size - dataStart);
+        long rangeCount = Math.max(1, Math.min((long) parallelism * RANGES_PER_THREAD, dataSize / Math.max(1, minRangeSize)));
+        long[] boundaries = new long[(int) rangeCount + 1];
+        for (int i = 0; i < rangeCount; i++) {
+            boundaries[i] = dataStart + dataSize * i / rangeCount;
+        }
+        boundaries[(int) rangeCount] = Long.MAX_VALUE;
+        return boundaries;
+    }
+
+    /**
+     * Guesses the first record boundary at or after the given offset: the offset after the first line break that
+     * ends at or after it.
+     */
+    private long speculativeStart(long nominalStart) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer block = ByteBuffer.allocate(8192);
+            long offset = nominalStart - 1;
+            boolean pendingCarriageReturn = false;
+            while (true) {
+                block.clear();
+                int read = channel.read(block, offset);
+                if (read < 0) {
+                    return offset;
+                }
+                for (int i = 0; i < read; i++) {
+                    byte b = block.get(i);
+                    if (pendingCarriageReturn) {
+                        return b == '\n' ? offset + i + 1 : offset + i;
+                    }
+                    if (b == '\n') {
+                        return offset + i + 1;
+                    }
+                    pendingCarriageReturn = b == carriageReturn;
+                }
+                offset += read;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Locates the first record boundary at or after the nominal start of every range.
+     * <p>
+     * A line break ends a record if it is preceded by an even number of quotes, counted from the first data row
+     * (doubled quotes inside a quoted cell count twice). Every range is scanned in parallel for its quote parity and,
+     * for either parity of the quotes before it, the first line break that would end a record. The parities are then
+     * accumulated in file order to pick the right line break.
+     *
+     * @return The exact start of every range.
+     */
+    private long[] exactStarts(long[] boundaries, ForkJoinPool pool) throws IOException {
+        int rangeCount = boundaries.length - 1;
+        long size;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            size = channel.size();
+        }
+        // Segment i covers the bytes before which a line break may end the last record before range i + 1
+        List<ForkJoinTask<Segment>> scans = new ArrayList<>(rangeCount);
+        for (int i = 0; i < rangeCount; i++) {
+            long from = i == 0 ? dataStart : boundaries[i] - 1;
+            long to = i + 1 < rangeCount ? boundaries[i + 1] - 1 : size;
+            scans.add(pool.submit(() -> scan(from, to)));
+        }
+        Segment[] segments = new Segment[rangeCount];
+        for (int i = 0; i < rangeCount; i++) {
+            segments[i] = scans.get(i).join();
+        }
+
+        long[] starts = new long[rangeCount];
+        starts[0] = dataStart;
+        boolean oddQuotes = segments[0].oddQuotes;
+        for (int i = 1; i < rangeCount; i++) {
+            long lineBreak = -1;
+            boolean odd = oddQuotes;
+            for (int j = i; j < rangeCount && lineBreak < 0; j++) {
+                lineBreak = odd ? segments[j].lineBreakAfterOdd : segments[j].lineBreakAfterEven;
+                odd ^= segments[j].oddQuotes;
+            }
+            starts[i] = lineBreak < 0 ? size : recordStartAfter(lineBreak);
+            oddQuotes ^= segments[i].oddQuotes;
+        }
+        return starts;
+    }
+
+    /**
+     * Scans the bytes between {@code from} (inclusive) and {@code to} (exclusive) for quotes and line breaks.
+     */
+    private Segment scan(long from, long to) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer block = ByteBuffer.allocate(CsvTokenizer.DEFAULT_BUFFER_SIZE);
+            byte[] bytes = block.array();
+            boolean quoted = false;
+            long lineBreakAfterEven = -1;
+            long lineBreakAfterOdd = -1;
+            long offset = from;
+            while (offset < to) {
+                block.clear().limit((int) Math.min(bytes.length, to - offset));
+                int read = channel.read(block, offset);
+                if (read < 0) {
+                    break;
+                }
+                for (int i = 0; i < read; i++) {
+                    byte b = bytes[i];
+                    if (b == quote) {
+                        quoted = !quoted;
+                    } else if (b == '\n' || b == carriageReturn) {
+                        if (!quoted && lineBreakAfterEven < 0) {
+                            lineBreakAfterEven = offset + i;
+                        } else if (quoted && lineBreakAfterOdd < 0) {
+                            lineBreakAfterOdd = offset + i;
+                        }
+                    }
+                }
+                offset += read;
+            }
+            return new Segment(quoted, lineBreakAfterEven, lineBreakAfterOdd);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the offset of the record that follows the line break at the given offset.
+     */
+    private long recordStartAfter(long lineBreak) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer pair = ByteBuffer.allocate(2);
+            channel.read(pair, lineBreak);
+            boolean crlf = pair.position() == 2 && pair.get(0) == '\r' && pair.get(1) == '\n';
+            return lineBreak + (crlf ? 2 : 1);
+        }
+    }
+
+    /**
+     * Maps every record that starts at or after {@code start} and before {@code stop}, reading no input at or after
+     * {@code limit}. A failure does not escape this method; it is recorded in the range, because it only counts if
+     * the range turns out to start at a real record boundary.
+     * <p>
+     * If the limit is before the end of the file and the last record reaches it, or mapping fails in any way, the
+     * last record may have been cut short by the limit, so the range is marked as truncated. A cut-off record
+     * usually fails to map, for example because it lacks its last cells, so the failure of a limited range is never
+     * trusted: the range is mapped again without a limit, which reproduces a genuine failure.
+     */
+    <T> Range<T> mapRange(long start, long stop, long limit, Supplier<RowMapper<T>> rowMappers) {
+        List<T> rows = new ArrayList<>();
+        boolean limited;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            limited = limit < channel.size();
+        } catch (IOException e) {
+            return new Range<>(start, -1, rows, e, false);
+        }
+        try {
+            long end = mapRecords(start, stop, limit, rowMappers.get(), rows::add);
+            return new Range<>(start, end, rows, null, limited && end >= limit);
+        } catch (IOException | RuntimeException e) {
+            return new Range<>(start, -1, rows, e, limited);
+        }
+    }
+
+    /**
+     * Maps every record that starts at or after {@code start} and before {@code stop} into the sink, reading no
+     * input at or after {@code limit}.
+     *
+     * @return The offset of the first record after the range.
+     */
+    private <T> long mapRecords(long start, long stop, long limit, RowMapper<T> rowMapper, Consumer<? super T> sink)
+            throws IOException {
+        try (ByteRangeTokenizer tokenizer = open(start, limit)) {
+            tokenizer.limitCells(cellLimit);
+            long offset;
+            while ((offset = tokenizer.offset()) < stop && tokenizer.nextRecord()) {
+                sink.accept(rowMapper.mapRow(tokenizer));
+            }
+            return offset;
+        }
+    }
+
+    /**
+     * Opens a tokenizer over the bytes between {@code start} (inclusive) and {@code limit} (exclusive), or the end of
+     * the file.
+     */
+    private ByteRangeTokenizer open(long start, long limit) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            long end = Math.min(channel.size(), limit);
+            if (memoryMapping) {
+                return new MappedCsvTokenizer(channel, start, end, MappedCsvTokenizer.DEFAULT_WINDOW_SIZE, format);
+            }
+            InputStream input = new LimitedInputStream(Channels.newInputStream(channel.position(start)), end - start);
+            return new Utf8CsvTokenizer(input, CsvTokenizer.DEFAULT_BUFFER_SIZE, start, format);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Throws a failure captured while mapping a range.
+     *
+     * @param failure An {@link IOException} or a {@link RuntimeException}.
+     * @return Never returns; declared so that callers can {@code throw} the result.
+     */
+    private static RuntimeException rethrow(Exception failure) throws IOException {
+        if (failure instanceof IOException ioException) {
+            throw ioException;
+        }
+        throw (RuntimeException) failure;
+    }
+
+    /**
+     * The outcome of scanning one range for quotes.
+     *
+     * @param oddQuotes          Whether the range contains an odd number of quotes.
+     * @param lineBreakAfterEven The offset of the first line break preceded by an even number of quotes within the
+     *                           range, or {@code -1}.
+     * @param lineBreakAfterOdd  The offset of the first line break preceded by an odd number of quotes within the
+     *                           range, or {@code -1}.
+     */
+    private record Segment(boolean oddQuotes, long lineBreakAfterEven, long lineBreakAfterOdd) {
+    }
+
+    /**
+     * The outcome of mapping one range.
+     *
+     * @param start     The offset of the first record of the range.
+     * @param end       The offset of the first record after the range, or {@code -1} if mapping failed.
+     * @param rows      The rows mapped before the range ended or failed.
+     * @param failure   The failure, or {@code null}.
+     * @param truncated Whether the last record may have been cut short by the limit of the range, in which case
+     *                  neither the end nor the rows can be trusted.
+     */
+    record Range<T>(long start, long end, List<T> rows, Exception failure, boolean truncated) {
+
+        private List<T> rowsOrThrow() throws IOException {
+            if (failure != null) {
+                throw rethrow(failure);
+            }
+            return rows;
+        }
+    }
+
+    /**
+     * An input stream that ends after a given number of bytes of the underlying stream.
+     */
+    private static final class LimitedInputStream extends FilterInputStream {
+        private long remaining;
+
+        private LimitedInputStream(InputStream in, long remaining) {
+            super(in);
+            this.remaining = remaining;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int b = in.read();
+            if (b >= 0) {
+                remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) {
+                return len == 0 ? 0 : -1;
+            }
+            int read = in.read(b, off, (int) Math.min(len, remaining));
+            if (read > 0) {
+                remaining -= read;
+            }
+            return read;
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package io.github.serkankarabulut.sheetmapper.internal;
+
+import io.github.serkankarabulut.sheetmapper.parser.SheetReader;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Maps the data rows of a {@link SheetReader}, such as a {@link CsvProcessor}, in a two-stage pipeline: the calling
+ * thread tokenizes the input while a pool of worker threads converts and instantiates the rows.
+ * <p>
+ * This class is intended for internal use within the SheetMapper library only. The calling thread reads the rows as
+ * string arrays and hands them over in batches through a bounded queue. When the queue is full, reading blocks until a
+ * worker takes a batch, so at most {@code queueDepth + workers} batches of raw rows exist at any time, however large
+ * the input is. Every worker maps its batches with a {@link RowMapper} of its own, so converters registered in the
+ * {@link io.github.serkankarabulut.sheetmapper.converter.ConverterRegistry} must be thread-safe.
+ * <p>
+ * If a row cannot be mapped, reading stops and the batches that follow are discarded; the failure of the first failing
+ * row in file order is thrown, exactly as if the input had been mapped sequentially. If the calling thread is
+ * interrupted, the workers are interrupted as well, and an {@link InterruptedIOException} is thrown with the interrupt
+ * status of the thread set.
+ *
+ * @author Serkan Karabulut
+ */
+public final class PipelinedCsvMapper {
+    private static final Batch END = new Batch(-1, new String[0][]);
+
+    /**
+     * How long the reading thread waits for space in the queue before it checks whether the workers are still
+     * mapping.
+     */
+    private static final long OFFER_TIMEOUT_MILLIS = 100;
+
+    private final SheetReader sheetReader;
+    private final int workers;
+    private final int batchSize;
+    private final int queueDepth;
+
+    /**
+     * Creates a pipeline over the given reader.
+     *
+     * @param sheetReader  The reader, positioned on the first data row. It is not closed by the pipeline.
+     * @param workers      The number of worker threads.
+     * @param batchSize    The number of rows per batch.
+     * @param queueDepth   The maximum number of batches waiting for a worker.
+     */
+    public PipelinedCsvMapper(SheetReader sheetReader, int workers, int batchSize, int queueDepth) {
+        this.sheetReader = sheetReader;
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.queueDepth = queueDepth;
+    }
+
+    /**
+     * Maps all data rows, keeping their order.
+     *
+     * @param rowMappers Creates a row mapper for every worker. Row mappers are not shared between threads.
+     * @param <T>        The type of the target class.
+     * @return The mapped rows, in file order.
+     * @throws IOException if the input cannot be read or is malformed.
+     */
+    public <T> List<T> mapOrdered(Supplier<RowMapper<T>> rowMappers) throws IOException {
+        List<Batch> batches = new ArrayList<>();
+        run(rowMappers, batches::add, (batch, rows) -> batch.rows = rows);
+        int size = 0;
+        for (Batch batch : batches) {
+            size += batch.size();
+        }
+        List<T> rows = new ArrayList<>(size);
+        for (Batch batch : batches) {
+            @SuppressWarnings("unchecked")
+            List<T> batchRows = (List<T>) batch.rows;
+            rows.addAll(batchRows);
+        }
+        return rows;
+    }
+
+    /**
+     * Maps all data rows and passes every row to the sink as soon as it is mapped. The sink is called concurrently
+     * from the worker threads and must be thread-safe.
+     *
+     * @param rowMappers Creates a row mapper for every worker. Row mappers are not shared between threads.
+     * @param sink       Receives the mapped rows, in no particular order.
+     * @param <T>        The type of the target class.
+     * @throws IOException if the input cannot be read or is malformed.
+     */
+    public <T> void mapUnordered(Supplier<RowMapper<T>> rowMappers, Consumer<? super T> sink) throws IOException {
+        run(rowMappers, batch -> {
+        }, (batch, rows) -> rows.forEach(sink));
+    }
+
+    /**
+     * Reads the input on the calling thread and maps it on the workers.
+     *
+     * @param rowMappers Creates a row mapper for every worker.
+     * @param emitted    Called on the calling thread with every batch, in file order, before it is queued.
+     * @param mapped     Called on a worker thread with every batch and its mapped rows.
+     */
+    private <T> void run(Supplier<RowMapper<T>> rowMappers, Consumer<Batch> emitted, BatchSink<T> mapped) throws IOException {
+        BlockingQueue<Batch> queue = new ArrayBlockingQueue<>(queueDepth);
+        AtomicInteger firstFailed = new AtomicInteger(Integer.MAX_VALUE);
+        AtomicInteger running = new AtomicInteger(workers);
+        List<Batch> failures = new ArrayList<>();
+        Exception readFailure = null;
+        boolean dropped = false;
+        boolean interrupted = false;
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(workers)) {
+            for (int i = 0; i < workers; i++) {
+                executor.execute(() -> work(queue, rowMappers, mapped, firstFailed, running, failures));
+            }
+            int sequence = 0;
+            try {
+                String[][] cells = new String[batchSize][];
+                int size = 0;
+                try {
+                    while (!dropped && firstFailed.get() == Integer.MAX_VALUE && sheetReader.nextRecord()) {
+                        cells[size++] = sheetReader.cellStrings();
+                        if (size == batchSize) {
+                            dropped = !emit(new Batch(sequence++, cells), queue, emitted, firstFailed, running);
+                            cells = new String[batchSize][];
+                            size = 0;
+                        }
+                    }
+                } catch (IOException | RuntimeException e) {
+                    readFailure = e;
+                }
+                if (!dropped && size > 0 && firstFailed.get() == Integer.MAX_VALUE) {
+                    dropped = !emit(new Batch(sequence++, Arrays.copyOf(cells, size)), queue, emitted, firstFailed, running);
+                }
+            } catch (InterruptedException e) {
+                interrupted = true;
+            } finally {
+                // The end markers are queued after every batch, so that the workers map all batches before they stop
+                try {
+                    for (int i = 0; i < workers && !interrupted; i++) {
+                        if (!offer(queue, END, running)) {
+                            break;
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+                if (interrupted) {
+                    executor.shutdownNow();
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while mapping rows");
+        }
+
+        Batch firstFailure = null;
+        for (Batch failure : failures) {
+            if (firstFailure == null || failure.sequence < firstFailure.sequence) {
+                firstFailure = failure;
+            }
+        }
+        // Every batch was read before a read failure, so a failing row always comes first
+        if (firstFailure != null) {
+            throw rethrow(firstFailure.failure);
+        }
+        if (readFailure != null) {
+            throw rethrow(readFailure);
+        }
+        if (dropped) {
+            throw new IllegalStateException("The workers stopped before all rows were mapped");
+        }
+    }
+
+    /**
+     * Queues a batch unless mapping has already failed.
+     *
+     * @return {@code false} if the batch was not queued because a row has failed or no worker is left to take it.
+     */
+    private static boolean emit(Batch batch, BlockingQueue<Batch> queue, Consumer<Batch> emitted, AtomicInteger firstFailed,
+                                AtomicInteger running) throws InterruptedException {
+        emitted.accept(batch);
+        while (!queue.offer(batch, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+            if (firstFailed.get() != Integer.MAX_VALUE || running.get() == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Queues a batch, waiting as long as a worker is left to take it.
+     *
+     * @return {@code false} if no worker is left.
+     */
+    private static boolean offer(BlockingQueue<Batch> queue, Batch batch, AtomicInteger running) throws InterruptedException {
+        while (!queue.offer(batch, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+            if (running.get() == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Takes batches from the queue and maps them until the end marker is taken or the worker is interrupted. After a
+     * failure, batches that follow the failing one are discarded, so that the reading thread is not kept waiting on
+     * a full queue. Batches before it are still mapped, since one of them may contain an earlier failing row.
+     * <p>
+     * Any {@link Throwable} thrown while mapping a batch, including an {@link Error}, is recorded as the failure of
+     * the batch, so that a worker only stops at the end marker or when interrupted.
+     */
+    private static <T> void work(BlockingQueue<Batch> queue, Supplier<RowMapper<T>> rowMappers, BatchSink<T> mapped,
+                                 AtomicInteger firstFailed, AtomicInteger running, List<Batch> failures) {
+        try {
+            RowMapper<T> rowMapper = null;
+            while (true) {
+                Batch batch;
+                try {
+                    batch = queue.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                if (batch == END) {
+                    return;
+                }
+                if (batch.sequence > firstFailed.get()) {
+                    continue;
+                }
+                try {
+                    if (rowMapper == null) {
+                        rowMapper = rowMappers.get();
+                    }
+                    List<T> rows = new ArrayList<>(batch.cells.length);
+                    for (String[] cells : batch.cells) {
+                        rows.add(rowMapper.mapRow(cells));
+                    }
+                    batch.cells = null;
+                    mapped.accept(batch, rows);
+                } catch (Throwable e) {
+                    batch.cells = null;
+                    batch.failure = e;
+                    synchronized (failures) {
+                        failures.add(batch);
+                    }
+                    firstFailed.accumulateAndGet(batch.sequence, Math::min);
+                }
+            }
+        } finally {
+            running.decrementAndGet();
+        }
+    }
+
+    /**
+     * Throws a failure captured while reading or mapping.
+     *
+     * @param failure An {@link IOException}, a {@link RuntimeException} or an {@link Error}. Any other throwable is
+     *                wrapped in an {@link UndeclaredThrowableException}.
+     * @return Never returns; declared so that callers can {@code throw} the result.
+     */
+    private static RuntimeException rethrow(Throwable failure) throws IOException {
+        if (failure instanceof IOException ioException) {
+            throw ioException;
+        }
+        if (failure instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (failure instanceof Error error) {
+            throw error;
+        }
+        throw new UndeclaredThrowableException(failure);
+    }
+
+    /**
+     * Receives a batch and its mapped rows on a worker thread.
+     */
+    @FunctionalInterface
+    private interface BatchSink<T> {
+        void accept(Batch batch, List<T> rows);
+    }
+
+    /**
+     * A batch of raw rows on its way through the pipeline. Fields written by a worker are read by the calling
+     * thread only after the workers have terminated.
+     */
+    private static final class Batch {
+        private final int sequence;
+        private String[][] cells;
+        private List<?> rows;
+        private Throwable failure;
+
+        private Batch(int sequence, String[][] cells) {
+            this.sequence = sequence;
+            this.cells = cells;
+        }
+
+        private int size() {
+            return rows == null ? 0 : rows.size();
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package io.github.serkankarabulut.sheetmapper.internal;
+
+import io.github.serkankarabulut.sheetmapper.parser.SheetFormat;
+
+/**
+ * Finds the line break that ends a record in the buffer of a {@link Utf8CsvTokenizer}, skipping line breaks inside
+ * quoted sections, and tracks whether the record is pure ASCII.
+ * <p>
+ * A record may span several calls of {@link #findLineBreak(byte[], int, int)}, since the tokenizer may have to read
+ * more input before the line break is found, so the quoted state and the ASCII state are kept between calls until the
+ * next {@link #reset()}. Each tokenizer owns its scanner. {@link CsvProcessor} chooses the implementation once, at
+ * startup: {@code VectorRecordScanner} when the {@code jdk.incubator.vector} module is present, and
+ * {@link SwarRecordScanner} otherwise. Scanners are only used for formats with a quote character, and
+ * {@code VectorRecordScanner} only for formats without an escape character. A {@link MappedCsvTokenizer} always uses
+ * a {@link SwarRecordScanner}, which can also scan its memory-mapped windows.
+ *
+ * @author Serkan Karabulut
+ */
+abstract class RecordScanner {
+    final byte quote;
+    final int escape;
+    final byte carriageReturn;
+
+    /**
+     * Whether the bytes scanned so far end inside a quoted section.
+     */
+    boolean quoted;
+
+    /**
+     * Non-zero once a byte outside of 7-bit ASCII has been scanned.
+     */
+    long nonAscii;
+
+    /**
+     * Whether the last byte scanned is an escape inside a quoted section, so that the next byte is literal if it is a
+     * quote or an escape.
+     */
+    boolean pendingEscape;
+
+    RecordScanner(SheetFormat format) {
+        this.quote = (byte) format.quote();
+        this.escape = CsvTokenizer.escapeOf(format);
+        this.carriageReturn = (byte) CsvTokenizer.carriageReturnOf(format);
+    }
+
+    /**
+     * Starts scanning a new record.
+     */
+    final void reset() {
+        quoted = false;
+        nonAscii = 0;
+        pendingEscape = false;
+    }
+
+    /**
+     * @return {@code true} if every byte scanned since the last reset, up to the line break, is 7-bit ASCII.
+     */
+    final boolean ascii() {
+        return nonAscii == 0;
+    }
+
+    /**
+     * Scans a range of the buffer for a line break outside of quotes, continuing from the state the previous call left.
+     *
+     * @param bytes The buffer.
+     * @param from  The first index to scan.
+     * @param to    The index after the last index to scan.
+     * @return The index of the first line break outside of quotes, or {@code to} if there is none.
+     */
+    abstract int findLineBreak(byte[] bytes, int from, int to);
+
+    /**
+     * Finds the first quote in a range of the buffer.
+     *
+     * @return The index of the first quote, or {@code to} if there is none.
+     */
+    int indexOfQuote(byte[] bytes, int from, int to) {
+        return Swar.indexOf(bytes, from, to, quote);
+    }
+
+    /**
+     * Returns whether the byte after an escape at the given index is escaped, that is whether it is a quote or
+     * another escape. If the escape is the last byte of the range, the decision is left to the next call.
+     *
+     * @param bytes The buffer.
+     * @param at    The index of an escape inside a quoted section.
+     * @param to    The index after the last index to scan.
+     * @return {@code true} if the byte at {@code at + 1} must be skipped.
+     */
+    final boolean escapesNext(byte[] bytes, int at, int to) {
+        if (at + 1 == to) {
+            pendingEscape = true;
+            return false;
+        }
+        byte next = bytes[at + 1];
+        return next == quote || next == escape;
+    }
+
+    /**
+     * Returns whether the first byte of a range is escaped by an escape at the end of the previous range, and clears
+     * the pending escape.
+     */
+    final boolean escapedByPrevious(byte[] bytes, int from) {
+        pendingEscape = false;
+        byte first = bytes[from];
+        return first == quote || first == escape;
+    }
+
+    /**
+     * Scans the bytes of a range one at a time, for ranges too short for the word or vector loops.
+     */
+    final int findLineBreakBytewise(byte[] bytes, int from, int to) {
+        int i = from;
+        if (pendingEscape && i < to && escapedByPrevious(bytes, i)) {
+            i++;
+        }
+        for (; i < to; i++) {
+            byte b = bytes[i];
+            if (b == quote) {
+                quoted = !quoted;
+            } else if (quoted) {
+                if (b == escape && escapesNext(bytes, i, to)) {
+                    i++;
+                }
+            } else if (b == '\n' || b == carriageReturn) {
+                return i;
+            }
+            nonAscii |= b & 0x80;
+        }
+        return to;
+    }
+
+    /**
+     * Computes the prefix XOR of a mask: bit {@code i} of the result is the XOR of bits {@code 0} to {@code i}. For a
+     * mask of the quotes in a block, it has a bit set for every byte inside a quoted section.
+     */
+    static long prefixXor(long mask) {
+        mask ^= mask << 1;
+        mask ^= mask << 2;
+        mask ^= mask << 4;
+        mask ^= mask << 8;
+        mask ^= mask << 16;
+        mask ^= mask << 32;
+        return mask;
+    }
+}
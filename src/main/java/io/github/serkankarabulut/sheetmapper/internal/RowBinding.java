@@ -0,0 +1,380 @@
+package io.github.serkankarabulut.sheetmapper.internal;
+
+import io.github.serkankarabulut.sheetmapper.converter.BooleanConverter;
+import io.github.serkankarabulut.sheetmapper.converter.CharSequenceConverter;
+import io.github.serkankarabulut.sheetmapper.converter.ConverterRegistry;
+import io.github.serkankarabulut.sheetmapper.converter.DoubleConverter;
+import io.github.serkankarabulut.sheetmapper.converter.FloatConverter;
+import io.github.serkankarabulut.sheetmapper.converter.IntConverter;
+import io.github.serkankarabulut.sheetmapper.converter.LongConverter;
+import io.github.serkankarabulut.sheetmapper.converter.TypeConverter;
+import io.github.serkankarabulut.sheetmapper.exception.SheetMappingException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The binding of a {@link MappingPlan} to the header row of one particular sheet, or to the cell indexes of a sheet
+ * without one.
+ * <p>
+ * This class is intended for internal use within the SheetMapper library only. Column names are resolved to
+ * cell indices and converters are looked up exactly once, when the header is read. The result is a flat,
+ * ordered schedule of (cell index, field writer, converter) entries, so mapping a row is a tight indexed loop
+ * without any map lookups. Missing columns are reported before any data row is read.
+ * <p>
+ * A primitive field whose converter implements the matching primitive converter interface (e.g.
+ * {@link IntConverter} for an {@code int} field) is populated through the typed setter of its writer, so its
+ * value is never boxed. A converter implementing {@link CharSequenceConverter} receives the cell view of the
+ * parser directly; other converters receive the cell as a {@link String}.
+ * <p>
+ * If the target class is instantiated through a constructor with arguments, the binding owns a single argument
+ * buffer that is refilled for every row. Primitive arguments are written into its typed slots through the same
+ * typed setters as primitive fields. A binding must therefore not be used by more than one thread at a time.
+ *
+ * @param <T> The type of the target class.
+ * @author Serkan Karabulut
+ */
+public final class RowBinding<T> implements RowMapper<T> {
+    private static final Logger logger = LoggerFactory.getLogger(RowBinding.class);
+
+    static final int OBJECT_VALUE = 0;
+    static final int CHARS_VALUE = 1;
+    static final int INT_VALUE = 2;
+    static final int LONG_VALUE = 3;
+    static final int DOUBLE_VALUE = 4;
+    static final int FLOAT_VALUE = 5;
+    static final int BOOLEAN_VALUE = 6;
+
+    private final MappingPlan<T> plan;
+    private final ConverterRegistry converterRegistry;
+    private final String[] columnNames;
+    private final int[] cellIndexes;
+    private final FieldWriter[] writers;
+    private final Class<?>[] types;
+    private final TypeConverter<?>[] converters;
+    private final int[] valueKinds;
+    private final int argumentCount;
+    private final MappingPlan.Arguments arguments;
+    private final int minRowLength;
+
+    private RowBinding(MappingPlan<T> plan, ConverterRegistry converterRegistry, int[] cellIndexes) {
+        List<MappingPlan.ColumnMapping> columns = plan.columns();
+        int size = columns.size();
+        this.plan = plan;
+        this.converterRegistry = converterRegistry;
+        this.columnNames = new String[size];
+        this.cellIndexes = cellIndexes;
+        this.writers = new FieldWriter[size];
+        this.types = new Class<?>[size];
+        this.converters = new TypeConverter<?>[size];
+        this.valueKinds = new int[size];
+        this.argumentCount = plan.argumentCount();
+        this.arguments = plan.newArgumentBuffer();
+        int maxIndex = -1;
+        for (int i = 0; i < size; i++) {
+            MappingPlan.ColumnMapping column = columns.get(i);
+            columnNames[i] = column.name();
+            writers[i] = column.writer();
+            types[i] = column.type();
+            converters[i] = converterRegistry.getConverter(column.type());
+            valueKinds[i] = valueKind(writers[i], converters[i]);
+            maxIndex = Math.max(maxIndex, cellIndexes[i]);
+        }
+        this.minRowLength = maxIndex + 1;
+    }
+
+    /**
+     * Determines how the values of a column are passed from its converter to its writer.
+     *
+     * @return One of the {@code *_VALUE} constants: a primitive kind if both the writer and the converter support
+     *         that primitive type, {@link #CHARS_VALUE} for other converters reading a {@link CharSequence},
+     *         {@link #OBJECT_VALUE} otherwise.
+     */
+    private static int valueKind(FieldWriter writer, TypeConverter<?> converter) {
+        int objectKind = converter instanceof CharSequenceConverter ? CHARS_VALUE : OBJECT_VALUE;
+        if (!writer.hasTypedSetter()) {
+            return objectKind;
+        }
+        Class<?> type = writer.fieldType();
+        if (type == int.class && converter instanceof IntConverter) {
+            return INT_VALUE;
+        }
+        if (type == long.class && converter instanceof LongConverter) {
+            return LONG_VALUE;
+        }
+        if (type == double.class && converter instanceof DoubleConverter) {
+            return DOUBLE_VALUE;
+        }
+        if (type == float.class && converter instanceof FloatConverter) {
+            return FLOAT_VALUE;
+        }
+        if (type == boolean.class && converter instanceof BooleanConverter) {
+            return BOOLEAN_VALUE;
+        }
+        return objectKind;
+    }
+
+    /**
+     * Binds the given mapping plan to a header row. Columns with an index are bound to that cell, and the header
+     * row is only searched for the names of the other columns.
+     *
+     * @param plan              The mapping plan of the target class.
+     * @param headers           The cells of the header row.
+     * @param converterRegistry The registry providing converters for the mapped columns.
+     * @param <T>               The type of the target class.
+     * @return A new binding.
+     * @throws SheetMappingException if a mapped column is not present in the header, or if no converter is
+     *                               registered for the type of a mapped field.
+     */
+    public static <T> RowBinding<T> bind(MappingPlan<T> plan, String[] headers, ConverterRegistry converterRegistry) {
+        List<MappingPlan.ColumnMapping> columns = plan.columns();
+        int[] cellIndexes = new int[columns.size()];
+        Map<String, Integer> headerIndexMap = null;
+        for (int i = 0; i < cellIndexes.length; i++) {
+            MappingPlan.ColumnMapping column = columns.get(i);
+            if (column.hasIndex()) {
+                cellIndexes[i] = column.index();
+                continue;
+            }
+            if (headerIndexMap == null) {
+                headerIndexMap = new HashMap<>();
+                for (int h = 0; h < headers.length; h++) {
+                    headerIndexMap.put(headers[h], h);
+                }
+            }
+            String columnName = column.name();
+            Integer index = headerIndexMap.get(columnName);
+            if (index == null) {
+                logger.error("Column '{}' not found in CSV headers.", columnName);
+                throw new SheetMappingException("Column not found in CSV headers: " + columnName);
+            }
+            cellIndexes[i] = index;
+        }
+        return new RowBinding<>(plan, converterRegistry, cellIndexes);
+    }
+
+    /**
+     * Binds the given mapping plan to the rows of a file without a header row, by the index of every column. No
+     * header map is built.
+     *
+     * @param plan              The mapping plan of the target class.
+     * @param converterRegistry The registry providing converters for the mapped columns.
+     * @param <T>               The type of the target class.
+     * @return A new binding.
+     * @throws SheetMappingException if a mapped column has no index, or if no converter is registered for the type
+     *                               of a mapped field.
+     */
+    public static <T> RowBinding<T> bindByIndex(MappingPlan<T> plan, ConverterRegistry converterRegistry) {
+        List<MappingPlan.ColumnMapping> columns = plan.columns();
+        int[] cellIndexes = new int[columns.size()];
+        for (int i = 0; i < cellIndexes.length; i++) {
+            MappingPlan.ColumnMapping column = columns.get(i);
+            if (!column.hasIndex()) {
+                logger.error("Column '{}' has no index in class: {}", column.name(), plan.type().getName());
+                throw new SheetMappingException("Column '" + column.name() + "' has no index in class: " + plan.type().getName());
+            }
+            cellIndexes[i] = column.index();
+        }
+        return new RowBinding<>(plan, converterRegistry, cellIndexes);
+    }
+
+    /**
+     * Binds the given mapping plan to a reader whose cells are the mapped columns themselves, in the order of
+     * {@link MappingPlan#columns()}, such as a {@link FixedWidthReader}. No header row is involved.
+     *
+     * @param plan              The mapping plan of the target class.
+     * @param converterRegistry The registry providing converters for the mapped columns.
+     * @param <T>               The type of the target class.
+     * @return A new binding.
+     * @throws SheetMappingException if no converter is registered for the type of a mapped field.
+     */
+    public static <T> RowBinding<T> bindInOrder(MappingPlan<T> plan, ConverterRegistry converterRegistry) {
+        int[] cellIndexes = new int[plan.columns().size()];
+        for (int i = 0; i < cellIndexes.length; i++) {
+            cellIndexes[i] = i;
+        }
+        return new RowBinding<>(plan, converterRegistry, cellIndexes);
+    }
+
+    /**
+     * @return The mapping plan this binding was created from.
+     */
+    public MappingPlan<T> plan() {
+        return plan;
+    }
+
+    /**
+     * @return The number of leading cells a row needs to contain every mapped column. Cells after them are never
+     *         read, so tokenizers may skip them.
+     */
+    public int requiredCellCount() {
+        return minRowLength;
+    }
+
+    /**
+     * @return The cell index of every mapped column, in the order of {@link MappingPlan#columns()}.
+     */
+    int[] cellIndexes() {
+        return cellIndexes;
+    }
+
+    /**
+     * @return The converter of every mapped column, in the order of {@link MappingPlan#columns()}.
+     */
+    TypeConverter<?>[] converters() {
+        return converters;
+    }
+
+    /**
+     * @return The value kind of every mapped column, one of the {@code *_VALUE} constants, in the order of
+     *         {@link MappingPlan#columns()}.
+     */
+    int[] valueKinds() {
+        return valueKinds;
+    }
+
+    /**
+     * Creates a new instance of the target class and populates it with data from a single row. Constructor
+     * arguments are converted first and passed to the constructor, then the mapped fields are written.
+     *
+     * @param record The cells of the row.
+     * @return A new, populated instance of the target class.
+     * @throws SheetMappingException if the row is shorter than the header requires, a value cannot be converted,
+     *                               a null value is mapped to a primitive type, or the constructor fails.
+     */
+    @Override
+    public T mapRow(SheetRecord record) {
+        checkRowLength(record);
+        T instance;
+        if (arguments != null) {
+            for (int i = 0; i < argumentCount; i++) {
+                populate(i, record, arguments);
+            }
+            instance = plan.newInstance(arguments);
+        } else {
+            instance = plan.newInstance();
+        }
+        for (int i = argumentCount; i < cellIndexes.length; i++) {
+            populate(i, record, instance);
+        }
+        return instance;
+    }
+
+    private void populate(int column, SheetRecord record, Object target) {
+        CharSequence cell = record.cell(cellIndexes[column]);
+        if (valueKinds[column] > CHARS_VALUE) {
+            populatePrimitive(column, cell, target);
+            return;
+        }
+        Object convertedValue = converterRegistry.convert(cell, types[column], converters[column]);
+
+        if (convertedValue == null && types[column].isPrimitive()) {
+            throw nullForPrimitive(column);
+        }
+
+        try {
+            writers[column].set(target, convertedValue);
+        } catch (ClassCastException e) {
+            throw typeMismatch(column, convertedValue, e);
+        }
+    }
+
+    private void populatePrimitive(int column, CharSequence cell, Object target) {
+        if (ConverterRegistry.isBlank(cell)) {
+            throw nullForPrimitive(column);
+        }
+        FieldWriter writer = writers[column];
+        TypeConverter<?> converter = converters[column];
+        try {
+            switch (valueKinds[column]) {
+                case INT_VALUE -> writer.setInt(target, ((IntConverter) converter).convertInt(cell));
+                case LONG_VALUE -> writer.setLong(target, ((LongConverter) converter).convertLong(cell));
+                case DOUBLE_VALUE -> writer.setDouble(target, ((DoubleConverter) converter).convertDouble(cell));
+                case FLOAT_VALUE -> writer.setFloat(target, ((FloatConverter) converter).convertFloat(cell));
+                default -> writer.setBoolean(target, ((BooleanConverter) converter).convertBoolean(cell));
+            }
+        } catch (Exception e) {
+            throw conversionFailure(column, cell, e);
+        }
+    }
+
+    /**
+     * Checks that a row contains a cell for every mapped column.
+     *
+     * @param record The row to check.
+     * @throws SheetMappingException describing the first missing column if the row is too short.
+     */
+    public void checkRowLength(SheetRecord record) {
+        int cellCount = record.cellCount();
+        if (cellCount >= minRowLength) {
+            return;
+        }
+        for (int i = 0; i < cellIndexes.length; i++) {
+            if (cellIndexes[i] >= cellCount) {
+                logger.warn("Missing value for column '{}' (index {}) in a row. Skipping field set.", columnNames[i], cellIndexes[i]);
+                throw new SheetMappingException("Missing value for column '" + columnNames[i] + "' (index " + cellIndexes[i] + ") in a row. Skipping field set.");
+            }
+        }
+    }
+
+    /**
+     * Checks that a cell bound to a primitive field is not blank. Used by generated row mappers.
+     *
+     * @param column The position of the column in the schedule.
+     * @param cell   The raw cell value.
+     * @throws SheetMappingException if the cell is blank.
+     */
+    public void requireValue(int column, CharSequence cell) {
+        if (ConverterRegistry.isBlank(cell)) {
+            throw nullForPrimitive(column);
+        }
+    }
+
+    /**
+     * Translates a failure raised while a generated row mapper populated a column into the same exception the
+     * generic loop of {@link #mapRow(SheetRecord)} would have thrown.
+     *
+     * @param column The position of the column in the schedule, or {@code -1} if no column was being populated.
+     * @param cell   The raw cell value of that column.
+     * @param cause  The failure.
+     * @return The exception to throw.
+     */
+    public RuntimeException rowFailure(int column, CharSequence cell, Throwable cause) {
+        if (cause instanceof SheetMappingException sheetMappingException) {
+            return sheetMappingException;
+        }
+        if (column < 0) {
+            return cause instanceof RuntimeException runtimeException ? runtimeException : new IllegalStateException(cause);
+        }
+        if (cause instanceof ClassCastException) {
+            return typeMismatch(column, null, cause);
+        }
+        if (cause instanceof NullPointerException && types[column].isPrimitive()) {
+            return nullForPrimitive(column);
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return conversionFailure(column, cell, cause);
+    }
+
+    private SheetMappingException conversionFailure(int column, CharSequence cell, Throwable cause) {
+        String typeName = types[column].getSimpleName();
+        logger.error("Error converting value '{}' to type {}: {}", cell, typeName, cause.getMessage(), cause);
+        return new SheetMappingException("Error converting value '" + cell + "' to type " + typeName, cause);
+    }
+
+    private SheetMappingException nullForPrimitive(int column) {
+        logger.error("Cannot map null value to primitive type '{}' for field '{}'", types[column].getName(), writers[column].fieldName());
+        return new SheetMappingException("Cannot map null value to primitive type: " + types[column].getName());
+    }
+
+    private SheetMappingException typeMismatch(int column, Object convertedValue, Throwable cause) {
+        String fieldName = writers[column].fieldName();
+        logger.error("Type mismatch for field '{}'. Expected {} but got {}.", fieldName, types[column].getName(), convertedValue != null ? convertedValue.getClass().getName() : "unknown");
+        return new SheetMappingException("Type mismatch for field " + fieldName, cause);
+    }
+}
@@ -0,0 +1,36 @@
+package io.github.serkankarabulut.sheetmapper.internal;
+
+import io.github.serkankarabulut.sheetmapper.exception.SheetMappingException;
+
+/**
+ * Maps the cells of a single data row to a new instance of a target class.
+ * <p>
+ * This interface is intended for internal use within the SheetMapper library only. The default implementation is
+ * {@link RowBinding}, which walks its column schedule in a loop. {@link RowMapperGenerator} can produce
+ * specialized implementations with straight-line code for one particular header layout.
+ *
+ * @param <T> The type of the target class.
+ * @author Serkan Karabulut
+ */
+public interface RowMapper<T> {
+
+    /**
+     * Creates a new instance of the target class and populates it with data from a single row.
+     *
+     * @param record The cells of the row. Cell views are not retained after this method returns.
+     * @return A new, populated instance of the target class.
+     * @throws SheetMappingException if the row cannot be mapped.
+     */
+    T mapRow(SheetRecord record);
+
+    /**
+     * Creates a new instance of the target class and populates it with data from a single row.
+     *
+     * @param rowData An array of strings representing the data in one row.
+     * @return A new, populated instance of the target class.
+     * @throws SheetMappingException if the row cannot be mapped.
+     */
+    default T mapRow(String[] rowData) {
+        return mapRow(SheetRecord.of(rowData));
+    }
+}
@@ -0,0 +1,328 @@
+package io.github.serkankarabulut.sheetmapper.internal;
+
+import io.github.serkankarabulut.sheetmapper.converter.BooleanConverter;
+import io.github.serkankarabulut.sheetmapper.converter.CharSequenceConverter;
+import io.github.serkankarabulut.sheetmapper.converter.ConverterRegistry;
+import io.github.serkankarabulut.sheetmapper.converter.DoubleConverter;
+import io.github.serkankarabulut.sheetmapper.converter.FloatConverter;
+import io.github.serkankarabulut.sheetmapper.converter.IntConverter;
+import io.github.serkankarabulut.sheetmapper.converter.LongConverter;
+import io.github.serkankarabulut.sheetmapper.converter.TypeConverter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.github.serkankarabulut.sheetmapper.internal.ClassFileWriter.VERIFICATION_INTEGER;
+import static io.github.serkankarabulut.sheetmapper.internal.ClassFileWriter.VERIFICATION_OBJECT;
+
+/**
+ * Generates a dedicated {@link RowMapper} class for one target class and one header layout.
+ * <p>
+ * This class is intended for internal use within the SheetMapper library only. The generated class is defined as
+ * a hidden class nested with the target class. Its {@code mapRow} method contains straight-line code with one
+ * block per column: it reads the cell at a constant index, calls that column's converter and stores the result
+ * directly into the field. Every converter call therefore has its own call site, which stays monomorphic and can
+ * be inlined by the JIT, even for classes with dozens of columns.
+ * <p>
+ * Generation is best effort. If the class cannot be defined (for example because the target class is in a module
+ * that is not open to SheetMapper, or because a mapped field is final or static), {@link #generate(RowBinding)}
+ * returns the binding itself, which maps rows through its generic loop.
+ *
+ * @author Serkan Karabulut
+ */
+public final class RowMapperGenerator {
+    private static final Logger logger = LoggerFactory.getLogger(RowMapperGenerator.class);
+
+    /**
+     * Above this many columns the generated method would grow past the size the JIT is willing to compile.
+     */
+    static final int MAX_COLUMNS = 256;
+
+    private static final String OBJECT = "java/lang/Object";
+    private static final String STRING = "java/lang/String";
+    private static final String CHAR_SEQUENCE = "java/lang/CharSequence";
+    private static final String THROWABLE = "java/lang/Throwable";
+    private static final String ROW_MAPPER = internalName(RowMapper.class);
+    private static final String ROW_BINDING = internalName(RowBinding.class);
+    private static final String SHEET_RECORD = internalName(SheetRecord.class);
+    private static final String MAPPING_PLAN = internalName(MappingPlan.class);
+    private static final String TYPE_CONVERTER = internalName(TypeConverter.class);
+    private static final String CHAR_SEQUENCE_CONVERTER = internalName(CharSequenceConverter.class);
+    private static final String CONVERTER_REGISTRY = internalName(ConverterRegistry.class);
+
+    /**
+     * The primitive converter interface of every value kind of {@link RowBinding}, indexed by kind.
+     */
+    private static final Class<?>[] PRIMITIVE_CONVERTERS = {
+            null, null, IntConverter.class, LongConverter.class, DoubleConverter.class, FloatConverter.class, BooleanConverter.class
+    };
+
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(void.class, RowBinding.class, TypeConverter[].class);
+
+    private static final ClassValue<Map<String, Optional<MethodHandle>>> CONSTRUCTORS = new ClassValue<>() {
+        @Override
+        protected Map<String, Optional<MethodHandle>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private RowMapperGenerator() {
+    }
+
+    /**
+     * Returns a row mapper specialized for the given binding, generating its class on first use. Generated classes
+     * are cached per target class, header layout and value kinds of the columns.
+     *
+     * @param binding The binding of a mapping plan to a header row.
+     * @param <T>     The type of the target class.
+     * @return A generated row mapper, or the binding itself if no class could be generated.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> RowMapper<T> generate(RowBinding<T> binding) {
+        Class<T> type = binding.plan().type();
+        Optional<MethodHandle> constructor = CONSTRUCTORS.get(type)
+                .computeIfAbsent(Arrays.toString(binding.cellIndexes()) + Arrays.toString(binding.valueKinds()), layout -> define(binding));
+        if (constructor.isEmpty()) {
+            return binding;
+        }
+        try {
+            return (RowMapper<T>) constructor.get().invoke(binding, binding.converters());
+        } catch (Throwable e) {
+            logger.debug("Could not instantiate generated row mapper for {}", type.getName(), e);
+            return binding;
+        }
+    }
+
+    /**
+     * Defines the hidden row mapper class for the given binding.
+     *
+     * @return The constructor of the generated class, or an empty optional if the class cannot be generated.
+     */
+    private static Optional<MethodHandle> define(RowBinding<?> binding) {
+        Class<?> type = binding.plan().type();
+        String reason = unsupportedReason(binding);
+        if (reason != null) {
+            logger.debug("Not generating a row mapper for {}: {}", type.getName(), reason);
+            return Optional.empty();
+        }
+        try {
+            MethodHandles.Lookup targetLookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+            byte[] classFile = writeClass(binding);
+            MethodHandles.Lookup hiddenLookup = targetLookup.defineHiddenClass(classFile, true, MethodHandles.Lookup.ClassOption.NESTMATE);
+            MethodHandle constructor = hiddenLookup.findConstructor(hiddenLookup.lookupClass(), CONSTRUCTOR_TYPE);
+            logger.debug("Generated row mapper {} for {} columns", hiddenLookup.lookupClass().getName(), binding.cellIndexes().length);
+            return Optional.of(constructor);
+        } catch (IllegalAccessException | LinkageError | SecurityException | NoSuchMethodException e) {
+            logger.debug("Class definition not permitted for a row mapper of {}, falling back to the generic path", type.getName(), e);
+            return Optional.empty();
+        }
+    }
+
+    private static String unsupportedReason(RowBinding<?> binding) {
+        Class<?> type = binding.plan().type();
+        if (type.isHidden() || type.isArray() || type.isPrimitive()) {
+            return "unsupported target class";
+        }
+        if (binding.cellIndexes().length > MAX_COLUMNS) {
+            return "more than " + MAX_COLUMNS + " columns";
+        }
+        if (binding.plan().argumentCount() > 0) {
+            return "class is instantiated through a constructor with arguments";
+        }
+        for (MappingPlan.ColumnMapping column : binding.plan().columns()) {
+            if (column.field() == null) {
+                return "class is mapped by a compile-time generated mapper";
+            }
+            int modifiers = column.field().getModifiers();
+            if (Modifier.isStatic(modifiers) || Modifier.isFinal(modifiers)) {
+                return "field " + column.field().getName() + " is static or final";
+            }
+            Class<?> fieldType = column.type();
+            boolean fieldTypeAccessible = fieldType.isPrimitive() || Modifier.isPublic(fieldType.getModifiers())
+                    || fieldType.getPackageName().equals(type.getPackageName());
+            if (column.field().getDeclaringClass() != type || fieldType.isHidden() || !fieldTypeAccessible) {
+                return "field " + column.field().getName() + " cannot be stored directly";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Writes the class file of a row mapper. The generated class is equivalent to:
+     *
+     * <pre>{@code
+     * final class Target$$RowMapper implements RowMapper {
+     *     private final RowBinding binding;
+     *     private final TypeConverter c0, c1, ...;
+     *
+     *     Target$$RowMapper(RowBinding binding, TypeConverter[] converters) { ... }
+     *
+     *     public Object mapRow(SheetRecord row) {
+     *         binding.checkRowLength(row);
+     *         Target instance = (Target) binding.plan().newInstance();
+     *         CharSequence cell = null;
+     *         int column = -1;
+     *         try {
+     *             // reference column
+     *             column = 0; cell = row.cell(3);
+     *             if (!ConverterRegistry.isBlank(cell)) instance.name = (String) c0.convert(cell.toString());
+     *             // primitive column
+     *             column = 1; cell = row.cell(0);
+     *             binding.requireValue(column, cell);
+     *             instance.id = ((Integer) c1.convert(cell.toString())).intValue();
+     *             // reference column with a CharSequenceConverter
+     *             column = 2; cell = row.cell(4);
+     *             if (!ConverterRegistry.isBlank(cell)) instance.code = (Code) ((CharSequenceConverter) c2).convertChars(cell);
+     *             // primitive column with a primitive converter
+     *             column = 3; cell = row.cell(1);
+     *             binding.requireValue(column, cell);
+     *             instance.amount = ((DoubleConverter) c3).convertDouble(cell);
+     *             ...
+     *         } catch (Throwable e) {
+     *             throw binding.rowFailure(column, cell, e);
+     *         }
+     *         return instance;
+     *     }
+     * }
+     * }</pre>
+     */
+    private static byte[] writeClass(RowBinding<?> binding) {
+        Class<?> type = binding.plan().type();
+        String target = internalName(type);
+        String className = target + "$$RowMapper";
+        ClassFileWriter writer = new ClassFileWriter(className, OBJECT, ROW_MAPPER);
+        int[] cellIndexes = binding.cellIndexes();
+        int[] valueKinds = binding.valueKinds();
+        int columnCount = cellIndexes.length;
+
+        writer.addField(ClassFileWriter.ACC_PRIVATE | ClassFileWriter.ACC_FINAL, "binding", "L" + ROW_BINDING + ";");
+        for (int i = 0; i < columnCount; i++) {
+            writer.addField(ClassFileWriter.ACC_PRIVATE | ClassFileWriter.ACC_FINAL, "c" + i, "L" + TYPE_CONVERTER + ";");
+        }
+
+        ClassFileWriter.Code init = new ClassFileWriter.Code(4, 3);
+        init.op(0x2a).op(0xb7, writer.methodConstant(OBJECT, "<init>", "()V"));
+        init.op(0x2a).op(0x2b).op(0xb5, writer.fieldConstant(className, "binding", "L" + ROW_BINDING + ";"));
+        for (int i = 0; i < columnCount; i++) {
+            init.op(0x2a).op(0x2c);
+            pushInt(writer, init, i);
+            init.op(0x32).op(0xc0, writer.classConstant(TYPE_CONVERTER));
+            init.op(0xb5, writer.fieldConstant(className, "c" + i, "L" + TYPE_CONVERTER + ";"));
+        }
+        init.op(0xb1);
+        writer.addMethod(ClassFileWriter.ACC_PUBLIC, "<init>", "(L" + ROW_BINDING + ";[L" + TYPE_CONVERTER + ";)V", init);
+
+        // Locals: 0 this, 1 row, 2 instance, 3 cell, 4 column, 5 caught throwable
+        int[] locals = {
+                VERIFICATION_OBJECT, writer.thisClass(),
+                VERIFICATION_OBJECT, writer.classConstant(SHEET_RECORD),
+                VERIFICATION_OBJECT, writer.classConstant(target),
+                VERIFICATION_OBJECT, writer.classConstant(CHAR_SEQUENCE),
+                VERIFICATION_INTEGER
+        };
+        int bindingField = writer.fieldConstant(className, "binding", "L" + ROW_BINDING + ";");
+        ClassFileWriter.Code code = new ClassFileWriter.Code(6, 6);
+        code.op(0x2a).op(0xb4, bindingField).op(0x2b)
+                .op(0xb6, writer.methodConstant(ROW_BINDING, "checkRowLength", "(L" + SHEET_RECORD + ";)V"));
+        code.op(0x2a).op(0xb4, bindingField)
+                .op(0xb6, writer.methodConstant(ROW_BINDING, "plan", "()L" + MAPPING_PLAN + ";"))
+                .op(0xb6, writer.methodConstant(MAPPING_PLAN, "newInstance", "()L" + OBJECT + ";"))
+                .op(0xc0, writer.classConstant(target))
+                .op(0x4d);
+        code.op(0x01).op(0x4e);
+        code.op(0x02).op(0x36).u1(4);
+
+        int tryStart = code.position();
+        for (int i = 0; i < columnCount; i++) {
+            MappingPlan.ColumnMapping column = binding.plan().columns().get(i);
+            Field field = column.field();
+            Class<?> fieldType = column.type();
+
+            pushInt(writer, code, i);
+            code.op(0x36).u1(4);
+            code.op(0x2b);
+            pushInt(writer, code, cellIndexes[i]);
+            code.op(0xb9, writer.interfaceMethodConstant(SHEET_RECORD, "cell", "(I)L" + CHAR_SEQUENCE + ";")).u1(2).u1(0);
+            code.op(0x4e);
+
+            int skip = -1;
+            if (fieldType.isPrimitive()) {
+                code.op(0x2a).op(0xb4, bindingField).op(0x15).u1(4).op(0x2d)
+                        .op(0xb6, writer.methodConstant(ROW_BINDING, "requireValue", "(IL" + CHAR_SEQUENCE + ";)V"));
+            } else {
+                code.op(0x2d).op(0xb8, writer.methodConstant(CONVERTER_REGISTRY, "isBlank", "(L" + CHAR_SEQUENCE + ";)Z"));
+                skip = code.branch(0x9a);
+            }
+
+            Class<?> primitiveConverter = PRIMITIVE_CONVERTERS[valueKinds[i]];
+            if (primitiveConverter != null) {
+                String converterName = internalName(primitiveConverter);
+                String methodName = "convert" + Character.toUpperCase(fieldType.getName().charAt(0)) + fieldType.getName().substring(1);
+                code.op(0x2c).op(0x2a).op(0xb4, writer.fieldConstant(className, "c" + i, "L" + TYPE_CONVERTER + ";"))
+                        .op(0xc0, writer.classConstant(converterName)).op(0x2d);
+                code.op(0xb9, writer.interfaceMethodConstant(converterName, methodName, "(L" + CHAR_SEQUENCE + ";)" + fieldType.descriptorString())).u1(2).u1(0);
+                code.op(0xb5, writer.fieldConstant(target, field.getName(), fieldType.descriptorString()));
+                continue;
+            }
+
+            code.op(0x2c).op(0x2a).op(0xb4, writer.fieldConstant(className, "c" + i, "L" + TYPE_CONVERTER + ";"));
+            if (valueKinds[i] == RowBinding.CHARS_VALUE) {
+                code.op(0xc0, writer.classConstant(CHAR_SEQUENCE_CONVERTER)).op(0x2d);
+                code.op(0xb9, writer.interfaceMethodConstant(CHAR_SEQUENCE_CONVERTER, "convertChars", "(L" + CHAR_SEQUENCE + ";)L" + OBJECT + ";")).u1(2).u1(0);
+            } else {
+                code.op(0x2d).op(0xb9, writer.interfaceMethodConstant(CHAR_SEQUENCE, "toString", "()L" + STRING + ";")).u1(1).u1(0);
+                code.op(0xb9, writer.interfaceMethodConstant(TYPE_CONVERTER, "convert", "(L" + STRING + ";)L" + OBJECT + ";")).u1(2).u1(0);
+            }
+            if (fieldType.isPrimitive()) {
+                String box = internalName(MethodType.methodType(fieldType).wrap().returnType());
+                code.op(0xc0, writer.classConstant(box));
+                code.op(0xb6, writer.methodConstant(box, fieldType.getName() + "Value", "()" + fieldType.descriptorString()));
+            } else if (fieldType != Object.class) {
+                code.op(0xc0, writer.classConstant(internalName(fieldType)));
+            }
+            code.op(0xb5, writer.fieldConstant(target, field.getName(), fieldType.descriptorString()));
+
+            if (skip >= 0) {
+                code.patchBranch(skip);
+                code.frame(locals, new int[0]);
+            }
+        }
+        int tryEnd = code.position();
+        code.op(0x2c).op(0xb0);
+
+        code.handler(tryStart, tryEnd);
+        code.frame(locals, new int[]{VERIFICATION_OBJECT, writer.classConstant(THROWABLE)});
+        code.op(0x3a).u1(5);
+        code.op(0x2a).op(0xb4, bindingField).op(0x15).u1(4).op(0x2d).op(0x19).u1(5)
+                .op(0xb6, writer.methodConstant(ROW_BINDING, "rowFailure", "(IL" + CHAR_SEQUENCE + ";L" + THROWABLE + ";)Ljava/lang/RuntimeException;"))
+                .op(0xbf);
+        writer.addMethod(ClassFileWriter.ACC_PUBLIC, "mapRow", "(L" + SHEET_RECORD + ";)L" + OBJECT + ";", code);
+
+        return writer.toByteArray();
+    }
+
+    private static void pushInt(ClassFileWriter writer, ClassFileWriter.Code code, int value) {
+        if (value >= -1 && value <= 5) {
+            code.op(0x03 + value);
+        } else if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+            code.op(0x10).u1(value);
+        } else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+            code.op(0x11, value);
+        } else {
+            code.op(0x13, writer.integerConstant(value));
+        }
+    }
+
+    private static String internalName(Class<?> type) {
+        return type.isArray() ? type.descriptorString() : type.getName().replace('.', '/');
+    }
+}
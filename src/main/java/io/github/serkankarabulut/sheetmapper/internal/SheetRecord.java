@@ -0,0 +1,78 @@
+package io.github.serkankarabulut.sheetmapper.internal;
+
+import io.github.serkankarabulut.sheetmapper.parser.SheetReader;
+
+import java.util.Objects;
+
+/**
+ * The cells of the current record of a sheet.
+ * <p>
+ * This interface is intended for internal use within the SheetMapper library only. Parsers expose cells as
+ * {@link CharSequence} views, which may be backed by the parser's read buffer instead of being copied into new
+ * {@link String}s. A view returned by {@link #cell(int)} is only valid until the next call of {@link #cell(int)}
+ * and until the parser moves on to the next record; callers that need to keep a value must copy it.
+ *
+ * @author Serkan Karabulut
+ */
+public interface SheetRecord {
+
+    /**
+     * @return The number of cells in the current record.
+     */
+    int cellCount();
+
+    /**
+     * Returns a view of one cell of the current record.
+     *
+     * @param index The index of the cell, starting from {@code 0}.
+     * @return A view of the cell, never {@code null}.
+     * @throws IndexOutOfBoundsException if the index is not smaller than {@link #cellCount()}.
+     */
+    CharSequence cell(int index);
+
+    /**
+     * Creates a record over already materialized cells.
+     *
+     * @param cells The cells of the record.
+     * @return A record whose views are the given strings.
+     */
+    static SheetRecord of(String... cells) {
+        Objects.requireNonNull(cells, "cells");
+        return new SheetRecord() {
+            @Override
+            public int cellCount() {
+                return cells.length;
+            }
+
+            @Override
+            public CharSequence cell(int index) {
+                return cells[index];
+            }
+        };
+    }
+
+    /**
+     * Returns the current record of a reader as a record.
+     *
+     * @param reader The reader.
+     * @return The reader itself if it is a record already, such as a {@link CsvProcessor}, or a record that reads
+     * the current cells of the reader.
+     */
+    static SheetRecord of(SheetReader reader) {
+        Objects.requireNonNull(reader, "reader");
+        if (reader instanceof SheetRecord record) {
+            return record;
+        }
+        return new SheetRecord() {
+            @Override
+            public int cellCount() {
+                return reader.cellCount();
+            }
+
+            @Override
+            public CharSequence cell(int index) {
+                return reader.cell(index);
+            }
+        };
+    }
+}
@@ -0,0 +1,135 @@
+package io.github.serkankarabulut.sheetmapper.internal;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Byte searches that examine eight bytes at a time in a {@code long} (SIMD within a register).
+ * <p>
+ * This class is intended for internal use within the SheetMapper library only. Words are always read in
+ * little-endian order, from byte arrays and from buffers alike, whatever the byte order of the buffer, so byte
+ * {@code i} of a word is its bits {@code 8i} to {@code 8i + 7} on every platform, and
+ * the lowest set bit of a match mask is the first matching byte in memory. Match masks are exact: only the high bit
+ * of each matching byte is set, so a mask can be iterated bit by bit.
+ *
+ * @author Serkan Karabulut
+ */
+public final class Swar {
+    /**
+     * The high bit of every byte of a word. A word has a byte outside of 7-bit ASCII if it shares a bit with it.
+     */
+    public static final long HIGH_BITS = 0x8080808080808080L;
+
+    private static final long ONES = 0x0101010101010101L;
+    private static final long LOW_BITS = 0x7F7F7F7F7F7F7F7FL;
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle BUFFER_LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private Swar() {
+    }
+
+    /**
+     * @param value A byte to search for.
+     * @return A word with every byte set to the value, to be passed to {@link #match(long, long)}.
+     */
+    public static long broadcast(byte value) {
+        return (value & 0xFFL) * ONES;
+    }
+
+    /**
+     * @param bytes The array to read from.
+     * @param index The index of the first byte of the word. {@code index + 7} must be a valid index.
+     * @return The eight bytes starting at the index, in little-endian order.
+     */
+    public static long load(byte[] bytes, int index) {
+        return (long) LONGS.get(bytes, index);
+    }
+
+    /**
+     * @param bytes The buffer to read from, such as a memory-mapped window of a file.
+     * @param index The index of the first byte of the word. {@code index + 7} must be below the limit of the buffer.
+     * @return The eight bytes starting at the index, in little-endian order.
+     */
+    public static long load(ByteBuffer bytes, int index) {
+        return (long) BUFFER_LONGS.get(bytes, index);
+    }
+
+    /**
+     * Finds the bytes of a word that are equal to a given byte, without a branch per byte.
+     *
+     * @param word    The bytes to examine.
+     * @param pattern The byte to search for, {@linkplain #broadcast(byte) broadcast} to a word.
+     * @return A mask with the high bit of every matching byte set, and no other bit.
+     */
+    public static long match(long word, long pattern) {
+        long bytes = word ^ pattern;
+        // The high bit of a byte ends up clear if any of its bits is set
+        return ~(((bytes & LOW_BITS) + LOW_BITS) | bytes | LOW_BITS);
+    }
+
+    /**
+     * @param mask A non-zero match mask.
+     * @return The index within the word of the first byte of the mask.
+     */
+    public static int firstIndex(long mask) {
+        return Long.numberOfTrailingZeros(mask) >>> 3;
+    }
+
+    /**
+     * @param count A number of bytes, from 0 to 7.
+     * @return A mask of all bits of the first {@code count} bytes of a word.
+     */
+    public static long leadingBytes(int count) {
+        return (1L << (count << 3)) - 1;
+    }
+
+    /**
+     * Finds the first occurrence of a byte in a range of an array.
+     *
+     * @param bytes The array to search.
+     * @param from  The first index to examine.
+     * @param to    The index after the last index to examine.
+     * @param value The byte to search for.
+     * @return The index of the first occurrence, or {@code to} if there is none.
+     */
+    public static int indexOf(byte[] bytes, int from, int to, byte value) {
+        long pattern = broadcast(value);
+        int i = from;
+        for (; i <= to - Long.BYTES; i += Long.BYTES) {
+            long matches = match(load(bytes, i), pattern);
+            if (matches != 0) {
+                return i + firstIndex(matches);
+            }
+        }
+        while (i < to && bytes[i] != value) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Finds the first occurrence of a byte in a range of a buffer.
+     *
+     * @param bytes The buffer to search.
+     * @param from  The first index to examine.
+     * @param to    The index after the last index to examine.
+     * @param value The byte to search for.
+     * @return The index of the first occurrence, or {@code to} if there is none.
+     */
+    public static int indexOf(ByteBuffer bytes, int from, int to, byte value) {
+        long pattern = broadcast(value);
+        int i = from;
+        for (; i <= to - Long.BYTES; i += Long.BYTES) {
+            long matches = match(load(bytes, i), pattern);
+            if (matches != 0) {
+                return i + firstIndex(matches);
+            }
+        }
+        while (i < to && bytes.get(i) != value) {
+            i++;
+        }
+        return i;
+    }
+}
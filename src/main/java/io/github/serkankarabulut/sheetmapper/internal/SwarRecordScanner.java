@@ -0,0 +1,141 @@
+package io.github.serkankarabulut.sheetmapper.internal;
+
+import io.github.serkankarabulut.sheetmapper.parser.SheetFormat;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A {@link RecordScanner} that examines eight bytes at a time with {@link Swar}, on any JVM.
+ * <p>
+ * Every word is searched for quotes and line breaks at once, and only the bytes that are found are examined one by
+ * one, so runs of ordinary bytes cost no branch per byte. Formats with an escape character are scanned by a separate
+ * loop that searches for escapes as well. The matches are told apart by their masks alone, without reading the bytes
+ * again, so the same word loop also scans the memory-mapped windows of a {@link MappedCsvTokenizer}, through
+ * {@link #findLineBreak(ByteBuffer, int, int)}.
+ *
+ * @author Serkan Karabulut
+ */
+final class SwarRecordScanner extends RecordScanner {
+    /**
+     * The bit that flags the first byte of a word in a match mask.
+     */
+    private static final long FIRST_BYTE = 0x80L;
+
+    private final boolean escaping;
+    private final long quotes;
+    private final long escapes;
+    private final long lineFeeds = Swar.broadcast((byte) '\n');
+    private final long carriageReturns;
+    private final byte[] tail = new byte[Long.BYTES];
+
+    SwarRecordScanner(SheetFormat format) {
+        super(format);
+        this.escaping = format.hasEscape();
+        this.quotes = Swar.broadcast(quote);
+        this.escapes = escaping ? Swar.broadcast((byte) escape) : 0;
+        this.carriageReturns = Swar.broadcast(carriageReturn);
+    }
+
+    @Override
+    int findLineBreak(byte[] bytes, int from, int to) {
+        int i = from;
+        for (; i <= to - Long.BYTES; i += Long.BYTES) {
+            int at = scanWord(Swar.load(bytes, i));
+            if (at >= 0) {
+                return i + at;
+            }
+        }
+        return findLineBreakBytewise(bytes, i, to);
+    }
+
+    /**
+     * Scans a range of a buffer like {@link #findLineBreak(byte[], int, int)}. The bytes after the last whole word are
+     * copied out of the buffer and scanned one at a time.
+     */
+    int findLineBreak(ByteBuffer bytes, int from, int to) {
+        int i = from;
+        for (; i <= to - Long.BYTES; i += Long.BYTES) {
+            int at = scanWord(Swar.load(bytes, i));
+            if (at >= 0) {
+                return i + at;
+            }
+        }
+        bytes.get(i, tail, 0, to - i);
+        return i + findLineBreakBytewise(tail, 0, to - i);
+    }
+
+    /**
+     * Finds the first quote in a range of a buffer.
+     *
+     * @return The index of the first quote, or {@code to} if there is none.
+     */
+    int indexOfQuote(ByteBuffer bytes, int from, int to) {
+        return Swar.indexOf(bytes, from, to, quote);
+    }
+
+    /**
+     * Scans one word, continuing from the state the previous word left.
+     *
+     * @return The index within the word of the first line break outside of quotes, or {@code -1} if there is none.
+     */
+    private int scanWord(long word) {
+        long quoteMatches = Swar.match(word, quotes);
+        long lineBreaks = Swar.match(word, lineFeeds) | Swar.match(word, carriageReturns);
+        if (escaping) {
+            return scanWordEscaped(word, quoteMatches, lineBreaks);
+        }
+        long structural = quoteMatches | lineBreaks;
+        while (structural != 0) {
+            long match = structural & -structural;
+            if ((quoteMatches & match) != 0) {
+                quoted = !quoted;
+            } else if (!quoted) {
+                return lineBreak(word, match);
+            }
+            structural ^= match;
+        }
+        nonAscii |= word & Swar.HIGH_BITS;
+        return -1;
+    }
+
+    /**
+     * Scans one word like {@link #scanWord(long)}, for formats with an escape character. Escapes are searched for
+     * together with quotes and line breaks, and a quote or escape that follows an escape inside a quoted section is
+     * dropped from the matches, even if it is in the next word or the next range.
+     */
+    private int scanWordEscaped(long word, long quoteMatches, long lineBreaks) {
+        long escapeMatches = Swar.match(word, escapes);
+        long escapable = quoteMatches | escapeMatches;
+        long structural = escapable | lineBreaks;
+        if (pendingEscape) {
+            pendingEscape = false;
+            structural &= ~(escapable & FIRST_BYTE);
+        }
+        while (structural != 0) {
+            long match = structural & -structural;
+            if ((quoteMatches & match) != 0) {
+                quoted = !quoted;
+            } else if (quoted) {
+                if ((escapeMatches & match) != 0) {
+                    // Shifted out of the word if the escape is its last byte
+                    long next = match << Byte.SIZE;
+                    if (next == 0) {
+                        pendingEscape = true;
+                    }
+                    structural &= ~(escapable & next);
+                }
+            } else if ((escapeMatches & match) == 0) {
+                return lineBreak(word, match);
+            }
+            structural ^= match;
+        }
+        nonAscii |= word & Swar.HIGH_BITS;
+        return -1;
+    }
+
+    private int lineBreak(long word, long match) {
+        int at = Swar.firstIndex(match);
+        nonAscii |= word & Swar.leadingBytes(at) & Swar.HIGH_BITS;
+        return at;
+    }
+}
@@ -0,0 +1,513 @@
+package io.github.serkankarabulut.sheetmapper.internal;
+
+import io.github.serkankarabulut.sheetmapper.parser.SheetFormat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A {@link CsvTokenizer} that splits the raw bytes of UTF-8 (or ASCII) input without decoding them first.
+ * <p>
+ * Delimiters, quotes and line breaks are single bytes in UTF-8, and no byte of a multibyte sequence can be mistaken
+ * for one of them, so records and cells are located directly in a reusable byte buffer, exactly like
+ * {@link CharCsvTokenizer} does with characters, including the single-pass split of records that precede the next
+ * quote, or of every record if the format has no quote character. Decoding is deferred until a cell is actually
+ * read.
+ * <p>
+ * Unlike characters, bytes are not compared one at a time: every scan reads the buffer eight bytes at a time as a
+ * {@code long}, and finds the delimiters, quotes and line breaks of a word with a few arithmetic operations (see
+ * {@link Swar}). Only the structural bytes that are found are examined individually. The search for the end of a
+ * record and for the next quote is delegated to a {@link RecordScanner}, which classifies 64 bytes at a time with
+ * the Vector API when it is available.
+ * <p>
+ * Cells that only contain 7-bit bytes are never decoded: their view reads characters straight from the buffer, and
+ * {@link CharSequence#toString()} copies the bytes into a Latin-1 string, which the JVM stores as is. While a record
+ * is scanned the tokenizer also tracks whether any byte has its high bit set, so the cells of a pure ASCII record
+ * are not even inspected. Only cells containing other characters are decoded as UTF-8, once, when their view is
+ * created. Malformed input is replaced with {@code U+FFFD}, as an {@link java.io.InputStreamReader} would.
+ *
+ * @author Serkan Karabulut
+ */
+final class Utf8CsvTokenizer implements ByteRangeTokenizer {
+    private static final long LINE_FEEDS = Swar.broadcast((byte) '\n');
+
+    private final byte delimiter;
+    private final boolean quoting;
+    private final int quote;
+    private final int escape;
+    private final byte carriageReturn;
+    private final long delimiters;
+    private final long quotes;
+    private final long carriageReturns;
+
+    private final InputStream input;
+    private final RecordScanner recordScanner;
+    private byte[] buffer;
+    private long bufferOffset;
+    private int position;
+    private int limit;
+    private boolean endOfInput;
+    private boolean skipLineFeed;
+    private boolean asciiRecord;
+
+    private int[] cellStarts = new int[16];
+    private int[] cellEnds = new int[16];
+    private int cellCount;
+    private int cellLimit = Integer.MAX_VALUE;
+    private int quoteFreeEnd;
+    private int nextQuoteScan;
+    private final CellView view = new CellView();
+
+    Utf8CsvTokenizer(InputStream input) {
+        this(input, DEFAULT_BUFFER_SIZE);
+    }
+
+    Utf8CsvTokenizer(InputStream input, int bufferSize) {
+        this(input, bufferSize, 0, SheetFormat.CSV);
+    }
+
+    /**
+     * Creates a tokenizer for a stream positioned within a file.
+     *
+     * @param input       The stream.
+     * @param bufferSize  The initial size of the buffer.
+     * @param startOffset The offset of the first byte of the stream in the file.
+     * @param format      The format of the file.
+     */
+    Utf8CsvTokenizer(InputStream input, int bufferSize, long startOffset, SheetFormat format) {
+        this(input, bufferSize, startOffset, format, CsvProcessor.newRecordScanner(format));
+    }
+
+    /**
+     * Creates a tokenizer for a stream positioned within a file, with the given scanner instead of the one chosen by
+     * {@link CsvProcessor}.
+     *
+     * @param input         The stream.
+     * @param bufferSize    The initial size of the buffer.
+     * @param startOffset   The offset of the first byte of the stream in the file.
+     * @param format        The format of the file.
+     * @param recordScanner The scanner that finds the end of records, for the same format. It must not be shared
+     *                      with another tokenizer.
+     */
+    Utf8CsvTokenizer(InputStream input, int bufferSize, long startOffset, SheetFormat format,
+                     RecordScanner recordScanner) {
+        this.input = input;
+        this.buffer = new byte[bufferSize];
+        this.bufferOffset = startOffset;
+        this.recordScanner = recordScanner;
+        this.delimiter = (byte) format.delimiter();
+        this.quoting = format.hasQuote();
+        this.quote = CsvTokenizer.quoteOf(format);
+        this.escape = CsvTokenizer.escapeOf(format);
+        this.carriageReturn = (byte) CsvTokenizer.carriageReturnOf(format);
+        this.delimiters = Swar.broadcast(delimiter);
+        // Without a quote character, searching for delimiters twice finds nothing more
+        this.quotes = quoting ? Swar.broadcast((byte) quote) : delimiters;
+        this.carriageReturns = Swar.broadcast(carriageReturn);
+    }
+
+    @Override
+    public boolean nextRecord() throws IOException {
+        cellCount = 0;
+        if (skipLineFeed) {
+            skipLineFeed = false;
+            if (position == limit && !fill()) {
+                return false;
+            }
+            if (buffer[position] == '\n') {
+                position++;
+            }
+        }
+        if (position == limit && !fill()) {
+            return false;
+        }
+        if (!quoting) {
+            nextUnquotedRecord();
+            return true;
+        }
+        if (position >= quoteFreeEnd && position >= nextQuoteScan) {
+            scanForQuote();
+        }
+        if (position < quoteFreeEnd && splitQuoteFree()) {
+            return true;
+        }
+        int end = findRecordEnd();
+        split(position, end);
+        if (end < limit) {
+            skipLineFeed = buffer[end] == '\r';
+            position = end + 1;
+        } else {
+            position = end;
+        }
+        return true;
+    }
+
+    /**
+     * Reads the record starting at {@link #position} of a format without quotes. The record is split up to the end
+     * of the buffer, and split again after more input has been read if it does not end there.
+     */
+    private void nextUnquotedRecord() throws IOException {
+        while (true) {
+            quoteFreeEnd = limit;
+            if (splitQuoteFree()) {
+                return;
+            }
+            if (!fill()) {
+                split(position, limit);
+                asciiRecord = false;
+                position = limit;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Scans up to {@link #QUOTE_SCAN_SIZE} bytes ahead of {@link #position} for a quote. If one is found, the next
+     * scan is postponed until after the bytes that were scanned past it, so that input with quotes on every line is
+     * not scanned twice.
+     */
+    private void scanForQuote() {
+        int end = position + Math.min(limit - position, QUOTE_SCAN_SIZE);
+        int i = recordScanner.indexOfQuote(buffer, position, end);
+        quoteFreeEnd = i;
+        nextQuoteScan = i < end ? i + QUOTE_SCAN_SIZE : i;
+    }
+
+    /**
+     * Splits the record starting at {@link #position} on delimiters alone, if it ends before {@link #quoteFreeEnd},
+     * and records whether the record is pure ASCII.
+     *
+     * @return {@code false} if the record does not end before the next quote; no cells are kept.
+     */
+    private boolean splitQuoteFree() {
+        byte[] bytes = buffer;
+        int end = quoteFreeEnd;
+        int cellStart = position;
+        long bits = 0;
+        int i = position;
+        for (; i <= end - Long.BYTES; i += Long.BYTES) {
+            long word = Swar.load(bytes, i);
+            long structural = Swar.match(word, delimiters) | Swar.match(word, LINE_FEEDS)
+                    | Swar.match(word, carriageReturns);
+            while (structural != 0) {
+                int at = i + Swar.firstIndex(structural);
+                if (bytes[at] != delimiter) {
+                    return endQuoteFree(cellStart, at, bits | word & Swar.leadingBytes(at - i));
+                }
+                if (cellCount < cellLimit) {
+                    addCell(cellStart, at);
+                }
+                cellStart = at + 1;
+                structural &= structural - 1;
+            }
+            bits |= word;
+        }
+        for (; i < end; i++) {
+            byte b = bytes[i];
+            if (b == delimiter) {
+                if (cellCount < cellLimit) {
+                    addCell(cellStart, i);
+                }
+                cellStart = i + 1;
+            } else if (b == '\n' || b == carriageReturn) {
+                return endQuoteFree(cellStart, i, bits);
+            }
+            bits |= b;
+        }
+        cellCount = 0;
+        return false;
+    }
+
+    private boolean endQuoteFree(int cellStart, int lineBreak, long bits) {
+        if (cellCount < cellLimit) {
+            addCell(cellStart, lineBreak);
+        }
+        asciiRecord = (bits & Swar.HIGH_BITS) == 0;
+        skipLineFeed = buffer[lineBreak] == '\r';
+        position = lineBreak + 1;
+        return true;
+    }
+
+    /**
+     * Scans for the line break that ends the record starting at {@link #position}, reading more input as needed,
+     * and records whether the record is pure ASCII. Reading may move the record to the start of the buffer.
+     *
+     * @return The index of the line break, or {@link #limit} if the record ends with the input.
+     */
+    private int findRecordEnd() throws IOException {
+        RecordScanner scanner = recordScanner;
+        scanner.reset();
+        int scan = position;
+        while (true) {
+            int end = scanner.findLineBreak(buffer, scan, limit);
+            if (end < limit) {
+                asciiRecord = scanner.ascii();
+                return end;
+            }
+            int previousPosition = position;
+            boolean filled = fill();
+            scan = end - (previousPosition - position);
+            if (!filled) {
+                if (scanner.quoted) {
+                    throw new IOException("Unterminated quoted field at end of input");
+                }
+                asciiRecord = scanner.ascii();
+                return limit;
+            }
+        }
+    }
+
+    /**
+     * Moves the unconsumed input to the start of the buffer, grows the buffer if it is full, and reads more input.
+     *
+     * @return {@code false} if the end of the input has been reached.
+     */
+    private boolean fill() throws IOException {
+        if (endOfInput) {
+            return false;
+        }
+        if (position > 0) {
+            System.arraycopy(buffer, position, buffer, 0, limit - position);
+            bufferOffset += position;
+            limit -= position;
+            position = 0;
+            quoteFreeEnd = nextQuoteScan = 0;
+        }
+        if (limit == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        int read;
+        do {
+            read = input.read(buffer, limit, buffer.length - limit);
+        } while (read == 0);
+        if (read < 0) {
+            endOfInput = true;
+            return false;
+        }
+        limit += read;
+        return true;
+    }
+
+    /**
+     * Splits the record between {@code start} (inclusive) and {@code end} (exclusive) into cells.
+     */
+    private void split(int start, int end) {
+        byte[] bytes = buffer;
+        int i = start;
+        while (true) {
+            int cellStart = i;
+            i = nextDelimiterOrQuote(bytes, i, end);
+            if (i < end && bytes[i] == quote) {
+                i = splitQuoted(cellStart, i, end);
+            } else {
+                addCell(cellStart, i);
+            }
+            if (i >= end || cellCount == cellLimit) {
+                return;
+            }
+            i++;
+        }
+    }
+
+    private int nextDelimiterOrQuote(byte[] bytes, int from, int to) {
+        int i = from;
+        for (; i <= to - Long.BYTES; i += Long.BYTES) {
+            long word = Swar.load(bytes, i);
+            long matches = Swar.match(word, delimiters) | Swar.match(word, quotes);
+            if (matches != 0) {
+                return i + Swar.firstIndex(matches);
+            }
+        }
+        while (i < to && bytes[i] != delimiter && bytes[i] != quote) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Reads a cell that contains at least one quote. Only called for formats with a quote character. Spaces and
+     * tabs before the opening quote of a cell are dropped, as opencsv does.
+     *
+     * @param cellStart  The index of the first byte of the cell.
+     * @param firstQuote The index of the first quote in the cell.
+     * @param end        The end of the record.
+     * @return The index of the delimiter that ends the cell, or {@code end}.
+     */
+    private int splitQuoted(int cellStart, int firstQuote, int end) {
+        byte[] bytes = buffer;
+        if (isLeadingWhitespace(bytes, cellStart, firstQuote)) {
+            cellStart = firstQuote;
+        }
+        if (firstQuote == cellStart) {
+            // A fully quoted cell without doubled or escaped quotes is a contiguous run of the buffer
+            int close = firstQuote + 1;
+            while (close < end && bytes[close] != quote && bytes[close] != escape) {
+                close++;
+            }
+            if (close < end && bytes[close] == quote && (close + 1 == end || bytes[close + 1] == delimiter)) {
+                addCell(cellStart + 1, close);
+                return close + 1;
+            }
+        }
+
+        int write = firstQuote;
+        int i = firstQuote;
+        boolean quoted = false;
+        while (i < end) {
+            byte b = bytes[i];
+            if (b == quote) {
+                if (quoted && i + 1 < end && bytes[i + 1] == quote) {
+                    bytes[write++] = (byte) quote;
+                    i += 2;
+                } else {
+                    quoted = !quoted;
+                    i++;
+                }
+            } else if (quoted && b == escape && i + 1 < end && (bytes[i + 1] == quote || bytes[i + 1] == escape)) {
+                bytes[write++] = bytes[i + 1];
+                i += 2;
+            } else if (b == delimiter && !quoted) {
+                break;
+            } else {
+                bytes[write++] = b;
+                i++;
+            }
+        }
+        addCell(cellStart, write);
+        return i;
+    }
+
+    /**
+     * @return {@code true} if the bytes between {@code from} (inclusive) and {@code to} (exclusive) are all spaces
+     * or tabs.
+     */
+    private static boolean isLeadingWhitespace(byte[] bytes, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (bytes[i] != ' ' && bytes[i] != '\t') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void addCell(int start, int end) {
+        if (cellCount == cellStarts.length) {
+            cellStarts = Arrays.copyOf(cellStarts, cellCount * 2);
+            cellEnds = Arrays.copyOf(cellEnds, cellCount * 2);
+        }
+        cellStarts[cellCount] = start;
+        cellEnds[cellCount] = end;
+        cellCount++;
+    }
+
+    @Override
+    public long offset() throws IOException {
+        if (skipLineFeed) {
+            skipLineFeed = false;
+            if ((position < limit || fill()) && buffer[position] == '\n') {
+                position++;
+            }
+        }
+        return bufferOffset + position;
+    }
+
+    @Override
+    public void limitCells(int cellLimit) {
+        this.cellLimit = cellLimit;
+    }
+
+    @Override
+    public int cellCount() {
+        return cellCount;
+    }
+
+    @Override
+    public CharSequence cell(int index) {
+        Objects.checkIndex(index, cellCount);
+        view.reset(cellStarts[index], cellEnds[index]);
+        return view;
+    }
+
+    @Override
+    public String[] cellStrings() {
+        String[] cells = new String[cellCount];
+        for (int i = 0; i < cellCount; i++) {
+            cells[i] = decode(cellStarts[i], cellEnds[i]);
+        }
+        return cells;
+    }
+
+    private String decode(int start, int end) {
+        boolean ascii = asciiRecord || isAscii(start, end);
+        return new String(buffer, start, end - start, ascii ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8);
+    }
+
+    private boolean isAscii(int start, int end) {
+        byte[] bytes = buffer;
+        for (int i = start; i < end; i++) {
+            if (bytes[i] < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        input.close();
+    }
+
+    /**
+     * A reusable view of one cell in the buffer. ASCII cells are read from the buffer directly; other cells are
+     * decoded when the view is positioned on them.
+     */
+    private final class CellView implements CharSequence {
+        private int start;
+        private int end;
+        private String decoded;
+
+        private void reset(int start, int end) {
+            this.start = start;
+            this.end = end;
+            this.decoded = asciiRecord || isAscii(start, end)
+                    ? null
+                    : new String(buffer, start, end - start, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public int length() {
+            return decoded == null ? end - start : decoded.length();
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (decoded != null) {
+                return decoded.charAt(index);
+            }
+            Objects.checkIndex(index, end - start);
+            return (char) buffer[start + index];
+        }
+
+        @Override
+        public CharSequence subSequence(int from, int to) {
+            if (decoded != null) {
+                return decoded.substring(from, to);
+            }
+            Objects.checkFromToIndex(from, to, end - start);
+            return new String(buffer, start + from, to - from, StandardCharsets.ISO_8859_1);
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return start == end;
+        }
+
+        @Override
+        public String toString() {
+            return decoded != null ? decoded : new String(buffer, start, end - start, StandardCharsets.ISO_8859_1);
+        }
+    }
+}
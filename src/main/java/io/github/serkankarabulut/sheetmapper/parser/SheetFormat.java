@@ -0,0 +1,274 @@
+package io.github.serkankarabulut.sheetmapper.parser;
+
+import io.github.serkankarabulut.sheetmapper.exception.SheetMappingException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The dialect of a delimited text file: the delimiter between cells, the quote and escape characters, and the line
+ * endings that end a record.
+ * <p>
+ * Formats are immutable. The common dialects are available as constants, and other dialects are created with
+ * {@link #builder()}. A format is passed to SheetMapper with
+ * {@link io.github.serkankarabulut.sheetmapper.SheetMapper.Builder#format(SheetFormat)}, and applies to the
+ * built-in parsers:
+ *
+ * <pre>{@code
+ * SheetMapper mapper = SheetMapper.builder().format(SheetFormat.TSV).build();
+ *
+ * SheetFormat escaped = SheetFormat.builder().delimiter(';').escape('\\').build();
+ * }</pre>
+ * <p>
+ * Quoting works as in {@link #CSV}: a quote toggles the quoted state, two consecutive quotes inside a quoted section
+ * stand for one literal quote, and delimiters and line breaks inside a quoted section are part of the cell. With an
+ * escape character, an escape followed by a quote or by another escape inside a quoted section also stands for that
+ * character; any other escape is kept as is. Formats without a quote character, like {@link #TSV}, cannot represent
+ * delimiters or line breaks inside a cell, and are split by a simpler tokenizer that never tracks quotes.
+ * <p>
+ * The delimiter, quote and escape characters must be distinct 7-bit ASCII characters other than line breaks, so
+ * that UTF-8 files can be split without being decoded.
+ *
+ * @author Serkan Karabulut
+ */
+public final class SheetFormat {
+    private static final Logger logger = LoggerFactory.getLogger(SheetFormat.class);
+
+    /**
+     * Comma-separated values, as described by RFC 4180: cells are separated by {@code ,} and may be quoted with
+     * {@code "}. This is the default format.
+     */
+    public static final SheetFormat CSV = builder().build();
+
+    /**
+     * Tab-separated values: cells are separated by a tab and are never quoted.
+     */
+    public static final SheetFormat TSV = builder().delimiter('\t').noQuote().build();
+
+    /**
+     * Pipe-separated values: cells are separated by {@code |} and may be quoted with {@code "}.
+     */
+    public static final SheetFormat PIPE = builder().delimiter('|').build();
+
+    /**
+     * Semicolon-separated values, as written by spreadsheet applications in locales that use a decimal comma: cells
+     * are separated by {@code ;} and may be quoted with {@code "}.
+     */
+    public static final SheetFormat SEMICOLON = builder().delimiter(';').build();
+
+    private final char delimiter;
+    private final boolean quoting;
+    private final char quote;
+    private final boolean escaping;
+    private final char escape;
+    private final LineEnding lineEnding;
+
+    private SheetFormat(Builder builder) {
+        this.delimiter = builder.delimiter;
+        this.quoting = builder.quoting;
+        this.quote = builder.quote;
+        this.escaping = builder.escaping;
+        this.escape = builder.escape;
+        this.lineEnding = builder.lineEnding;
+    }
+
+    /**
+     * Creates a builder that starts from {@link #CSV}.
+     *
+     * @return A new builder.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return The character that separates the cells of a record.
+     */
+    public char delimiter() {
+        return delimiter;
+    }
+
+    /**
+     * @return {@code true} if cells may be quoted with {@link #quote()}.
+     */
+    public boolean hasQuote() {
+        return quoting;
+    }
+
+    /**
+     * @return The quote character. Only meaningful if {@link #hasQuote()} is {@code true}.
+     */
+    public char quote() {
+        return quote;
+    }
+
+    /**
+     * @return {@code true} if quotes inside quoted sections may be escaped with {@link #escape()}.
+     */
+    public boolean hasEscape() {
+        return escaping;
+    }
+
+    /**
+     * @return The escape character. Only meaningful if {@link #hasEscape()} is {@code true}.
+     */
+    public char escape() {
+        return escape;
+    }
+
+    /**
+     * @return The line endings that end a record.
+     */
+    public LineEnding lineEnding() {
+        return lineEnding;
+    }
+
+    @Override
+    public String toString() {
+        return "SheetFormat{delimiter=" + printable(delimiter)
+                + ", quote=" + (quoting ? printable(quote) : "none")
+                + ", escape=" + (escaping ? printable(escape) : "none")
+                + ", lineEnding=" + lineEnding + '}';
+    }
+
+    private static String printable(char c) {
+        return c == '\t' ? "\\t" : String.valueOf(c);
+    }
+
+    /**
+     * The line endings that end a record. Line breaks inside quoted sections never end a record.
+     */
+    public enum LineEnding {
+        /**
+         * A record ends at {@code \n}, {@code \r\n} or {@code \r}.
+         */
+        ANY,
+
+        /**
+         * A record only ends at {@code \n}. A {@code \r} is part of the cell it appears in, so files written with
+         * {@code \r\n} keep it at the end of their last cell.
+         */
+        LF
+    }
+
+    /**
+     * A builder for {@link SheetFormat} instances. Every option starts with the value of {@link #CSV}.
+     */
+    public static final class Builder {
+        private char delimiter = ',';
+        private boolean quoting = true;
+        private char quote = '"';
+        private boolean escaping;
+        private char escape;
+        private LineEnding lineEnding = LineEnding.ANY;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the character that separates the cells of a record. Defaults to {@code ,}.
+         *
+         * @param delimiter The delimiter.
+         * @return This builder.
+         */
+        public Builder delimiter(char delimiter) {
+            this.delimiter = delimiter;
+            return this;
+        }
+
+        /**
+         * Sets the character with which cells may be quoted. Defaults to {@code "}.
+         *
+         * @param quote The quote character.
+         * @return This builder.
+         */
+        public Builder quote(char quote) {
+            this.quoting = true;
+            this.quote = quote;
+            return this;
+        }
+
+        /**
+         * Disables quoting, so that every character other than the delimiter and line breaks is part of a cell. The
+         * escape character is disabled as well.
+         *
+         * @return This builder.
+         */
+        public Builder noQuote() {
+            this.quoting = false;
+            this.escaping = false;
+            return this;
+        }
+
+        /**
+         * Sets the character that escapes a quote inside a quoted section, such as {@code \}. By default there is no
+         * escape character, and quotes are escaped by doubling them.
+         *
+         * @param escape The escape character.
+         * @return This builder.
+         */
+        public Builder escape(char escape) {
+            this.escaping = true;
+            this.escape = escape;
+            return this;
+        }
+
+        /**
+         * Sets the line endings that end a record. Defaults to {@link LineEnding#ANY}.
+         *
+         * @param lineEnding The line endings. Cannot be null.
+         * @return This builder.
+         */
+        public Builder lineEnding(LineEnding lineEnding) {
+            this.lineEnding = lineEnding;
+            return this;
+        }
+
+        /**
+         * Builds the format.
+         *
+         * @return A new format.
+         * @throws SheetMappingException if the characters are not distinct ASCII characters other than line breaks,
+         *                               if an escape character is set without a quote character, or if the line
+         *                               ending is null.
+         */
+        public SheetFormat build() {
+            checkCharacter("Delimiter", delimiter);
+            if (quoting) {
+                checkCharacter("Quote", quote);
+                checkDistinct("Quote", quote, "delimiter", delimiter);
+            }
+            if (escaping) {
+                if (!quoting) {
+                    logger.error("An escape character requires a quote character");
+                    throw new SheetMappingException("An escape character requires a quote character");
+                }
+                checkCharacter("Escape", escape);
+                checkDistinct("Escape", escape, "delimiter", delimiter);
+                checkDistinct("Escape", escape, "quote", quote);
+            }
+            if (lineEnding == null) {
+                logger.error("Line ending cannot be null");
+                throw new SheetMappingException("Line ending cannot be null");
+            }
+            return new SheetFormat(this);
+        }
+
+        private static void checkCharacter(String name, char c) {
+            if (c >= 0x80 || c == '\n' || c == '\r') {
+                logger.error("{} must be an ASCII character other than a line break: U+{}", name, hex(c));
+                throw new SheetMappingException(name + " must be an ASCII character other than a line break: U+" + hex(c));
+            }
+        }
+
+        private static void checkDistinct(String name, char c, String otherName, char other) {
+            if (c == other) {
+                logger.error("{} cannot be the same character as the {}: {}", name, otherName, c);
+                throw new SheetMappingException(name + " cannot be the same character as the " + otherName + ": " + c);
+            }
+        }
+
+        private static String hex(char c) {
+            return String.format("%04X", (int) c);
+        }
+    }
+}
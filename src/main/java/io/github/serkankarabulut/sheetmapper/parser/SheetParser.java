@@ -0,0 +1,118 @@
+package io.github.serkankarabulut.sheetmapper.parser;
+
+import io.github.serkankarabulut.sheetmapper.internal.CsvSheetParser;
+import io.github.serkankarabulut.sheetmapper.internal.CsvSheetParser.Input;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Opens sheet files for reading, so that the parser behind a {@link io.github.serkankarabulut.sheetmapper.SheetMapper}
+ * can be replaced.
+ * <p>
+ * SheetMapper uses one of the built-in CSV parsers by default, chosen by
+ * {@link io.github.serkankarabulut.sheetmapper.SheetMapper.Builder#byteParsing(boolean)} and
+ * {@link io.github.serkankarabulut.sheetmapper.SheetMapper.Builder#memoryMapping(boolean)}, for the
+ * {@link SheetFormat} set with {@link io.github.serkankarabulut.sheetmapper.SheetMapper.Builder#format(SheetFormat)}.
+ * Any other parser can be
+ * plugged in with {@link io.github.serkankarabulut.sheetmapper.SheetMapper.Builder#parser(SheetParser)}, for
+ * example one wrapping another CSV library, to compare parsers on your own data. A parser may be used by several
+ * threads at once, to open different files.
+ *
+ * <pre>{@code
+ * // Example implementation for files with one value per line
+ * SheetParser lines = file -> new SheetReader() {
+ *     private final BufferedReader reader = new BufferedReader(new FileReader(file));
+ *     private String line;
+ *
+ *     public boolean nextRecord() throws IOException {
+ *         return (line = reader.readLine()) != null;
+ *     }
+ *     public int cellCount() {
+ *         return 1;
+ *     }
+ *     public CharSequence cell(int index) {
+ *         return line;
+ *     }
+ *     public void close() throws IOException {
+ *         reader.close();
+ *     }
+ * };
+ * }</pre>
+ *
+ * @author Serkan Karabulut
+ */
+@FunctionalInterface
+public interface SheetParser {
+
+    /**
+     * Opens a file for reading.
+     *
+     * @param sheetData The file to read. It exists.
+     * @return A new reader, positioned before the header row.
+     * @throws IOException if the file cannot be opened.
+     */
+    SheetReader open(File sheetData) throws IOException;
+
+    /**
+     * Returns the built-in CSV parser that reads files through a {@link java.io.FileReader}, in the platform's
+     * default charset. This is the default parser.
+     *
+     * @return The parser.
+     */
+    static SheetParser csv() {
+        return csv(SheetFormat.CSV);
+    }
+
+    /**
+     * Returns the built-in parser that reads delimited files of the given format through a
+     * {@link java.io.FileReader}, in the platform's default charset.
+     *
+     * @param format The format of the files.
+     * @return The parser.
+     */
+    static SheetParser csv(SheetFormat format) {
+        return new CsvSheetParser(Input.CHARS, format);
+    }
+
+    /**
+     * Returns the built-in CSV parser that splits the raw bytes of UTF-8 files and decodes only the cells that are
+     * read, as with {@link io.github.serkankarabulut.sheetmapper.SheetMapper.Builder#byteParsing(boolean)}.
+     *
+     * @return The parser.
+     */
+    static SheetParser csvBytes() {
+        return csvBytes(SheetFormat.CSV);
+    }
+
+    /**
+     * Returns the built-in parser that splits the raw bytes of UTF-8 delimited files of the given format.
+     *
+     * @param format The format of the files.
+     * @return The parser.
+     */
+    static SheetParser csvBytes(SheetFormat format) {
+        return new CsvSheetParser(Input.BYTES, format);
+    }
+
+    /**
+     * Returns the built-in CSV parser that splits UTF-8 files in place in read-only memory mappings, as with
+     * {@link io.github.serkankarabulut.sheetmapper.SheetMapper.Builder#memoryMapping(boolean)}.
+     *
+     * @return The parser.
+     */
+    static SheetParser csvMapped() {
+        return csvMapped(SheetFormat.CSV);
+    }
+
+    /**
+     * Returns the built-in parser that splits UTF-8 delimited files of the given format in read-only memory
+     * mappings.
+     *
+     * @param format The format of the files.
+     * @return The parser.
+     */
+    static SheetParser csvMapped(SheetFormat format) {
+        return new CsvSheetParser(Input.MAPPED, format);
+    }
+}
@@ -0,0 +1,63 @@
+package io.github.serkankarabulut.sheetmapper.parser;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Reads the records of one sheet file, one at a time, and exposes the cells of the current record as views.
+ * <p>
+ * A reader is created by a {@link SheetParser} and used by a single thread. The first record is the header row.
+ * Cells are returned as {@link CharSequence} views, which may be slices of the reader's own buffer instead of new
+ * {@link String}s, so that a record can be read without allocating. A view is only valid until the next call of
+ * {@link #cell(int)} and until the reader moves on to the next record; SheetMapper copies every value it keeps.
+ * Closing a reader closes its input.
+ *
+ * @author Serkan Karabulut
+ */
+public interface SheetReader extends Closeable {
+
+    /**
+     * Advances to the next record.
+     *
+     * @return {@code true} if a record was read, {@code false} at the end of the file.
+     * @throws IOException if the file cannot be read or is malformed.
+     */
+    boolean nextRecord() throws IOException;
+
+    /**
+     * @return The number of cells in the current record.
+     */
+    int cellCount();
+
+    /**
+     * Returns a view of one cell of the current record.
+     *
+     * @param index The index of the cell, starting from {@code 0}.
+     * @return A view of the cell, never {@code null}.
+     * @throws IndexOutOfBoundsException if the index is not smaller than {@link #cellCount()}.
+     */
+    CharSequence cell(int index);
+
+    /**
+     * Tells the reader that only the leading cells of the following records are read, so that it may skip the
+     * others. The default implementation ignores the hint.
+     *
+     * @param cellLimit The number of leading cells that are read. Always greater than zero.
+     */
+    default void limitCells(int cellLimit) {
+    }
+
+    /**
+     * Copies the cells of the current record into new strings, for callers that keep them. The default
+     * implementation copies every {@linkplain #cell(int) view}.
+     *
+     * @return The cells of the current record.
+     */
+    default String[] cellStrings() {
+        String[] cells = new String[cellCount()];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = cell(i).toString();
+        }
+        return cells;
+    }
+}
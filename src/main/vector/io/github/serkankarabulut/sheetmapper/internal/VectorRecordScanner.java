@@ -0,0 +1,79 @@
+package io.github.serkankarabulut.sheetmapper.internal;
+
+import io.github.serkankarabulut.sheetmapper.parser.SheetFormat;
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * A {@link RecordScanner} that classifies 64 bytes at a time with the incubating Vector API, in the manner of
+ * simdjson.
+ * <p>
+ * Each block of 64 bytes is compared with a quote and with both line break bytes in vector registers, which yields
+ * one bit per byte in a quote mask and a line break mask. Quoted regions are then derived from the quote mask without
+ * looking at a single byte: the prefix XOR of the mask has a bit set for every byte that follows an odd number of
+ * quotes, that is every byte inside a quoted section, and the quoted state of the previous block flips it as a whole.
+ * Line breaks outside of that region end the record. A block therefore costs the same number of operations whatever
+ * it contains. Ranges shorter than a block are scanned byte by byte. Escapes would make the quoted regions depend on
+ * the bytes before each quote, so this scanner is not used for formats with an escape character.
+ * <p>
+ * This class can only be loaded when the {@code jdk.incubator.vector} module is present, for example with
+ * {@code --add-modules jdk.incubator.vector}. It lives in a source root of its own, the only one compiled against
+ * the incubator module, and nothing refers to it by name at compile time: {@link CsvProcessor} checks for the
+ * module and then loads this class reflectively.
+ *
+ * @author Serkan Karabulut
+ */
+final class VectorRecordScanner extends RecordScanner {
+    private static final int BLOCK_SIZE = Long.SIZE;
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED.length() > BLOCK_SIZE
+            ? ByteVector.SPECIES_512 : ByteVector.SPECIES_PREFERRED;
+
+    /**
+     * @param format A format without an escape character.
+     */
+    VectorRecordScanner(SheetFormat format) {
+        super(format);
+    }
+
+    @Override
+    int findLineBreak(byte[] bytes, int from, int to) {
+        int i = from;
+        for (; i <= to - BLOCK_SIZE; i += BLOCK_SIZE) {
+            long quotes = 0;
+            long lineBreaks = 0;
+            long high = 0;
+            for (int lane = 0; lane < BLOCK_SIZE; lane += SPECIES.length()) {
+                ByteVector vector = ByteVector.fromArray(SPECIES, bytes, i + lane);
+                quotes |= vector.eq(quote).toLong() << lane;
+                lineBreaks |= vector.eq((byte) '\n').or(vector.eq(carriageReturn)).toLong() << lane;
+                high |= vector.lt((byte) 0).toLong() << lane;
+            }
+            long inQuotes = prefixXor(quotes);
+            if (quoted) {
+                inQuotes = ~inQuotes;
+            }
+            long recordEnds = lineBreaks & ~inQuotes;
+            if (recordEnds != 0) {
+                int index = Long.numberOfTrailingZeros(recordEnds);
+                nonAscii |= high & ((1L << index) - 1);
+                return i + index;
+            }
+            nonAscii |= high;
+            quoted = inQuotes < 0;
+        }
+        return findLineBreakBytewise(bytes, i, to);
+    }
+
+    @Override
+    int indexOfQuote(byte[] bytes, int from, int to) {
+        int i = from;
+        for (; i <= to - SPECIES.length(); i += SPECIES.length()) {
+            VectorMask<Byte> quotes = ByteVector.fromArray(SPECIES, bytes, i).eq(quote);
+            if (quotes.anyTrue()) {
+                return i + quotes.firstTrue();
+            }
+        }
+        return Swar.indexOf(bytes, i, to, quote);
+    }
+}
@@ -2,20 +2,33 @@ package io.github.serkankarabulut.sheetmapper;
 
 import io.github.serkankarabulut.sheetmapper.annotation.Column;
 import io.github.serkankarabulut.sheetmapper.converter.ConverterRegistry;
+import io.github.serkankarabulut.sheetmapper.converter.IntConverter;
 import io.github.serkankarabulut.sheetmapper.converter.TypeConverter;
 import io.github.serkankarabulut.sheetmapper.exception.SheetMappingException;
+import io.github.serkankarabulut.sheetmapper.parser.SheetFormat;
+import io.github.serkankarabulut.sheetmapper.parser.SheetParser;
+import io.github.serkankarabulut.sheetmapper.parser.SheetReader;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import java.io.BufferedReader;
 import java.io.File;
+import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -65,6 +78,29 @@ class SheetMapperTest {
         private String name; // No @Column annotation
     }
 
+    public record Product(@Column(name = "SKU") String sku, @Column double price, String note) {
+        public Product {
+            if (sku == null) {
+                throw new IllegalArgumentException("SKU is required");
+            }
+        }
+    }
+
+    public static class Payment {
+        private final String currency;
+        private final long amount;
+        @Column(name = "Reference") private String reference;
+
+        public Payment(@Column(name = "Currency") String currency, @Column(name = "Amount") long amount) {
+            this.currency = currency;
+            this.amount = amount;
+        }
+
+        public String getCurrency() { return currency; }
+        public long getAmount() { return amount; }
+        public String getReference() { return reference; }
+    }
+
     @Nested
     @DisplayName("Successful Mapping Scenarios")
     class SuccessScenarios {
@@ -107,6 +143,33 @@ class SheetMapperTest {
             assertThat(users).isNotNull().isEmpty();
         }
 
+        @Test
+        @DisplayName("When the header contains reordered and extra columns, it should map by column name")
+        void map_whenHeaderIsReorderedWithExtraColumns_shouldMapByName() throws IOException, SheetMappingException {
+            String csvContent = "Active,Extra,Username,ID\ntrue,x,Jane Smith,7";
+            File csvFile = createTempCsvFile("reordered.csv", csvContent);
+            List<User> users = sheetMapper.map(csvFile, User.class);
+
+            assertThat(users).hasSize(1);
+            assertThat(users.getFirst().getId()).isEqualTo(7);
+            assertThat(users.getFirst().getName()).isEqualTo("Jane Smith");
+            assertThat(users.getFirst().isActive()).isTrue();
+        }
+
+        @Test
+        @DisplayName("When a wide file has many unmapped trailing columns, every reading mode should skip them")
+        void map_whenFileHasUnmappedTrailingColumns_shouldSkipThem() throws IOException, SheetMappingException {
+            String trailingHeader = ",Extra".repeat(300);
+            String trailingCells = ",\"x,\"\"y\"\"\nz\"".repeat(300);
+            File csvFile = createTempCsvFile("wide.csv", "Username,Active,ID" + trailingHeader + "\nJane,true,1" + trailingCells + "\r\nJohn,false,2" + trailingCells);
+
+            for (SheetMapper mapper : List.of(sheetMapper, SheetMapper.builder().byteParsing(true).build(), SheetMapper.builder().memoryMapping(true).build())) {
+                assertThat(mapper.map(csvFile, User.class)).extracting(User::getName).containsExactly("Jane", "John");
+                assertThat(mapper.mapPipelined(csvFile, User.class, 2)).extracting(User::getId).containsExactly(1, 2);
+                assertThat(mapper.mapParallel(csvFile, User.class, 2)).extracting(User::isActive).containsExactly(true, false);
+            }
+        }
+
         @Test
         @DisplayName("When the @Column annotation name is empty, it should use the field name as the column name")
         void map_whenColumnNameIsEmpty_shouldUseFieldName() throws IOException, SheetMappingException {
@@ -118,9 +181,774 @@ class SheetMapperTest {
         }
     }
 
+    @Nested
+    @DisplayName("Streaming Mapping Scenarios")
+    class StreamingScenarios {
+        @Test
+        @DisplayName("Given a valid CSV file, stream should lazily map every row in order")
+        void stream_whenCsvIsValid_shouldMapAllRowsInOrder() throws IOException {
+            String csvContent = "ID,Username,Active\n1,Jane Smith,true\n2,John Doe,false\n3,Sam Smith,true";
+            File csvFile = createTempCsvFile("users.csv", csvContent);
+
+            try (Stream<User> users = sheetMapper.stream(csvFile, User.class)) {
+                assertThat(users.map(User::getId)).containsExactly(1, 2, 3);
+            }
+        }
+
+        @Test
+        @DisplayName("When the stream is short-circuited, it should only return the requested rows")
+        void stream_whenShortCircuited_shouldStopEarly() throws IOException {
+            String csvContent = "ID,Username,Active\n1,Jane Smith,true\n2,John Doe,false\n3,Sam Smith,true";
+            File csvFile = createTempCsvFile("users.csv", csvContent);
+
+            try (Stream<User> users = sheetMapper.stream(csvFile, User.class)) {
+                assertThat(users.filter(user -> !user.isActive()).findFirst())
+                        .get()
+                        .extracting(User::getName)
+                        .isEqualTo("John Doe");
+            }
+        }
+
+        @Test
+        @DisplayName("When the CSV file is empty, stream should fail before any row is consumed")
+        void stream_whenCsvIsEmpty_shouldThrowException() throws IOException {
+            File emptyFile = createTempCsvFile("empty.csv", "");
+            assertThatThrownBy(() -> sheetMapper.stream(emptyFile, User.class))
+                    .isInstanceOf(SheetMappingException.class)
+                    .hasMessage("CSV file is empty or does not contain a header row.");
+        }
+
+        @Test
+        @DisplayName("When a row cannot be mapped, the terminal operation should throw SheetMappingException")
+        void stream_whenRowIsInvalid_shouldThrowFromTerminalOperation() throws IOException {
+            String csvContent = "ID,Username,Active\n1,Jane Smith,true\n,John Doe,false";
+            File csvFile = createTempCsvFile("null_for_primitive.csv", csvContent);
+
+            try (Stream<User> users = sheetMapper.stream(csvFile, User.class)) {
+                assertThatThrownBy(users::toList)
+                        .isInstanceOf(SheetMappingException.class)
+                        .hasMessage("Cannot map null value to primitive type: int");
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Push-style Mapping Scenarios")
+    class PushScenarios {
+        private static final String CSV_CONTENT = "ID,Username,Active\n1,A,true\n2,B,false\n3,C,true\n4,D,false\n5,E,true";
+
+        @Test
+        @DisplayName("mapEach should push every mapped row to the consumer in order")
+        void mapEach_shouldPushRowsInOrder() throws IOException {
+            File csvFile = createTempCsvFile("users.csv", CSV_CONTENT);
+            List<Integer> ids = new ArrayList<>();
+
+            sheetMapper.mapEach(csvFile, User.class, user -> ids.add(user.getId()));
+
+            assertThat(ids).containsExactly(1, 2, 3, 4, 5);
+        }
+
+        @Test
+        @DisplayName("mapInBatches should hand over full chunks followed by the remainder")
+        void mapInBatches_shouldHandOverFixedSizeChunks() throws IOException {
+            File csvFile = createTempCsvFile("users.csv", CSV_CONTENT);
+            List<List<Integer>> batches = new ArrayList<>();
+
+            sheetMapper.mapInBatches(csvFile, User.class, 2,
+                    batch -> batches.add(batch.stream().map(User::getId).toList()));
+
+            assertThat(batches).containsExactly(List.of(1, 2), List.of(3, 4), List.of(5));
+        }
+
+        @Test
+        @DisplayName("When the CSV file has only a header row, mapInBatches should not call the consumer")
+        void mapInBatches_whenCsvHasOnlyHeader_shouldNotCallConsumer() throws IOException {
+            File csvFile = createTempCsvFile("header_only.csv", "ID,Username,Active");
+            List<List<User>> batches = new ArrayList<>();
+
+            sheetMapper.mapInBatches(csvFile, User.class, 10, batches::add);
+
+            assertThat(batches).isEmpty();
+        }
+
+        @Test
+        @DisplayName("When the batch size is not positive, mapInBatches should throw SheetMappingException")
+        void mapInBatches_whenBatchSizeIsNotPositive_shouldThrowException() throws IOException {
+            File csvFile = createTempCsvFile("users.csv", CSV_CONTENT);
+            assertThatThrownBy(() -> sheetMapper.mapInBatches(csvFile, User.class, 0, batch -> { }))
+                    .isInstanceOf(SheetMappingException.class)
+                    .hasMessage("Batch size must be greater than zero: 0");
+        }
+
+        @Test
+        @DisplayName("When the consumer is null, mapEach should throw SheetMappingException")
+        void mapEach_whenConsumerIsNull_shouldThrowException() throws IOException {
+            File csvFile = createTempCsvFile("users.csv", CSV_CONTENT);
+            assertThatThrownBy(() -> sheetMapper.mapEach(csvFile, User.class, null))
+                    .isInstanceOf(SheetMappingException.class)
+                    .hasMessage("Consumer cannot be null");
+        }
+    }
+
+    @Nested
+    @DisplayName("Generated Row Mapper Scenarios")
+    class GeneratedRowMapperScenarios {
+        private final SheetMapper generatingMapper = SheetMapper.builder().generatedRowMappers(true).build();
+
+        @Test
+        @DisplayName("With generated row mappers, it should map a valid CSV file like the default engine")
+        void map_withGeneratedRowMappers_shouldMapValidCsv() throws IOException {
+            String csvContent = "Active,Username,ID\ntrue,Jane Smith,1\nfalse,,2";
+            File csvFile = createTempCsvFile("users.csv", csvContent);
+
+            List<User> users = generatingMapper.map(csvFile, User.class);
+
+            assertThat(users).extracting(User::getId).containsExactly(1, 2);
+            assertThat(users).extracting(User::getName).containsExactly("Jane Smith", null);
+            assertThat(users).extracting(User::isActive).containsExactly(true, false);
+        }
+
+        @Test
+        @DisplayName("With generated row mappers, a converter returning a wrong type should throw SheetMappingException")
+        void map_withGeneratedRowMappers_whenConverterReturnsWrongType_shouldThrowException() throws IOException {
+            File csvFile = createTempCsvFile("test.csv", "ID,Username,Active\n1,test,true");
+            ConverterRegistry faultyRegistry = new ConverterRegistry();
+            faultyRegistry.register((Class) int.class, (TypeConverter) (value -> "this is not an integer"));
+            SheetMapper faultyMapper = SheetMapper.builder()
+                    .converterRegistry(faultyRegistry)
+                    .generatedRowMappers(true)
+                    .build();
+
+            assertThatThrownBy(() -> faultyMapper.map(csvFile, User.class))
+                    .isInstanceOf(SheetMappingException.class)
+                    .hasMessageContaining("Type mismatch for field id");
+        }
+    }
+
+    @Nested
+    @DisplayName("Primitive Converter Scenarios")
+    class PrimitiveConverterScenarios {
+
+        private SheetMapper hexMapper(boolean generatedRowMappers) {
+            ConverterRegistry registry = new ConverterRegistry();
+            registry.register(int.class, (IntConverter) value -> Integer.parseInt(value, 0, value.length(), 16));
+            return SheetMapper.builder()
+                    .converterRegistry(registry)
+                    .generatedRowMappers(generatedRowMappers)
+                    .build();
+        }
+
+        @Test
+        @DisplayName("A custom primitive converter should populate primitive fields")
+        void map_withCustomPrimitiveConverter_shouldPopulatePrimitiveFields() throws IOException {
+            File csvFile = createTempCsvFile("users.csv", "ID,Username,Active\nff,test,true");
+
+            assertThat(hexMapper(false).map(csvFile, User.class)).extracting(User::getId).containsExactly(255);
+            assertThat(hexMapper(true).map(csvFile, User.class)).extracting(User::getId).containsExactly(255);
+        }
+
+        @Test
+        @DisplayName("When a custom primitive converter fails, it should throw SheetMappingException")
+        void map_whenCustomPrimitiveConverterFails_shouldThrowException() throws IOException {
+            File csvFile = createTempCsvFile("users.csv", "ID,Username,Active\nxyz,test,true");
+
+            for (boolean generatedRowMappers : new boolean[]{false, true}) {
+                assertThatThrownBy(() -> hexMapper(generatedRowMappers).map(csvFile, User.class))
+                        .isInstanceOf(SheetMappingException.class)
+                        .hasMessageContaining("Error converting value 'xyz' to type int");
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Byte Parsing Scenarios")
+    class ByteParsingScenarios {
+
+        @Test
+        @DisplayName("Byte-level parsing should map ASCII and multibyte UTF-8 cells like the default reader")
+        void map_withByteParsing_shouldMatchReaderParsing() throws IOException {
+            File csvFile = createTempCsvFile("users.csv", "ID,Username,Active\n1,plain,true\n2,\"Zoë, \"\"the\"\" 🦊\",false\r\n3,ascii,true");
+
+            for (boolean generatedRowMappers : new boolean[]{false, true}) {
+                SheetMapper byteMapper = SheetMapper.builder()
+                        .byteParsing(true)
+                        .generatedRowMappers(generatedRowMappers)
+                        .build();
+
+                List<User> users = byteMapper.map(csvFile, User.class);
+
+                assertThat(users).extracting(User::getName).containsExactly("plain", "Zoë, \"the\" 🦊", "ascii");
+                assertThat(users).usingRecursiveComparison().isEqualTo(sheetMapper.map(csvFile, User.class));
+            }
+        }
+
+        @Test
+        @DisplayName("Memory-mapped reading should map and stream rows like the default reader")
+        void map_withMemoryMapping_shouldMatchReaderParsing() throws IOException {
+            File csvFile = createTempCsvFile("users.csv", "ID,Username,Active\n1,\"a \"\"b\"\"\",true\n2,Zoë,false\n3,c,true\n");
+            SheetMapper mappedMapper = SheetMapper.builder().memoryMapping(true).build();
+
+            assertThat(mappedMapper.map(csvFile, User.class)).usingRecursiveComparison().isEqualTo(sheetMapper.map(csvFile, User.class));
+            try (Stream<User> users = mappedMapper.stream(csvFile, User.class)) {
+                assertThat(users.limit(2)).extracting(User::getName).containsExactly("a \"b\"", "Zoë");
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Parallel Mapping Scenarios")
+    class ParallelMappingScenarios {
+
+        @Test
+        @DisplayName("Parallel mapping should return the same rows as sequential mapping")
+        void mapParallel_shouldMatchSequentialMapping() throws IOException {
+            StringBuilder csv = new StringBuilder("ID,Username,Active\n");
+            for (int i = 0; i < 2000; i++) {
+                csv.append(i).append(",\"user\n").append(i).append("\",").append(i % 2 == 0).append('\n');
+            }
+            File csvFile = createTempCsvFile("users.csv", csv.toString());
+
+            for (boolean memoryMapping : new boolean[]{false, true}) {
+                SheetMapper parallelMapper = SheetMapper.builder().memoryMapping(memoryMapping).build();
+
+                List<User> users = parallelMapper.mapParallel(csvFile, User.class, 4);
+
+                assertThat(users).hasSize(2000);
+                assertThat(users).usingRecursiveComparison().isEqualTo(sheetMapper.map(csvFile, User.class));
+            }
+        }
+
+        @Test
+        @DisplayName("Unordered parallel mapping should return and push every row exactly once")
+        void mapParallelUnordered_shouldMapEveryRowOnce() throws IOException {
+            StringBuilder csv = new StringBuilder("ID,Username,Active\n");
+            for (int i = 0; i < 2000; i++) {
+                csv.append(i).append(",\"user\n").append(i).append("\",").append(i % 2 == 0).append('\n');
+            }
+            File csvFile = createTempCsvFile("users.csv", csv.toString());
+            Set<String> expectedNames = new HashSet<>();
+            sheetMapper.mapEach(csvFile, User.class, user -> expectedNames.add(user.getName()));
+
+            List<User> users = sheetMapper.mapParallelUnordered(csvFile, User.class, 4);
+            Set<String> pushedNames = ConcurrentHashMap.newKeySet();
+            sheetMapper.mapEachParallel(csvFile, User.class, 4, user -> pushedNames.add(user.getName()));
+
+            assertThat(users).hasSize(2000);
+            assertThat(users).extracting(User::getName).containsExactlyInAnyOrderElementsOf(expectedNames);
+            assertThat(pushedNames).isEqualTo(expectedNames);
+        }
+
+        @Test
+        @DisplayName("It should throw SheetMappingException when the parallel consumer is null")
+        void mapEachParallel_whenConsumerIsNull_shouldThrowException() throws IOException {
+            File csvFile = createTempCsvFile("users.csv", "ID,Username,Active\n1,a,true");
+
+            assertThatThrownBy(() -> sheetMapper.mapEachParallel(csvFile, User.class, 2, null))
+                    .isInstanceOf(SheetMappingException.class)
+                    .hasMessage("Consumer cannot be null");
+        }
+
+        @Test
+        @DisplayName("It should throw SheetMappingException when the parallelism is not positive")
+        void mapParallel_whenParallelismIsNotPositive_shouldThrowException() throws IOException {
+            File csvFile = createTempCsvFile("users.csv", "ID,Username,Active\n1,a,true");
+
+            assertThatThrownBy(() -> sheetMapper.mapParallel(csvFile, User.class, 0))
+                    .isInstanceOf(SheetMappingException.class)
+                    .hasMessage("Parallelism must be greater than zero: 0");
+        }
+
+        @Test
+        @DisplayName("It should report an empty file and a missing column like sequential mapping")
+        void mapParallel_whenHeaderIsInvalid_shouldThrowException() throws IOException {
+            File emptyFile = createTempCsvFile("empty.csv", "");
+            File missingColumnFile = createTempCsvFile("users.csv", "ID,Active\n1,true");
+
+            assertThatThrownBy(() -> sheetMapper.mapParallel(emptyFile, User.class, 2))
+                    .isInstanceOf(SheetMappingException.class)
+                    .hasMessage("CSV file is empty or does not contain a header row.");
+            assertThatThrownBy(() -> sheetMapper.mapParallel(missingColumnFile, User.class, 2))
+                    .isInstanceOf(SheetMappingException.class)
+                    .hasMessage("Column not found in CSV headers: Username");
+        }
+    }
+
+    @Nested
+    @DisplayName("Pipelined Mapping Scenarios")
+    class PipelinedMappingScenarios {
+
+        @Test
+        @DisplayName("Pipelined mapping should convert custom types on worker threads and keep file order")
+        void mapPipelined_shouldMatchSequentialMapping() throws IOException {
+            ConverterRegistry customRegistry = new ConverterRegistry();
+            customRegistry.register(LocalDate.class, str -> LocalDate.parse(str, DateTimeFormatter.ofPattern("dd/MM/yyyy")));
+            StringBuilder csv = new StringBuilder("Event Name,Date\n");
+            for (int i = 0; i < 1000; i++) {
+                csv.append("Event ").append(i).append(',').append(String.format("%02d/01/2025", i % 28 + 1)).append('\n');
+            }
+            File csvFile = createTempCsvFile("events.csv", csv.toString());
+            SheetMapper pipelinedMapper = SheetMapper.builder()
+                    .converterRegistry(customRegistry)
+                    .pipelineBatchSize(10)
+                    .pipelineQueueDepth(2)
+                    .build();
+
+            List<Event> events = pipelinedMapper.mapPipelined(csvFile, Event.class, 3);
+            Set<String> pushedNames = ConcurrentHashMap.newKeySet();
+            pipelinedMapper.mapEachPipelined(csvFile, Event.class, 3, event -> pushedNames.add(event.getEventName()));
+
+            assertThat(events).usingRecursiveComparison().isEqualTo(SheetMapper.forCsv(customRegistry).map(csvFile, Event.class));
+            assertThat(pushedNames).hasSize(1000);
+        }
+
+        @Test
+        @DisplayName("It should throw SheetMappingException when the number of workers is not positive")
+        void mapPipelined_whenWorkersAreNotPositive_shouldThrowException() throws IOException {
+            File csvFile = createTempCsvFile("users.csv", "ID,Username,Active\n1,a,true");
+
+            assertThatThrownBy(() -> sheetMapper.mapPipelined(csvFile, User.class, 0))
+                    .isInstanceOf(SheetMappingException.class)
+                    .hasMessage("Workers must be greater than zero: 0");
+            assertThatThrownBy(() -> sheetMapper.mapEachPipelined(csvFile, User.class, 2, null))
+                    .isInstanceOf(SheetMappingException.class)
+                    .hasMessage("Consumer cannot be null");
+        }
+
+        @Test
+        @DisplayName("It should reject a pipeline batch size or queue depth that is not positive")
+        void build_whenPipelineSettingsAreNotPositive_shouldThrowException() {
+            assertThatThrownBy(() -> SheetMapper.builder().pipelineBatchSize(0).build())
+                    .isInstanceOf(SheetMappingException.class)
+                    .hasMessage("Pipeline batch size must be greater than zero: 0");
+            assertThatThrownBy(() -> SheetMapper.builder().pipelineQueueDepth(-1).build())
+                    .isInstanceOf(SheetMappingException.class)
+                    .hasMessage("Pipeline queue depth must be greater than zero: -1");
+        }
+    }
+
+    @Nested
+    @DisplayName("Parser Scenarios")
+    class ParserScenarios {
+
+        /**
+         * Reads files with one record per line and cells separated by semicolons, without any quoting.
+         */
+        private final SheetParser semicolonParser = file -> new SheetReader() {
+            private final BufferedReader reader = new BufferedReader(new FileReader(file));
+            private String[] cells;
+
+            @Override
+            public boolean nextRecord() throws IOException {
+                String line = reader.readLine();
+                cells = line == null ? null : line.split(";", -1);
+                return line != null;
+            }
+
+            @Override
+            public int cellCount() {
+                return cells.length;
+            }
+
+            @Override
+            public CharSequence cell(int index) {
+                return cells[index];
+            }
+
+            @Override
+            public void close() throws IOException {
+                reader.close();
+            }
+        };
+
+        @Test
+        @DisplayName("A custom parser should be used by every mapping mode, and parallel modes should fall back to a pipeline")
+        void parser_shouldBeUsedByEveryMappingMode() throws IOException {
+            StringBuilder csv = new StringBuilder("ID;Username;Active\n");
+            for (int i = 1; i <= 500; i++) {
+                csv.append(i).append(";user, ").append(i).append(';').append(i % 2 == 0).append('\n');
+            }
+            File csvFile = createTempCsvFile("users.csv", csv.toString());
+            SheetMapper customMapper = SheetMapper.builder().parser(semicolonParser).pipelineBatchSize(16).build();
+
+            List<User> users = customMapper.map(csvFile, User.class);
+            List<User> parallelUsers = customMapper.mapParallel(csvFile, User.class, 3);
+            List<User> unorderedUsers = customMapper.mapParallelUnordered(csvFile, User.class, 3);
+            Set<Integer> pushedIds = ConcurrentHashMap.newKeySet();
+            customMapper.mapEachParallel(csvFile, User.class, 3, user -> pushedIds.add(user.getId()));
+
+            assertThat(users).hasSize(500);
+            assertThat(users.get(41).getName()).isEqualTo("user, 42");
+            assertThat(users.get(41).isActive()).isTrue();
+            assertThat(parallelUsers).usingRecursiveComparison().isEqualTo(users);
+            assertThat(unorderedUsers).hasSize(500);
+            assertThat(pushedIds).hasSize(500);
+            try (Stream<User> stream = customMapper.stream(csvFile, User.class)) {
+                assertThat(stream.mapToInt(User::getId).sum()).isEqualTo(500 * 501 / 2);
+            }
+        }
+
+        @Test
+        @DisplayName("The built-in parsers should map like the options they correspond to, and take precedence over them")
+        void builtInParsers_shouldMatchTheParsingOptions() throws IOException {
+            File csvFile = createTempCsvFile("users.csv", "ID,Username,Active\n1,\"Doe, Jane\",true\n2,\"Zoë\",false\n");
+            List<User> expected = sheetMapper.map(csvFile, User.class);
+
+            for (SheetParser parser : List.of(SheetParser.csv(), SheetParser.csvBytes(), SheetParser.csvMapped())) {
+                SheetMapper builtInMapper = SheetMapper.builder().memoryMapping(true).parser(parser).build();
+
+                assertThat(builtInMapper.map(csvFile, User.class)).usingRecursiveComparison().isEqualTo(expected);
+                assertThat(builtInMapper.mapParallel(csvFile, User.class, 2)).usingRecursiveComparison().isEqualTo(expected);
+            }
+            assertThatThrownBy(() -> SheetMapper.builder().parser(semicolonParser).build().map(csvFile, User.class))
+                    .isInstanceOf(SheetMappingException.class)
+                    .hasMessageContaining("ID");
+        }
+
+        @Test
+        @DisplayName("It should throw SheetMappingException when a parser fails to open a file or returns no reader")
+        void parser_whenOpeningFails_shouldThrowException() throws IOException {
+            File csvFile = createTempCsvFile("users.csv", "ID,Username,Active\n1,a,true");
+            SheetMapper failingMapper = SheetMapper.builder().parser(file -> {
+                throw new IOException("Parser failed");
+            }).build();
+            SheetMapper nullMapper = SheetMapper.builder().parser(file -> null).build();
+
+            assertThatThrownBy(() -> failingMapper.map(csvFile, User.class))
+                    .isInstanceOf(SheetMappingException.class)
+                    .hasMessage("Error reading file: " + csvFile.getAbsolutePath())
+                    .hasRootCauseMessage("Parser failed");
+            assertThatThrownBy(() -> nullMapper.mapParallel(csvFile, User.class, 2))
+                    .isInstanceOf(SheetMappingException.class)
+                    .hasMessage("Sheet parser returned no reader for file: " + csvFile.getAbsolutePath());
+        }
+    }
+
+    @Nested
+    @DisplayName("Format Scenarios")
+    class FormatScenarios {
+
+        @Test
+        @DisplayName("TSV files should be mapped by every built-in parser and every mapping mode")
+        void tsv_shouldBeMappedByEveryParserAndMode() throws IOException {
+            StringBuilder tsv = new StringBuilder("ID\tUsername\tActive\r\n");
+            for (int i = 1; i <= 500; i++) {
+                tsv.append(i).append("\t\"user\", ").append(i).append('\t').append(i % 2 == 0).append("\r\n");
+            }
+            File tsvFile = createTempCsvFile("users.tsv", tsv.toString());
+
+            for (SheetMapper.Builder builder : List.of(SheetMapper.builder(), SheetMapper.builder().byteParsing(true),
+                    SheetMapper.builder().memoryMapping(true))) {
+                SheetMapper tsvMapper = builder.format(SheetFormat.TSV).build();
+
+                List<User> users = tsvMapper.map(tsvFile, User.class);
+                assertThat(users).hasSize(500);
+                assertThat(users.get(41).getName()).isEqualTo("\"user\", 42");
+                assertThat(users.get(41).isActive()).isTrue();
+                assertThat(tsvMapper.mapParallel(tsvFile, User.class, 3)).usingRecursiveComparison().isEqualTo(users);
+                assertThat(tsvMapper.mapParallelUnordered(tsvFile, User.class, 3)).hasSize(500);
+            }
+        }
+
+        @Test
+        @DisplayName("Formats with an escape character should be mapped, and parallel modes should fall back to a pipeline")
+        void escapedFormat_shouldBeMappedInEveryMode() throws IOException {
+            SheetFormat format = SheetFormat.builder().delimiter(';').escape('\\').build();
+            File csvFile = createTempCsvFile("users.txt", "ID;Username;Active\n1;\"say \\\"hi\\\"; ok\";true\n2;b;false\n");
+            SheetMapper escapedMapper = SheetMapper.builder().format(format).pipelineBatchSize(1).build();
+
+            List<User> users = escapedMapper.map(csvFile, User.class);
+
+            assertThat(users).extracting(User::getName).containsExactly("say \"hi\"; ok", "b");
+            assertThat(escapedMapper.mapParallel(csvFile, User.class, 2)).usingRecursiveComparison().isEqualTo(users);
+            assertThat(escapedMapper.mapParallelUnordered(csvFile, User.class, 2)).hasSize(2);
+            assertThat(SheetMapper.builder().parser(SheetParser.csvMapped(format)).build().map(csvFile, User.class))
+                    .usingRecursiveComparison().isEqualTo(users);
+        }
+
+        @Test
+        @DisplayName("It should throw SheetMappingException for an invalid format")
+        void format_whenInvalid_shouldThrowException() {
+            assertThatThrownBy(() -> SheetFormat.builder().delimiter('"').build())
+                    .isInstanceOf(SheetMappingException.class)
+                    .hasMessage("Quote cannot be the same character as the delimiter: \"");
+            assertThatThrownBy(() -> SheetFormat.builder().delimiter('\n').build())
+                    .isInstanceOf(SheetMappingException.class)
+                    .hasMessage("Delimiter must be an ASCII character other than a line break: U+000A");
+            assertThatThrownBy(() -> SheetFormat.builder().quote('§').build())
+                    .isInstanceOf(SheetMappingException.class)
+                    .hasMessage("Quote must be an ASCII character other than a line break: U+00A7");
+            assertThatThrownBy(() -> SheetFormat.builder().noQuote().escape('\\').build())
+                    .isInstanceOf(SheetMappingException.class)
+                    .hasMessage("An escape character requires a quote character");
+            assertThatThrownBy(() -> SheetMapper.builder().format(null).build())
+                    .isInstanceOf(SheetMappingException.class)
+                    .hasMessage("Sheet format cannot be null");
+            assertThat(SheetFormat.TSV.hasQuote()).isFalse();
+            assertThat(SheetFormat.SEMICOLON).hasToString("SheetFormat{delimiter=;, quote=\", escape=none, lineEnding=ANY}");
+        }
+    }
+
+    @Nested
+    @DisplayName("Headerless Scenarios")
+    class HeaderlessScenarios {
+
+        public static class Quote {
+            @Column(index = 0) private String symbol;
+            @Column(index = 2) private double price;
+            public Quote() {}
+        }
+
+        public record Trade(@Column(index = 1) long quantity, @Column(name = "Symbol") String symbol) {
+        }
+
+        @Test
+        @DisplayName("Files without a header row should be mapped by cell index in every mapping mode")
+        void headerless_shouldBeMappedByIndex() throws IOException {
+            StringBuilder csv = new StringBuilder();
+            for (int i = 0; i < 400; i++) {
+                csv.append("SYM").append(i).append(",\"ignored, ").append(i).append("\",").append(i).append(".5,extra,cells\n");
+            }
+            File csvFile = createTempCsvFile("quotes.csv", csv.toString());
+
+            for (SheetMapper.Builder builder : List.of(SheetMapper.builder(), SheetMapper.builder().byteParsing(true),
+                    SheetMapper.builder().memoryMapping(true))) {
+                SheetMapper headerlessMapper = builder.header(false).pipelineBatchSize(16).build();
+
+                List<Quote> quotes = headerlessMapper.map(csvFile, Quote.class);
+                assertThat(quotes).hasSize(400);
+                assertThat(quotes.get(0).symbol).isEqualTo("SYM0");
+                assertThat(quotes.get(399).price).isEqualTo(399.5);
+                assertThat(headerlessMapper.mapParallel(csvFile, Quote.class, 3)).usingRecursiveComparison().isEqualTo(quotes);
+                assertThat(headerlessMapper.mapParallelUnordered(csvFile, Quote.class, 3)).hasSize(400);
+                assertThat(headerlessMapper.mapPipelined(csvFile, Quote.class, 2)).usingRecursiveComparison().isEqualTo(quotes);
+                try (Stream<Quote> stream = headerlessMapper.stream(csvFile, Quote.class)) {
+                    assertThat(stream.map(quote -> quote.symbol)).startsWith("SYM0", "SYM1");
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("With a header row, columns with an index should be bound to it and the others by name")
+        void header_whenColumnHasIndex_shouldBindItByPosition() throws IOException {
+            File csvFile = createTempCsvFile("trades.csv", "Symbol,Qty\nABC,10\nDEF,20\n");
+
+            assertThat(sheetMapper.map(csvFile, Trade.class)).containsExactly(new Trade(10, "ABC"), new Trade(20, "DEF"));
+        }
+
+        @Test
+        @DisplayName("When a column has no index, headerless mapping should throw SheetMappingException")
+        void headerless_whenColumnHasNoIndex_shouldThrowException() throws IOException {
+            File csvFile = createTempCsvFile("trades.csv", "10,ABC\n");
+            SheetMapper headerlessMapper = SheetMapper.builder().header(false).build();
+
+            assertThatThrownBy(() -> headerlessMapper.map(csvFile, Trade.class))
+                    .isInstanceOf(SheetMappingException.class)
+                    .hasMessageStartingWith("Column 'Symbol' has no index in class");
+            assertThatThrownBy(() -> headerlessMapper.mapParallel(csvFile, Trade.class, 2))
+                    .isInstanceOf(SheetMappingException.class)
+                    .hasMessageStartingWith("Column 'Symbol' has no index in class");
+        }
+    }
+
+    @Nested
+    @DisplayName("Fixed-Width Scenarios")
+    class FixedWidthScenarios {
+
+        public static class Account {
+            @Column(start = 0, length = 8) private String number;
+            @Column(start = 8, length = 12) private String owner;
+            @Column(start = 20, length = 10) private long balance;
+            @Column(start = 30, length = 5) private boolean active;
+            public Account() {}
+        }
+
+        public record Transfer(@Column(start = 0, length = 8) String account, @Column(start = 8, length = 6) int amount) {
+        }
+
+        @Test
+        @DisplayName("Fixed-width files should be mapped by offsets in every mapping mode")
+        void fixedWidth_shouldBeMappedByOffsets() throws IOException {
+            StringBuilder lines = new StringBuilder();
+            for (int i = 1; i <= 300; i++) {
+                lines.append(String.format("%08d%-12s%10d%-5s\r\n", i, "owner " + i, i * 100L, i % 2 == 0));
+            }
+            File file = createTempCsvFile("accounts.dat", lines.toString());
+            SheetMapper fixedWidthMapper = SheetMapper.builder().fixedWidth(true).pipelineBatchSize(16).build();
+
+            List<Account> accounts = fixedWidthMapper.map(file, Account.class);
+
+            assertThat(accounts).hasSize(300);
+            assertThat(accounts.get(41).number).isEqualTo("00000042");
+            assertThat(accounts.get(41).owner).isEqualTo("owner 42");
+            assertThat(accounts.get(41).balance).isEqualTo(4200L);
+            assertThat(accounts.get(41).active).isTrue();
+            assertThat(fixedWidthMapper.mapParallel(file, Account.class, 3)).usingRecursiveComparison().isEqualTo(accounts);
+            assertThat(fixedWidthMapper.mapPipelined(file, Account.class, 2)).usingRecursiveComparison().isEqualTo(accounts);
+            try (Stream<Account> stream = fixedWidthMapper.stream(file, Account.class)) {
+                assertThat(stream.count()).isEqualTo(300);
+            }
+        }
+
+        @Test
+        @DisplayName("Records should be instantiated from fixed-width columns, and short lines should leave columns empty")
+        void fixedWidth_whenTypeIsRecord_shouldMapConstructorArguments() throws IOException {
+            File file = createTempCsvFile("transfers.dat", "ACC00001   250\nACC00002    -5");
+            File shortFile = createTempCsvFile("short-transfers.dat", "ACC00003\n");
+            SheetMapper fixedWidthMapper = SheetMapper.builder().fixedWidth(true).build();
+
+            assertThat(fixedWidthMapper.map(file, Transfer.class))
+                    .containsExactly(new Transfer("ACC00001", 250), new Transfer("ACC00002", -5));
+            assertThatThrownBy(() -> fixedWidthMapper.map(shortFile, Transfer.class))
+                    .isInstanceOf(SheetMappingException.class)
+                    .hasMessage("Cannot map null value to primitive type: int");
+        }
+
+        @Test
+        @DisplayName("When a column has no fixed-width position, it should throw SheetMappingException")
+        void fixedWidth_whenColumnHasNoPosition_shouldThrowException() throws IOException {
+            File file = createTempCsvFile("users.dat", "1 alice\n");
+
+            assertThatThrownBy(() -> SheetMapper.builder().fixedWidth(true).build().map(file, User.class))
+                    .isInstanceOf(SheetMappingException.class)
+                    .hasMessageStartingWith("Column 'ID' has no fixed-width start and length in class");
+        }
+    }
+
+    @Nested
+    @DisplayName("Multi-File Scenarios")
+    class MultiFileScenarios {
+
+        @Test
+        @DisplayName("mapAll should key the rows of every file and collect per-file failures")
+        void mapAll_shouldCollectRowsAndFailuresPerFile() throws IOException {
+            File first = createTempCsvFile("first.csv", "ID,Username,Active\n1,a,true\n2,b,false");
+            File invalid = createTempCsvFile("invalid.csv", "ID,Username,Active\nx,c,true");
+            File second = createTempCsvFile("second.csv", "Username,ID,Active\nd,3,true");
+            File missing = new File(tempDir, "missing.csv");
+
+            MultiFileResult<User> result = sheetMapper.mapAll(List.of(first, invalid, missing, second, first), User.class);
+
+            assertThat(result.isSuccessful()).isFalse();
+            assertThat(result.rowsByFile()).containsOnlyKeys(first, second);
+            assertThat(result.rowsByFile().get(first)).extracting(User::getName).containsExactly("a", "b");
+            assertThat(result.allRows()).extracting(User::getId).containsExactly(1, 2, 3);
+            assertThat(result.failures().keySet()).containsExactly(invalid, missing);
+            assertThat(result.failures().get(invalid)).hasMessageContaining("Error converting value 'x' to type int");
+            assertThat(result.failures().get(missing)).hasMessage("Sheet data file cannot be null and must exist");
+        }
+
+        @Test
+        @DisplayName("mapAllEach should push every row with its file while honoring the concurrency limit")
+        void mapAllEach_shouldPushEveryRowWithItsFile() throws IOException {
+            List<File> files = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                files.add(createTempCsvFile("partner-" + i + ".csv", "ID,Username,Active\n" + i + ",a,true\n" + (i + 100) + ",b,false"));
+            }
+            SheetMapper limitedMapper = SheetMapper.builder().maxConcurrentFiles(3).build();
+            Map<File, List<Integer>> idsByFile = new ConcurrentHashMap<>();
+
+            Map<File, SheetMappingException> failures = limitedMapper.mapAllEach(files, User.class,
+                    (file, user) -> idsByFile.computeIfAbsent(file, key -> new CopyOnWriteArrayList<>()).add(user.getId()));
+
+            assertThat(failures).isEmpty();
+            assertThat(idsByFile).hasSize(20);
+            assertThat(idsByFile.get(files.get(7))).containsExactly(7, 107);
+        }
+
+        @Test
+        @DisplayName("It should reject invalid arguments before mapping any file")
+        void mapAll_whenArgumentsAreInvalid_shouldThrowException() throws IOException {
+            File csvFile = createTempCsvFile("users.csv", "ID,Username,Active\n1,a,true");
+
+            assertThatThrownBy(() -> sheetMapper.mapAll(null, User.class))
+                    .isInstanceOf(SheetMappingException.class)
+                    .hasMessage("Sheet data files cannot be null or contain null");
+            assertThatThrownBy(() -> sheetMapper.mapAll(List.of(csvFile), null))
+                    .isInstanceOf(SheetMappingException.class)
+                    .hasMessage("Class cannot be null");
+            assertThatThrownBy(() -> sheetMapper.mapAllEach(List.of(csvFile), User.class, null))
+                    .isInstanceOf(SheetMappingException.class)
+                    .hasMessage("Consumer cannot be null");
+            assertThatThrownBy(() -> SheetMapper.builder().maxConcurrentFiles(0).build())
+                    .isInstanceOf(SheetMappingException.class)
+                    .hasMessage("Max concurrent files must be greater than zero: 0");
+        }
+    }
+
+    @Nested
+    @DisplayName("Immutable Type Scenarios")
+    class ImmutableTypeScenarios {
+
+        @Test
+        @DisplayName("It should map records through their canonical constructor")
+        void map_whenTargetIsRecord_shouldUseCanonicalConstructor() throws IOException {
+            File csvFile = createTempCsvFile("products.csv", "price,SKU\n9.5,A-1\n12,B-2");
+
+            List<Product> products = sheetMapper.map(csvFile, Product.class);
+
+            assertThat(products).containsExactly(new Product("A-1", 9.5, null), new Product("B-2", 12, null));
+        }
+
+        @Test
+        @DisplayName("It should pass annotated constructor parameters and then write annotated fields")
+        void map_whenConstructorParametersAreAnnotated_shouldUseConstructorAndFields() throws IOException {
+            File csvFile = createTempCsvFile("payments.csv", "Reference,Amount,Currency\nR-1,100,EUR\n,250,USD");
+
+            List<Payment> payments = sheetMapper.map(csvFile, Payment.class);
+
+            assertThat(payments).extracting(Payment::getCurrency).containsExactly("EUR", "USD");
+            assertThat(payments).extracting(Payment::getAmount).containsExactly(100L, 250L);
+            assertThat(payments).extracting(Payment::getReference).containsExactly("R-1", null);
+        }
+
+        @Test
+        @DisplayName("With generated row mappers, it should map records like the default engine")
+        void map_whenTargetIsRecordWithGeneratedRowMappers_shouldMapRecords() throws IOException {
+            File csvFile = createTempCsvFile("products.csv", "SKU,price\nA-1,9.5");
+            SheetMapper generatingMapper = SheetMapper.builder().generatedRowMappers(true).build();
+
+            assertThat(generatingMapper.map(csvFile, Product.class)).containsExactly(new Product("A-1", 9.5, null));
+        }
+
+        @Test
+        @DisplayName("When a primitive record component is blank, it should throw SheetMappingException")
+        void map_whenPrimitiveRecordComponentIsBlank_shouldThrowException() throws IOException {
+            File csvFile = createTempCsvFile("products.csv", "SKU,price\nA-1,");
+
+            assertThatThrownBy(() -> sheetMapper.map(csvFile, Product.class))
+                    .isInstanceOf(SheetMappingException.class)
+                    .hasMessageContaining("Cannot map null value to primitive type: double");
+        }
+
+        @Test
+        @DisplayName("When the canonical constructor throws, it should throw SheetMappingException")
+        void map_whenCanonicalConstructorThrows_shouldThrowException() throws IOException {
+            File csvFile = createTempCsvFile("products.csv", "SKU,price\n,9.5");
+
+            assertThatThrownBy(() -> sheetMapper.map(csvFile, Product.class))
+                    .isInstanceOf(SheetMappingException.class)
+                    .hasMessageContaining("Error creating instance of class: " + Product.class.getName())
+                    .hasRootCauseInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
     @Nested
     @DisplayName("Standard Exception Scenarios")
     class StandardExceptionScenarios {
+        @Test
+        @DisplayName("prepare should accept a mappable class and allow chaining")
+        void prepare_whenClassIsValid_shouldReturnSameMapper() {
+            assertThat(sheetMapper.prepare(User.class).prepare(Event.class)).isSameAs(sheetMapper);
+        }
+
+        @Test
+        @DisplayName("When prepare is given a class without @Column fields, it should throw SheetMappingException")
+        void prepare_whenNoAnnotations_shouldThrowException() {
+            assertThatThrownBy(() -> sheetMapper.prepare(UserWithNoAnnotations.class))
+                    .isInstanceOf(SheetMappingException.class)
+                    .hasMessageContaining("No fields annotated with @Column found in class");
+        }
+
         @Test
         @DisplayName("When the given file does not exist, it should throw SheetMappingException")
         void map_whenFileDoesNotExist_shouldThrowException() {
@@ -131,12 +959,10 @@ class SheetMapperTest {
         }
 
         @Test
-        @DisplayName("When the given file is not a .csv file, it should throw SheetMappingException")
-        void map_whenFileIsNotCsv_shouldThrowException() throws IOException {
-            File txtFile = createTempCsvFile("test.txt", "content");
-            assertThatThrownBy(() -> sheetMapper.map(txtFile, User.class))
-                    .isInstanceOf(SheetMappingException.class)
-                    .hasMessageStartingWith("Sheet data file must be a CSV file:");
+        @DisplayName("When the given file does not end in .csv, it should still be mapped")
+        void map_whenFileIsNotCsv_shouldMapIt() throws IOException {
+            File txtFile = createTempCsvFile("test.txt", "ID,Username,Active\n1,a,true");
+            assertThat(sheetMapper.map(txtFile, User.class)).extracting(User::getName).containsExactly("a");
         }
 
         @Test
@@ -175,6 +1001,15 @@ class SheetMapperTest {
                     .hasMessage("Column not found in CSV headers: Username");
         }
 
+        @Test
+        @DisplayName("When a required column is missing, it should fail before reading any data row")
+        void map_whenColumnIsMissingInHeaderOnlyFile_shouldThrowException() throws IOException {
+            File csvFile = createTempCsvFile("missing_column_header_only.csv", "ID,Active");
+            assertThatThrownBy(() -> sheetMapper.map(csvFile, User.class))
+                    .isInstanceOf(SheetMappingException.class)
+                    .hasMessage("Column not found in CSV headers: Username");
+        }
+
         @Test
         @DisplayName("When trying to map a null value to a primitive field, it should throw SheetMappingException")
         void map_whenNullIsMappedToPrimitive_shouldThrowException() throws IOException {
@@ -8,7 +8,9 @@ import org.junit.jupiter.api.Test;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -69,6 +71,28 @@ class ConverterRegistryTest {
             assertThat(converterRegistry.convert("TRUE", boolean.class)).isEqualTo(true);
             assertThat(converterRegistry.convert("anyOtherString", boolean.class)).isEqualTo(false);
         }
+
+        @Test
+        @DisplayName("default primitive converters should implement the primitive converter interfaces")
+        void defaultPrimitiveConverters_shouldConvertWithoutBoxing() throws Exception {
+            CharSequence value = new StringBuilder("42");
+
+            assertThat(((IntConverter) converterRegistry.getConverter(int.class)).convertInt(value)).isEqualTo(42);
+            assertThat(((LongConverter) converterRegistry.getConverter(long.class)).convertLong(value)).isEqualTo(42L);
+            assertThat(((DoubleConverter) converterRegistry.getConverter(double.class)).convertDouble(value)).isEqualTo(42.0);
+            assertThat(((FloatConverter) converterRegistry.getConverter(float.class)).convertFloat(value)).isEqualTo(42.0f);
+            assertThat(((BooleanConverter) converterRegistry.getConverter(boolean.class)).convertBoolean(new StringBuilder("TrUe"))).isTrue();
+            assertThat(converterRegistry.getConverter(Integer.class)).isInstanceOf(IntConverter.class);
+        }
+
+        @Test
+        @DisplayName("should convert character sequences and keep the String overload")
+        void convert_shouldAcceptStringsAndCharSequences() throws Exception {
+            assertThat(converterRegistry.convert(new StringBuilder("123"), int.class)).isEqualTo(123);
+            assertThat(converterRegistry.convert(new StringBuilder(" "), int.class)).isNull();
+            assertThat(ConverterRegistry.class.getMethod("convert", String.class, Class.class).getReturnType())
+                    .isEqualTo(Object.class);
+        }
     }
 
     @Nested
@@ -150,6 +174,55 @@ class ConverterRegistryTest {
                     .hasMessage("Unsupported type conversion for: Point");
         }
 
+        @Test
+        @DisplayName("getConverter should throw exception for unsupported type")
+        void getConverter_shouldThrowExceptionForUnsupportedType() {
+            assertThatThrownBy(() -> converterRegistry.getConverter(java.awt.Point.class))
+                    .isInstanceOf(SheetMappingException.class)
+                    .hasMessage("Unsupported type conversion for: Point");
+        }
+
+        @Test
+        @DisplayName("should convert with a previously resolved converter")
+        void shouldConvertWithResolvedConverter() {
+            TypeConverter<?> converter = converterRegistry.getConverter(int.class);
+
+            assertThat(converterRegistry.convert("42", int.class, converter)).isEqualTo(42);
+            assertThat(converterRegistry.convert(" ", int.class, converter)).isNull();
+        }
+
+        @Test
+        @DisplayName("isBlank should treat values made only of trimmable characters as blank")
+        void isBlank_shouldMatchTrimSemantics() {
+            assertThat(ConverterRegistry.isBlank(null)).isTrue();
+            assertThat(ConverterRegistry.isBlank("")).isTrue();
+            assertThat(ConverterRegistry.isBlank(new StringBuilder(" \t\r\n\u0000"))).isTrue();
+            assertThat(ConverterRegistry.isBlank(new StringBuilder("  x "))).isFalse();
+            assertThat(ConverterRegistry.isBlank("\u00a0")).isFalse();
+        }
+
+        @Test
+        @DisplayName("should hand a CharSequenceConverter the value view as is")
+        void shouldPassViewToCharSequenceConverter() {
+            StringBuilder view = new StringBuilder("abc");
+            List<CharSequence> received = new ArrayList<>();
+            CharSequenceConverter<Integer> lengthConverter = value -> {
+                received.add(value);
+                return value.length();
+            };
+
+            assertThat(converterRegistry.convert(view, Integer.class, lengthConverter)).isEqualTo(3);
+            assertThat(received).singleElement().isSameAs(view);
+        }
+
+        @Test
+        @DisplayName("should hand a plain TypeConverter a String copy of the value view")
+        void shouldPassStringToPlainConverter() {
+            converterRegistry.register(LocalDate.class, LocalDate::parse);
+
+            assertThat(converterRegistry.convert(new StringBuilder("2025-10-21"), LocalDate.class)).isEqualTo(LocalDate.of(2025, 10, 21));
+        }
+
         @Test
         @DisplayName("should throw exception when conversion fails due to format error")
         void shouldThrowExceptionOnConversionFailure() {
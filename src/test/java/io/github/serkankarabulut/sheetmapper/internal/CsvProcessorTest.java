@@ -1,6 +1,5 @@
 package io.github.serkankarabulut.sheetmapper.internal;
 
-import com.opencsv.exceptions.CsvValidationException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,7 +19,7 @@ class CsvProcessorTest {
 
     @Test
     @DisplayName("readNext should return CSV rows sequentially")
-    void readNext_shouldReturnRowsSequentially() throws CsvValidationException, IOException {
+    void readNext_shouldReturnRowsSequentially() throws IOException {
         // Given
         String csvData = "header1,header2\nvalue1,value2";
         Reader reader = new StringReader(csvData);
@@ -36,7 +35,7 @@ class CsvProcessorTest {
 
     @Test
     @DisplayName("readNext should return null at the end of the stream")
-    void readNext_shouldReturnNullAtEndOfStream() throws CsvValidationException, IOException {
+    void readNext_shouldReturnNullAtEndOfStream() throws IOException {
         // Given
         String csvData = "single,line";
         Reader reader = new StringReader(csvData);
@@ -50,6 +49,19 @@ class CsvProcessorTest {
         }
     }
 
+    @Test
+    @DisplayName("readNext should drop whitespace before an opening quote and keep text after a closing quote")
+    void readNext_shouldDropWhitespaceBeforeQuotes() throws IOException {
+        // Given
+        String csvData = "a, \"b\",c\n \"q\" ,x";
+        Reader reader = new StringReader(csvData);
+        try (CsvProcessor csvProcessor = new CsvProcessor(reader)) {
+            // When & Then
+            assertThat(csvProcessor.readNext()).containsExactly("a", "b", "c");
+            assertThat(csvProcessor.readNext()).containsExactly("q ", "x");
+        }
+    }
+
     @Test
     @DisplayName("close should close the underlying reader")
     void close_shouldCloseUnderlyingReader() throws IOException {
@@ -66,7 +78,7 @@ class CsvProcessorTest {
 
     @Test
     @DisplayName("Processor should be AutoCloseable and close the reader in a try-with-resources block")
-    void processor_shouldBeAutoCloseable() throws IOException, CsvValidationException {
+    void processor_shouldBeAutoCloseable() throws IOException {
         // Given
         Reader readerSpy = spy(new StringReader("a,b"));
 
@@ -0,0 +1,319 @@
+package io.github.serkankarabulut.sheetmapper.internal;
+
+import io.github.serkankarabulut.sheetmapper.parser.SheetFormat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvTokenizerTest {
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Tokenizes the data with the character, the byte (with both record scanners) and the memory-mapped tokenizer,
+     * and checks that they agree.
+     */
+    private List<String[]> tokenize(String csvData, int bufferSize) throws IOException {
+        return tokenize(csvData, bufferSize, SheetFormat.CSV);
+    }
+
+    private List<String[]> tokenize(String csvData, int bufferSize, SheetFormat format) throws IOException {
+        byte[] bytes = csvData.getBytes(StandardCharsets.UTF_8);
+        List<String[]> records = readAll(new CharCsvTokenizer(new StringReader(csvData), bufferSize, format));
+        List<String[]> byteRecords = readAll(new Utf8CsvTokenizer(new ByteArrayInputStream(bytes), bufferSize, 0, format));
+        List<String[]> swarRecords = readAll(new Utf8CsvTokenizer(
+                new ByteArrayInputStream(bytes), bufferSize, 0, format, new SwarRecordScanner(format)));
+        List<String[]> mappedRecords = readAll(mapped(bytes, bufferSize, format));
+        assertThat(byteRecords).usingRecursiveComparison().isEqualTo(records);
+        assertThat(swarRecords).usingRecursiveComparison().isEqualTo(records);
+        assertThat(mappedRecords).usingRecursiveComparison().isEqualTo(records);
+        return records;
+    }
+
+    private MappedCsvTokenizer mapped(byte[] bytes, int windowSize) throws IOException {
+        return mapped(bytes, windowSize, SheetFormat.CSV);
+    }
+
+    private MappedCsvTokenizer mapped(byte[] bytes, int windowSize, SheetFormat format) throws IOException {
+        Path file = Files.write(Files.createTempFile(tempDir, "data", ".csv"), bytes);
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        return new MappedCsvTokenizer(channel, 0, channel.size(), windowSize, format);
+    }
+
+    private static List<String[]> readAll(CsvTokenizer tokenizer) throws IOException {
+        List<String[]> records = new ArrayList<>();
+        try (tokenizer) {
+            while (tokenizer.nextRecord()) {
+                records.add(tokenizer.cellStrings());
+            }
+        }
+        return records;
+    }
+
+    @Test
+    @DisplayName("Quoted cells should be unquoted and may contain delimiters, doubled quotes and line breaks")
+    void quotedCells_shouldBeUnquoted() throws IOException {
+        List<String[]> records = tokenize("\"a,b\",\"say \"\"hi\"\"\",\"line1\nline2\",\"\"\nx,pre\"fix\"ed,y", 64);
+
+        assertThat(records).hasSize(2);
+        assertThat(records.get(0)).containsExactly("a,b", "say \"hi\"", "line1\nline2", "");
+        assertThat(records.get(1)).containsExactly("x", "prefixed", "y");
+    }
+
+    @Test
+    @DisplayName("Whitespace before an opening quote should be dropped, and text around the quotes kept")
+    void whitespaceBeforeQuotes_shouldBeDropped() throws IOException {
+        for (int bufferSize : new int[]{4, 8192}) {
+            List<String[]> records = tokenize("a, \"b\",c\n \"q\" ,x\na,\t\"b\"\"c\",d\na, b ,x \"q\"\n", bufferSize);
+
+            assertThat(records).containsExactly(
+                    new String[]{"a", "b", "c"},
+                    new String[]{"q ", "x"},
+                    new String[]{"a", "b\"c", "d"},
+                    new String[]{"a", " b ", "x q"});
+        }
+    }
+
+    @Test
+    @DisplayName("CRLF, CR and LF should all end a record, and empty cells should be preserved")
+    void lineBreaks_shouldEndRecords() throws IOException {
+        List<String[]> records = tokenize("a,b\r\nc,\rd\n\n,e\r\n", 64);
+
+        assertThat(records).hasSize(5);
+        assertThat(records.get(0)).containsExactly("a", "b");
+        assertThat(records.get(1)).containsExactly("c", "");
+        assertThat(records.get(2)).containsExactly("d");
+        assertThat(records.get(3)).containsExactly("");
+        assertThat(records.get(4)).containsExactly("", "e");
+    }
+
+    @Test
+    @DisplayName("Records larger than the buffer should be read by growing the buffer")
+    void largeRecords_shouldGrowTheBuffer() throws IOException {
+        String wide = "x".repeat(100);
+        StringBuilder csv = new StringBuilder();
+        for (int i = 0; i < 50; i++) {
+            csv.append(i).append(",\"").append(wide).append("\"\"").append(i).append("\",").append(wide).append("\r\n");
+        }
+
+        List<String[]> records = tokenize(csv.toString(), 8);
+
+        assertThat(records).hasSize(50);
+        for (int i = 0; i < 50; i++) {
+            assertThat(records.get(i)).containsExactly(String.valueOf(i), wide + "\"" + i, wide);
+        }
+    }
+
+    @Test
+    @DisplayName("Cell views should reflect the current record")
+    void cellViews_shouldReflectTheCurrentRecord() throws IOException {
+        CsvTokenizer tokenizer = new CharCsvTokenizer(new StringReader("abc,\"d\"\"e\"\n"));
+
+        assertThat(tokenizer.nextRecord()).isTrue();
+        assertThat(tokenizer.cellCount()).isEqualTo(2);
+        CharSequence cell = tokenizer.cell(1);
+        assertThat(cell.length()).isEqualTo(3);
+        assertThat(cell.charAt(1)).isEqualTo('"');
+        assertThat(cell.subSequence(1, 3).toString()).isEqualTo("\"e");
+        assertThat(tokenizer.cell(0).toString()).isEqualTo("abc");
+        assertThatThrownBy(() -> tokenizer.cell(2)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThat(tokenizer.nextRecord()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Byte cell views should decode multibyte UTF-8 cells and read ASCII cells in place")
+    void byteCellViews_shouldDecodeOnlyNonAsciiCells() throws IOException {
+        byte[] csvData = "id,naïve,€5\n".getBytes(StandardCharsets.UTF_8);
+        CsvTokenizer tokenizer = new Utf8CsvTokenizer(new ByteArrayInputStream(csvData));
+
+        assertThat(tokenizer.nextRecord()).isTrue();
+        assertThat(tokenizer.cell(0).toString()).isEqualTo("id");
+        CharSequence naive = tokenizer.cell(1);
+        assertThat(naive.length()).isEqualTo(5);
+        assertThat(naive.charAt(2)).isEqualTo('ï');
+        assertThat(tokenizer.cell(2).toString()).isEqualTo("€5");
+        assertThat(tokenizer.cell(2).charAt(1)).isEqualTo('5');
+        assertThat(tokenizer.nextRecord()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Mapped cell views should read cells from the mapping and unescaped cells from the scratch buffer")
+    void mappedCellViews_shouldReadMappingAndScratch() throws IOException {
+        try (CsvTokenizer tokenizer = mapped("plain,\"q\"\"x\",ü\n".getBytes(StandardCharsets.UTF_8), 4)) {
+            assertThat(tokenizer.nextRecord()).isTrue();
+            assertThat(tokenizer.cell(0).toString()).isEqualTo("plain");
+            assertThat(tokenizer.cell(0).charAt(4)).isEqualTo('n');
+            assertThat(tokenizer.cell(1).toString()).isEqualTo("q\"x");
+            assertThat(tokenizer.cell(1).subSequence(1, 3).toString()).isEqualTo("\"x");
+            assertThat(tokenizer.cell(2).length()).isEqualTo(1);
+            assertThat(tokenizer.cell(2).toString()).isEqualTo("ü");
+            assertThat(tokenizer.nextRecord()).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("Limited tokenizers should split only the leading cells and still find the end of every record")
+    void limitCells_shouldSkipTrailingCells() throws IOException {
+        String csvData = "a,\"b,\"\"x\",c,\"d\ne\",f\r\ng\r\nh,i,j\n";
+        byte[] bytes = csvData.getBytes(StandardCharsets.UTF_8);
+        List<CsvTokenizer> tokenizers = List.of(
+                new CharCsvTokenizer(new StringReader(csvData), 8),
+                new Utf8CsvTokenizer(new ByteArrayInputStream(bytes), 8),
+                mapped(bytes, 8));
+
+        for (CsvTokenizer tokenizer : tokenizers) {
+            tokenizer.limitCells(2);
+            List<String[]> records = readAll(tokenizer);
+
+            assertThat(records).hasSize(3);
+            assertThat(records.get(0)).containsExactly("a", "b,\"x");
+            assertThat(records.get(1)).containsExactly("g");
+            assertThat(records.get(2)).containsExactly("h", "i");
+        }
+    }
+
+    @Test
+    @DisplayName("Quote-free records should be split in one pass until a quote appears, and in two passes after it")
+    void quoteFreeRecords_shouldFallBackAtTheFirstQuote() throws IOException {
+        String[] lineBreaks = {"\n", "\r\n", "\r"};
+        StringBuilder csv = new StringBuilder();
+        List<String[]> expected = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            // Past the first quote scan, every 100th record is quoted and every 7th is not pure ASCII
+            String name = i % 7 == 0 ? "Zoë " + i : "name " + i;
+            boolean quoted = i > 2000 && i % 100 == 0;
+            csv.append(i).append(',').append(quoted ? "\"" + name + ",\"\"q\"\"\"" : name).append(",,x")
+                    .append(lineBreaks[i % 3]);
+            expected.add(new String[]{String.valueOf(i), quoted ? name + ",\"q\"" : name, "", "x"});
+        }
+
+        for (int bufferSize : new int[]{8, CsvTokenizer.DEFAULT_BUFFER_SIZE}) {
+            List<String[]> records = tokenize(csv.toString(), bufferSize);
+
+            assertThat(records).hasSize(expected.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertThat(records.get(i)).containsExactly(expected.get(i));
+            }
+        }
+
+        CsvTokenizer limited = new CharCsvTokenizer(new StringReader(csv.toString()));
+        limited.limitCells(2);
+        List<String[]> limitedRecords = readAll(limited);
+        assertThat(limitedRecords).hasSize(expected.size());
+        assertThat(limitedRecords.get(2999)).containsExactly("2999", "name 2999");
+    }
+
+    @Test
+    @DisplayName("Formats without quotes should split every record in one pass, with quotes as ordinary characters")
+    void unquotedFormats_shouldSplitEveryRecordInOnePass() throws IOException {
+        String[] lineBreaks = {"\n", "\r\n", "\r"};
+        StringBuilder tsv = new StringBuilder();
+        List<String[]> expected = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            String name = i % 7 == 0 ? "Zoë \"" + i : "name, " + i;
+            tsv.append(i).append('\t').append(name).append("\t\t\"x");
+            expected.add(new String[]{String.valueOf(i), name, "", "\"x"});
+            if (i < 499) {
+                tsv.append(lineBreaks[i % 3]);
+            }
+        }
+
+        for (int bufferSize : new int[]{4, 8, 100, CsvTokenizer.DEFAULT_BUFFER_SIZE}) {
+            List<String[]> records = tokenize(tsv.toString(), bufferSize, SheetFormat.TSV);
+
+            assertThat(records).hasSize(expected.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertThat(records.get(i)).containsExactly(expected.get(i));
+            }
+        }
+
+        byte[] bytes = tsv.toString().getBytes(StandardCharsets.UTF_8);
+        List<CsvTokenizer> tokenizers = List.of(
+                new CharCsvTokenizer(new StringReader(tsv.toString()), 8, SheetFormat.TSV),
+                new Utf8CsvTokenizer(new ByteArrayInputStream(bytes), 8, 0, SheetFormat.TSV),
+                mapped(bytes, 8, SheetFormat.TSV));
+        for (CsvTokenizer tokenizer : tokenizers) {
+            tokenizer.limitCells(2);
+            List<String[]> records = readAll(tokenizer);
+
+            assertThat(records).hasSize(expected.size());
+            assertThat(records.get(499)).containsExactly("499", "name, 499");
+        }
+    }
+
+    @Test
+    @DisplayName("Quoted formats should split on their own delimiter and quote")
+    void quotedFormats_shouldUseTheirDelimiterAndQuote() throws IOException {
+        List<String[]> pipe = tokenize("a|\"b|c\"|d,e\n\"x\"\"y\"|;\n", 8, SheetFormat.PIPE);
+        List<String[]> semicolon = tokenize("1,5;'a;b'''\n'\n';x", 8, SheetFormat.builder().delimiter(';').quote('\'').build());
+
+        assertThat(pipe).hasSize(2);
+        assertThat(pipe.get(0)).containsExactly("a", "b|c", "d,e");
+        assertThat(pipe.get(1)).containsExactly("x\"y", ";");
+        assertThat(semicolon).hasSize(2);
+        assertThat(semicolon.get(0)).containsExactly("1,5", "a;b'");
+        assertThat(semicolon.get(1)).containsExactly("\n", "x");
+    }
+
+    @Test
+    @DisplayName("Escaped quotes and escapes should be literal inside quoted cells, and escapes should be literal outside")
+    void escapedQuotes_shouldBeLiteral() throws IOException {
+        SheetFormat format = SheetFormat.builder().escape('\\').build();
+        String csvData = "\"a\\\"b\",c\\d\n\"x\\\\\",\"\\\"\n\",\"p\\q\"\"r\"\n";
+        List<String[]> expected = List.of(
+                new String[]{"a\"b", "c\\d"},
+                new String[]{"x\\", "\"\n", "p\\q\"r"});
+
+        for (int bufferSize = 1; bufferSize <= 16; bufferSize++) {
+            List<String[]> records = tokenize(csvData, bufferSize, format);
+
+            assertThat(records).usingRecursiveComparison().isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("With LF line endings, a carriage return should be part of the cell")
+    void lfLineEnding_shouldKeepCarriageReturns() throws IOException {
+        SheetFormat format = SheetFormat.builder().lineEnding(SheetFormat.LineEnding.LF).build();
+        SheetFormat unquoted = SheetFormat.builder().delimiter('\t').noQuote().lineEnding(SheetFormat.LineEnding.LF).build();
+
+        List<String[]> records = tokenize("a,b\r\nc\rd,\"e\r\n\"\n", 8, format);
+        List<String[]> unquotedRecords = tokenize("a\tb\r\nc\rd\n", 8, unquoted);
+
+        assertThat(records).hasSize(2);
+        assertThat(records.get(0)).containsExactly("a", "b\r");
+        assertThat(records.get(1)).containsExactly("c\rd", "e\r\n");
+        assertThat(unquotedRecords).hasSize(2);
+        assertThat(unquotedRecords.get(0)).containsExactly("a", "b\r");
+        assertThat(unquotedRecords.get(1)).containsExactly("c\rd");
+    }
+
+    @Test
+    @DisplayName("An unterminated quoted cell should be reported")
+    void unterminatedQuote_shouldThrow() {
+        assertThatThrownBy(() -> readAll(new CharCsvTokenizer(new StringReader("a,\"b\nc,d"))))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Unterminated quoted field");
+        assertThatThrownBy(() -> readAll(new Utf8CsvTokenizer(new ByteArrayInputStream("a,\"b\nc,d".getBytes(StandardCharsets.UTF_8)))))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Unterminated quoted field");
+        assertThatThrownBy(() -> readAll(mapped("a,\"b\nc,d".getBytes(StandardCharsets.UTF_8), 4)))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Unterminated quoted field");
+    }
+}
@@ -0,0 +1,64 @@
+package io.github.serkankarabulut.sheetmapper.internal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FieldWriterTest {
+
+    public static class Sample {
+        private int count;
+        private double ratio;
+        private String label;
+    }
+
+    private static FieldWriter writerFor(String fieldName) throws Exception {
+        var field = Sample.class.getDeclaredField(fieldName);
+        field.setAccessible(true);
+        return FieldWriter.of(field);
+    }
+
+    @Test
+    @DisplayName("Typed setters should write primitive fields")
+    void typedSetters_shouldWritePrimitiveFields() throws Exception {
+        Sample sample = new Sample();
+
+        writerFor("count").setInt(sample, 42);
+        writerFor("ratio").setDouble(sample, 0.25);
+
+        assertThat(sample.count).isEqualTo(42);
+        assertThat(sample.ratio).isEqualTo(0.25);
+    }
+
+    @Test
+    @DisplayName("The generic setter should unbox values for primitive fields and write references as is")
+    void set_shouldWriteBoxedAndReferenceValues() throws Exception {
+        Sample sample = new Sample();
+
+        writerFor("count").set(sample, 7);
+        writerFor("label").set(sample, "seven");
+
+        assertThat(sample.count).isEqualTo(7);
+        assertThat(sample.label).isEqualTo("seven");
+    }
+
+    @Test
+    @DisplayName("When the value has the wrong type, set should throw ClassCastException")
+    void set_whenValueHasWrongType_shouldThrowClassCastException() throws Exception {
+        Sample sample = new Sample();
+
+        assertThatThrownBy(() -> writerFor("count").set(sample, "not a number"))
+                .isInstanceOf(ClassCastException.class);
+        assertThatThrownBy(() -> writerFor("label").set(sample, 1))
+                .isInstanceOf(ClassCastException.class);
+    }
+
+    @Test
+    @DisplayName("When a typed setter does not match the field type, it should throw UnsupportedOperationException")
+    void typedSetter_whenTypeDoesNotMatch_shouldThrowException() throws Exception {
+        assertThatThrownBy(() -> writerFor("label").setInt(new Sample(), 1))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+}
@@ -0,0 +1,55 @@
+package io.github.serkankarabulut.sheetmapper.internal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FixedWidthReaderTest {
+
+    private static final int[] STARTS = {0, 6, 16};
+    private static final int[] LENGTHS = {6, 10, 4};
+
+    @Test
+    @DisplayName("Columns should be sliced at their offsets and stripped of padding, whatever the buffer size")
+    void cells_shouldBeSlicedAtTheirOffsets() throws IOException {
+        String lines = "A00001Alice       42\r\n"
+                + "A00002  Bob     0007\n"
+                + "A00003Carol\r"
+                + "\r\n"
+                + "A00004Dave         9";
+        List<List<String>> expected = List.of(
+                List.of("A00001", "Alice", "42"),
+                List.of("A00002", "Bob", "0007"),
+                List.of("A00003", "Carol", ""),
+                List.of("", "", ""),
+                List.of("A00004", "Dave", "9"));
+
+        for (int bufferSize = 1; bufferSize <= 24; bufferSize++) {
+            assertThat(read(lines, bufferSize)).as("buffer size %d", bufferSize).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("A trailing line break should not produce an empty record")
+    void nextRecord_afterTrailingLineBreak_shouldReturnFalse() throws IOException {
+        assertThat(read("A00001Alice       42\r\n", 8)).hasSize(1);
+        assertThat(read("", 8)).isEmpty();
+    }
+
+    private static List<List<String>> read(String lines, int bufferSize) throws IOException {
+        List<List<String>> records = new ArrayList<>();
+        try (FixedWidthReader reader = new FixedWidthReader(new StringReader(lines), bufferSize, STARTS, LENGTHS)) {
+            while (reader.nextRecord()) {
+                assertThat(reader.cellCount()).isEqualTo(STARTS.length);
+                records.add(List.of(reader.cellStrings()));
+            }
+        }
+        return records;
+    }
+}
@@ -0,0 +1,274 @@
+package io.github.serkankarabulut.sheetmapper.internal;
+
+import io.github.serkankarabulut.sheetmapper.annotation.Column;
+import io.github.serkankarabulut.sheetmapper.converter.ConverterRegistry;
+import io.github.serkankarabulut.sheetmapper.exception.SheetMappingException;
+import io.github.serkankarabulut.sheetmapper.generated.GeneratedMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MappingPlanTest {
+
+    public static class Product {
+        @Column(name = "SKU") private String sku;
+        private String ignored;
+        @Column private double price;
+        public Product() {}
+    }
+
+    public static class ProductWithDuplicateColumn {
+        @Column(name = "SKU") private String sku;
+        @Column(name = "SKU") private String code;
+        public ProductWithDuplicateColumn() {}
+    }
+
+    public record Parcel(@Column(start = 0, length = 8) String trackingNumber, @Column(start = 8, length = 4) int weight) {
+    }
+
+    public static class ParcelWithoutLength {
+        @Column(start = 0) private String trackingNumber;
+        public ParcelWithoutLength() {}
+    }
+
+    public static class ParcelWithNegativeIndex {
+        @Column(index = -2) private String trackingNumber;
+        public ParcelWithNegativeIndex() {}
+    }
+
+    public record Shipment(@Column(name = "Tracking") String trackingNumber, int parcels, @Column long weight) {
+    }
+
+    public record Gauge(@Column int count, @Column long total, @Column double mean, @Column float peak,
+                        @Column boolean valid, @Column char grade, @Column short level, @Column String label) {
+    }
+
+    public static class ShipmentWithTwoColumnConstructors {
+        public ShipmentWithTwoColumnConstructors(@Column(name = "Tracking") String trackingNumber) {}
+        public ShipmentWithTwoColumnConstructors(@Column(name = "Weight") long weight) {}
+    }
+
+    public static class Reading {
+        @Column private String sensor;
+        @Column private int count;
+        public Reading() {}
+    }
+
+    /**
+     * Loads {@link Reading} itself instead of delegating to its parent, the way a plugin or web application class
+     * loader defines the classes of its own archive.
+     */
+    private static final class ChildFirstClassLoader extends URLClassLoader {
+        ChildFirstClassLoader() {
+            super(new URL[]{MappingPlanTest.class.getProtectionDomain().getCodeSource().getLocation()},
+                    MappingPlanTest.class.getClassLoader());
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.equals(Reading.class.getName())) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> type = findLoadedClass(name);
+                return type != null ? type : findClass(name);
+            }
+        }
+    }
+
+    public static class Invoice {
+        @Column(name = "Number") private String number;
+        @Column private int lines;
+        public Invoice() {}
+
+        /**
+         * Stands in for the class the annotation processor generates as {@code Invoice$SheetMapper}.
+         */
+        public static final class SheetMapper implements GeneratedMapper<Invoice> {
+            static int instantiations;
+
+            @Override public Class<Invoice> type() { return Invoice.class; }
+            @Override public String[] columnNames() { return new String[]{"Number", "lines"}; }
+            @Override public String[] fieldNames() { return new String[]{"number", "lines"}; }
+            @Override public Class<?>[] columnTypes() { return new Class<?>[]{String.class, int.class}; }
+
+            @Override
+            public Invoice newInstance() {
+                instantiations++;
+                return new Invoice();
+            }
+
+            @Override
+            public void set(Invoice target, int column, Object value) {
+                switch (column) {
+                    case 0 -> target.number = (String) value;
+                    case 1 -> target.lines = (Integer) value;
+                    default -> throw new IndexOutOfBoundsException("Column index out of range: " + column);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("When a generated mapper exists, of should build the plan from it without reflection")
+    void of_whenGeneratedMapperExists_shouldUseIt() {
+        MappingPlan<Invoice> plan = MappingPlan.of(Invoice.class);
+        int instantiationsBefore = Invoice.SheetMapper.instantiations;
+
+        Invoice invoice = plan.newInstance();
+        plan.columns().get(0).writer().set(invoice, "INV-1");
+        plan.columns().get(1).writer().set(invoice, 3);
+
+        assertThat(Invoice.SheetMapper.instantiations).isEqualTo(instantiationsBefore + 1);
+        assertThat(plan.columns()).extracting(MappingPlan.ColumnMapping::field).containsOnlyNulls();
+        assertThat(plan.columns()).extracting(MappingPlan.ColumnMapping::fieldName).containsExactly("number", "lines");
+        assertThat(invoice.number).isEqualTo("INV-1");
+        assertThat(invoice.lines).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("of should resolve annotated fields in declaration order")
+    void of_shouldResolveAnnotatedFieldsInDeclarationOrder() {
+        MappingPlan<Product> plan = MappingPlan.of(Product.class);
+
+        assertThat(plan.type()).isEqualTo(Product.class);
+        assertThat(plan.columns())
+                .extracting(MappingPlan.ColumnMapping::name)
+                .containsExactly("SKU", "price");
+        assertThat(plan.columns())
+                .extracting(MappingPlan.ColumnMapping::type)
+                .containsExactly(String.class, double.class);
+    }
+
+    @Test
+    @DisplayName("of should return the cached plan on subsequent calls")
+    void of_shouldReturnCachedPlan() {
+        assertThat(MappingPlan.of(Product.class)).isSameAs(MappingPlan.of(Product.class));
+    }
+
+    @Test
+    @DisplayName("When two fields map to the same column, of should throw SheetMappingException")
+    void of_whenColumnIsDuplicated_shouldThrowException() {
+        assertThatThrownBy(() -> MappingPlan.of(ProductWithDuplicateColumn.class))
+                .isInstanceOf(SheetMappingException.class)
+                .hasMessageStartingWith("Column 'SKU' is mapped by more than one field in class");
+    }
+
+    @Test
+    @DisplayName("For a record, of should map annotated components to constructor arguments")
+    void of_whenTypeIsRecord_shouldMapComponentsToConstructorArguments() {
+        MappingPlan<Shipment> plan = MappingPlan.of(Shipment.class);
+
+        assertThat(plan.argumentCount()).isEqualTo(2);
+        assertThat(plan.columns())
+                .extracting(MappingPlan.ColumnMapping::name)
+                .containsExactly("Tracking", "weight");
+
+        assertThat(plan.newInstance(plan.newArgumentBuffer())).isEqualTo(new Shipment(null, 0, 0L));
+        MappingPlan.Arguments arguments = plan.newArgumentBuffer();
+        plan.columns().get(0).writer().set(arguments, "TR-1");
+        plan.columns().get(1).writer().set(arguments, 12L);
+        assertThat(plan.newInstance(arguments)).isEqualTo(new Shipment("TR-1", 0, 12L));
+    }
+
+    @Test
+    @DisplayName("For a record, writing a value of the wrong type into an argument should throw ClassCastException")
+    void of_whenArgumentValueHasWrongType_shouldThrowClassCastException() {
+        MappingPlan<Shipment> plan = MappingPlan.of(Shipment.class);
+        MappingPlan.Arguments arguments = plan.newArgumentBuffer();
+
+        assertThatThrownBy(() -> plan.columns().get(1).writer().set(arguments, "heavy"))
+                .isInstanceOf(ClassCastException.class);
+    }
+
+    @Test
+    @DisplayName("Primitive constructor arguments should be written into typed slots without boxing")
+    void of_whenArgumentIsPrimitive_shouldWriteTypedSlot() {
+        MappingPlan<Gauge> plan = MappingPlan.of(Gauge.class);
+        List<FieldWriter> writers = plan.columns().stream().map(MappingPlan.ColumnMapping::writer).toList();
+        MappingPlan.Arguments arguments = plan.newArgumentBuffer();
+
+        writers.get(0).setInt(arguments, -7);
+        writers.get(1).setLong(arguments, Long.MAX_VALUE);
+        writers.get(2).setDouble(arguments, 0.1);
+        writers.get(3).setFloat(arguments, 1.5f);
+        writers.get(4).setBoolean(arguments, true);
+        writers.get(5).set(arguments, 'B');
+        writers.get(6).set(arguments, (short) -3);
+        writers.get(7).set(arguments, "main");
+
+        assertThat(writers).extracting(FieldWriter::hasTypedSetter)
+                .containsExactly(true, true, true, true, true, false, false, false);
+        assertThat(plan.newInstance(arguments)).isEqualTo(new Gauge(-7, Long.MAX_VALUE, 0.1, 1.5f, true, 'B', (short) -3, "main"));
+        assertThatThrownBy(() -> writers.get(0).setLong(arguments, 1L)).isInstanceOf(UnsupportedOperationException.class);
+        ConverterRegistry registry = new ConverterRegistry();
+        registry.register(char.class, value -> value.charAt(0));
+        registry.register(short.class, Short::valueOf);
+        assertThat(RowBinding.bind(plan, new String[]{"count", "total", "mean", "peak", "valid", "grade", "level", "label"},
+                registry).valueKinds())
+                .startsWith(RowBinding.INT_VALUE, RowBinding.LONG_VALUE, RowBinding.DOUBLE_VALUE, RowBinding.FLOAT_VALUE,
+                        RowBinding.BOOLEAN_VALUE);
+    }
+
+    @Test
+    @DisplayName("When more than one constructor has annotated parameters, of should throw SheetMappingException")
+    void of_whenTwoConstructorsAreAnnotated_shouldThrowException() {
+        assertThatThrownBy(() -> MappingPlan.of(ShipmentWithTwoColumnConstructors.class))
+                .isInstanceOf(SheetMappingException.class)
+                .hasMessageStartingWith("More than one constructor has parameters annotated with @Column in class");
+    }
+
+    @Test
+    @DisplayName("of should resolve the fixed-width positions of annotated columns")
+    void of_shouldResolveFixedWidthPositions() {
+        MappingPlan<Parcel> plan = MappingPlan.of(Parcel.class);
+
+        assertThat(plan.columns()).extracting(MappingPlan.ColumnMapping::start).containsExactly(0, 8);
+        assertThat(plan.columns()).extracting(MappingPlan.ColumnMapping::length).containsExactly(8, 4);
+        assertThat(MappingPlan.of(Product.class).columns()).noneMatch(MappingPlan.ColumnMapping::hasFixedWidth);
+    }
+
+    @Test
+    @DisplayName("When a column declares a start without a length, of should throw SheetMappingException")
+    void of_whenFixedWidthPositionIsIncomplete_shouldThrowException() {
+        assertThatThrownBy(() -> MappingPlan.of(ParcelWithoutLength.class))
+                .isInstanceOf(SheetMappingException.class)
+                .hasMessageStartingWith("Column 'trackingNumber' must have a start of at least 0 and a length greater than 0 in class");
+    }
+
+    @Test
+    @DisplayName("of should resolve the index of columns bound by position")
+    void of_shouldResolveColumnIndexes() {
+        assertThat(MappingPlan.of(Product.class).columns()).extracting(MappingPlan.ColumnMapping::index).containsExactly(-1, -1);
+        assertThatThrownBy(() -> MappingPlan.of(ParcelWithNegativeIndex.class))
+                .isInstanceOf(SheetMappingException.class)
+                .hasMessageStartingWith("Column 'trackingNumber' must have an index of at least 0 in class");
+    }
+
+    @Test
+    @DisplayName("of should instantiate a class defined by a child class loader")
+    void of_whenClassIsDefinedByChildLoader_shouldInstantiateIt() throws Exception {
+        try (ChildFirstClassLoader classLoader = new ChildFirstClassLoader()) {
+            Class<?> type = classLoader.loadClass(Reading.class.getName());
+            assertThat(type).isNotSameAs(Reading.class);
+            Field count = type.getDeclaredField("count");
+            count.setAccessible(true);
+            MappingPlan<?> plan = MappingPlan.of(type);
+
+            Object reading = plan.newInstance();
+            RowBinding<?> binding = RowBinding.bind(plan, new String[]{"sensor", "count"}, new ConverterRegistry());
+            Object generated = RowMapperGenerator.generate(binding).mapRow(new String[]{"s-1", "7"});
+
+            assertThat(reading).isInstanceOf(type);
+            assertThat(generated).isInstanceOf(type);
+            assertThat(count.getInt(generated)).isEqualTo(7);
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package io.github.serkankarabulut.sheetmapper.internal;
+
+import io.github.serkankarabulut.sheetmapper.annotation.Column;
+import io.github.serkankarabulut.sheetmapper.converter.ConverterRegistry;
+import io.github.serkankarabulut.sheetmapper.exception.SheetMappingException;
+import io.github.serkankarabulut.sheetmapper.parser.SheetFormat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParallelCsvMapperTest {
+
+    public static class Note {
+        @Column(name = "id") int id;
+        @Column(name = "text") String text;
+    }
+
+    public static class TaggedNote {
+        @Column(name = "id") int id;
+        @Column(name = "text") String text;
+        @Column(name = "tail") String tail;
+    }
+
+    public static class IndexedNote {
+        @Column(index = 0) int id;
+        @Column(index = 1) String text;
+    }
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Every third record has a quoted cell spanning several lines, so that many ranges start inside quotes.
+     */
+    private static String notes(int count, String lineBreak) {
+        StringBuilder csv = new StringBuilder("id,text").append(lineBreak);
+        for (int i = 0; i < count; i++) {
+            String text = i % 3 == 0
+                    ? "\"line " + i + lineBreak + "9,\"\"not a row\"\"" + lineBreak + "more\""
+                    : "plain " + i;
+            csv.append(i).append(',').append(text).append(lineBreak);
+        }
+        return csv.toString();
+    }
+
+    private List<Note> mapParallel(String csvData, boolean memoryMapping) throws IOException {
+        Path file = Files.writeString(tempDir.resolve("notes.csv"), csvData, StandardCharsets.UTF_8);
+        ParallelCsvMapper mapper = new ParallelCsvMapper(file, memoryMapping, SheetFormat.CSV, 64);
+        String[] headers = mapper.readHeader();
+        MappingPlan<Note> plan = MappingPlan.of(Note.class);
+        ConverterRegistry registry = new ConverterRegistry();
+        return mapper.mapOrdered(() -> RowBinding.bind(plan, headers, registry), 4);
+    }
+
+    private List<Note> mapUnordered(String csvData, boolean memoryMapping, boolean sink) throws IOException {
+        Path file = Files.writeString(tempDir.resolve("notes.csv"), csvData, StandardCharsets.UTF_8);
+        ParallelCsvMapper mapper = new ParallelCsvMapper(file, memoryMapping, SheetFormat.CSV, 64);
+        String[] headers = mapper.readHeader();
+        MappingPlan<Note> plan = MappingPlan.of(Note.class);
+        ConverterRegistry registry = new ConverterRegistry();
+        if (!sink) {
+            return mapper.mapUnordered(() -> RowBinding.bind(plan, headers, registry), 4);
+        }
+        Queue<Note> notes = new ConcurrentLinkedQueue<>();
+        mapper.mapUnordered(() -> RowBinding.bind(plan, headers, registry), 4, notes::add);
+        return new ArrayList<>(notes);
+    }
+
+    private static List<Note> mapSequential(String csvData) throws IOException {
+        List<Note> notes = new ArrayList<>();
+        try (CsvProcessor processor = new CsvProcessor(new StringReader(csvData))) {
+            RowBinding<Note> binding = RowBinding.bind(MappingPlan.of(Note.class), processor.readNext(), new ConverterRegistry());
+            while (processor.nextRecord()) {
+                notes.add(binding.mapRow(processor));
+            }
+        }
+        return notes;
+    }
+
+    private static String describe(Note note) {
+        return note.id + ":" + note.text;
+    }
+
+    @Test
+    @DisplayName("Ranges starting inside quoted line breaks should be detected and rows kept in file order")
+    void mapOrdered_shouldMatchSequentialMapping() throws IOException {
+        for (boolean memoryMapping : new boolean[]{false, true}) {
+            for (String lineBreak : new String[]{"\n", "\r\n"}) {
+                String csvData = notes(300, lineBreak);
+
+                List<Note> notes = mapParallel(csvData, memoryMapping);
+
+                assertThat(notes).hasSize(300);
+                assertThat(notes).extracting(note -> note.id).isSorted();
+                assertThat(notes).extracting(ParallelCsvMapperTest::describe)
+                        .containsExactlyElementsOf(mapSequential(csvData).stream().map(ParallelCsvMapperTest::describe).toList());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("A range starting inside a quoted cell with an odd run of quotes should stop at its limit and be mapped again")
+    void mapOrdered_withInvertedQuotes_shouldStopAtLimit() throws IOException {
+        StringBuilder csv = new StringBuilder("id,text\n0,\"first line\n");
+        for (int i = 0; i < 40; i++) {
+            csv.append(i).append(",quoted line ").append(i).append('\n');
+        }
+        csv.append("\"\" tail\"\n");
+        for (int i = 1; i < 300; i++) {
+            csv.append(i).append(",plain ").append(i).append('\n');
+        }
+        String csvData = csv.toString();
+        List<String> expected = mapSequential(csvData).stream().map(ParallelCsvMapperTest::describe).toList();
+
+        for (boolean memoryMapping : new boolean[]{false, true}) {
+            assertThat(mapParallel(csvData, memoryMapping)).extracting(ParallelCsvMapperTest::describe)
+                    .containsExactlyElementsOf(expected);
+
+            // From inside the cell, the rest of the file looks like one unterminated quoted cell
+            Path file = tempDir.resolve("notes.csv");
+            ParallelCsvMapper mapper = new ParallelCsvMapper(file, memoryMapping, SheetFormat.CSV, 64);
+            String[] headers = mapper.readHeader();
+            long start = csvData.indexOf("39,quoted line 39");
+            ParallelCsvMapper.Range<Note> range = mapper.mapRange(start, start + 64, start + 128,
+                    () -> RowBinding.bind(MappingPlan.of(Note.class), headers, new ConverterRegistry()));
+            assertThat(range.truncated()).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("A record longer than the read limit of a speculative range should be mapped again, not reported")
+    void mapOrdered_withOversizedRecord_shouldMapItAgain() throws IOException {
+        StringBuilder csv = new StringBuilder("id,text,tail\n");
+        for (int i = 0; i < 300; i++) {
+            String text = i == 100 ? "long".repeat(500) : "plain " + i;
+            csv.append(i).append(',').append(text).append(",end ").append(i).append('\n');
+        }
+        Path file = Files.writeString(tempDir.resolve("notes.csv"), csv, StandardCharsets.UTF_8);
+        MappingPlan<TaggedNote> plan = MappingPlan.of(TaggedNote.class);
+        ConverterRegistry registry = new ConverterRegistry();
+
+        for (boolean memoryMapping : new boolean[]{false, true}) {
+            ParallelCsvMapper mapper = new ParallelCsvMapper(file, memoryMapping, SheetFormat.CSV, 64);
+            String[] headers = mapper.readHeader();
+
+            List<TaggedNote> notes = mapper.mapOrdered(() -> RowBinding.bind(plan, headers, registry), 4);
+
+            assertThat(notes).hasSize(300);
+            assertThat(notes).extracting(note -> note.id + ":" + note.tail)
+                    .containsExactlyElementsOf(IntStream.range(0, 300).mapToObj(i -> i + ":end " + i).toList());
+            assertThat(notes.get(100).text).hasSize(2000);
+        }
+    }
+
+    @Test
+    @DisplayName("Unordered mapping should locate exact range starts and map every row once")
+    void mapUnordered_shouldMapEveryRowOnce() throws IOException {
+        for (boolean memoryMapping : new boolean[]{false, true}) {
+            for (boolean sink : new boolean[]{false, true}) {
+                for (String lineBreak : new String[]{"\n", "\r\n", "\r"}) {
+                    String csvData = notes(300, lineBreak);
+
+                    List<Note> notes = mapUnordered(csvData, memoryMapping, sink);
+
+                    assertThat(notes).extracting(ParallelCsvMapperTest::describe)
+                            .containsExactlyInAnyOrderElementsOf(mapSequential(csvData).stream().map(ParallelCsvMapperTest::describe).toList());
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Unordered mapping should throw the failure of an invalid row")
+    void mapUnordered_shouldThrowFailure() {
+        String csvData = notes(300, "\n").replace("\n150,", "\ninvalid,");
+
+        for (boolean sink : new boolean[]{false, true}) {
+            assertThatThrownBy(() -> mapUnordered(csvData, false, sink))
+                    .isInstanceOf(SheetMappingException.class)
+                    .hasMessage("Error converting value 'invalid' to type int");
+        }
+        assertThatThrownBy(() -> mapUnordered("id,text\n1,\"open\n2,b\n" + "3,c\n".repeat(100), false, false))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Unterminated quoted field");
+    }
+
+    @Test
+    @DisplayName("The failure of the first invalid row in file order should be thrown")
+    void mapOrdered_shouldThrowFirstFailureInFileOrder() {
+        String csvData = notes(300, "\n").replace("\n150,", "\nfirst,").replace("\n280,", "\nsecond,");
+
+        for (boolean memoryMapping : new boolean[]{false, true}) {
+            assertThatThrownBy(() -> mapParallel(csvData, memoryMapping))
+                    .isInstanceOf(SheetMappingException.class)
+                    .hasMessage("Error converting value 'first' to type int");
+        }
+    }
+
+    @Test
+    @DisplayName("A file without data rows should map to an empty list")
+    void mapOrdered_withoutDataRows_shouldReturnEmptyList() throws IOException {
+        for (boolean memoryMapping : new boolean[]{false, true}) {
+            assertThat(mapParallel("id,text\n", memoryMapping)).isEmpty();
+            assertThat(mapParallel("id,text", memoryMapping)).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("Files without a header row should be mapped from their first byte, by cell index")
+    void noHeader_shouldMapFirstRecordAsData() throws IOException {
+        String csvData = notes(300, "\n");
+        String headerless = csvData.substring(csvData.indexOf('\n') + 1);
+        Path file = Files.writeString(tempDir.resolve("notes.csv"), headerless, StandardCharsets.UTF_8);
+        List<String> expected = mapSequential(csvData).stream().map(ParallelCsvMapperTest::describe).toList();
+        MappingPlan<IndexedNote> plan = MappingPlan.of(IndexedNote.class);
+        ConverterRegistry registry = new ConverterRegistry();
+
+        for (boolean memoryMapping : new boolean[]{false, true}) {
+            ParallelCsvMapper mapper = new ParallelCsvMapper(file, memoryMapping, SheetFormat.CSV, 64);
+            mapper.noHeader();
+            mapper.limitCells(2);
+
+            assertThat(mapper.mapOrdered(() -> RowBinding.bindByIndex(plan, registry), 4))
+                    .extracting(note -> note.id + ":" + note.text).containsExactlyElementsOf(expected);
+            assertThat(mapper.mapUnordered(() -> RowBinding.bindByIndex(plan, registry), 4))
+                    .extracting(note -> note.id + ":" + note.text).containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+}
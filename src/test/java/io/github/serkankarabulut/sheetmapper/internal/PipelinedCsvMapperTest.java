@@ -0,0 +1,134 @@
+package io.github.serkankarabulut.sheetmapper.internal;
+
+import io.github.serkankarabulut.sheetmapper.annotation.Column;
+import io.github.serkankarabulut.sheetmapper.converter.ConverterRegistry;
+import io.github.serkankarabulut.sheetmapper.exception.SheetMappingException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PipelinedCsvMapperTest {
+
+    public static class Reading {
+        @Column(name = "id") int id;
+        @Column(name = "value") double value;
+    }
+
+    private static String readings(int count) {
+        StringBuilder csv = new StringBuilder("id,value\n");
+        for (int i = 0; i < count; i++) {
+            csv.append(i).append(',').append(i / 4.0).append('\n');
+        }
+        return csv.toString();
+    }
+
+    private static PipelinedCsvMapper pipeline(CsvProcessor processor, int batchSize, int queueDepth) throws IOException {
+        processor.readNext();
+        return new PipelinedCsvMapper(processor, 3, batchSize, queueDepth);
+    }
+
+    private static RowMapper<Reading> rowMapper() {
+        return RowBinding.bind(MappingPlan.of(Reading.class), new String[]{"id", "value"}, new ConverterRegistry());
+    }
+
+    @Test
+    @DisplayName("Ordered mapping should return every row in file order, whatever the batch size and queue depth")
+    void mapOrdered_shouldKeepFileOrder() throws IOException {
+        for (int batchSize : new int[]{1, 7, 1000}) {
+            for (int queueDepth : new int[]{1, 4}) {
+                try (CsvProcessor processor = new CsvProcessor(new StringReader(readings(500)))) {
+                    List<Reading> readings = pipeline(processor, batchSize, queueDepth).mapOrdered(PipelinedCsvMapperTest::rowMapper);
+
+                    assertThat(readings).extracting(reading -> reading.id).containsExactlyElementsOf(IntStream.range(0, 500).boxed().toList());
+                    assertThat(readings.get(499).value).isEqualTo(124.75);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Unordered mapping should push every row to the sink exactly once")
+    void mapUnordered_shouldPushEveryRowOnce() throws IOException {
+        Queue<Reading> readings = new ConcurrentLinkedQueue<>();
+        try (CsvProcessor processor = new CsvProcessor(new StringReader(readings(500)))) {
+            pipeline(processor, 16, 2).mapUnordered(PipelinedCsvMapperTest::rowMapper, readings::add);
+        }
+
+        List<Integer> ids = new ArrayList<>();
+        readings.forEach(reading -> ids.add(reading.id));
+        assertThat(ids).hasSize(500).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("The failure of the first invalid row in file order should be thrown")
+    void mapOrdered_shouldThrowFirstFailureInFileOrder() {
+        String csvData = readings(2000).replace("\n300,", "\nfirst,").replace("\n301,", "\nsecond,").replace("\n1500,", "\nthird,");
+
+        assertThatThrownBy(() -> {
+            try (CsvProcessor processor = new CsvProcessor(new StringReader(csvData))) {
+                pipeline(processor, 8, 1).mapOrdered(PipelinedCsvMapperTest::rowMapper);
+            }
+        }).isInstanceOf(SheetMappingException.class).hasMessage("Error converting value 'first' to type int");
+    }
+
+    @Test
+    @DisplayName("A malformed record should be reported after the rows before it have been mapped")
+    void mapOrdered_withMalformedRecord_shouldThrowReadFailure() {
+        String csvData = readings(100) + "100,\"unterminated\n";
+
+        assertThatThrownBy(() -> {
+            try (CsvProcessor processor = new CsvProcessor(new StringReader(csvData))) {
+                pipeline(processor, 8, 1).mapOrdered(PipelinedCsvMapperTest::rowMapper);
+            }
+        }).isInstanceOf(IOException.class).hasMessageContaining("Unterminated quoted field");
+    }
+
+    @Test
+    @Timeout(10)
+    @DisplayName("An error thrown by a worker should be rethrown without blocking the reading thread")
+    void mapOrdered_withErrorInWorker_shouldRethrowError() {
+        RowMapper<Reading> delegate = rowMapper();
+        RowMapper<Reading> failing = record -> {
+            Reading reading = delegate.mapRow(record);
+            if (reading.id == 40) {
+                throw new AssertionError("worker failed");
+            }
+            return reading;
+        };
+
+        assertThatThrownBy(() -> {
+            try (CsvProcessor processor = new CsvProcessor(new StringReader(readings(5000)))) {
+                pipeline(processor, 4, 1).mapOrdered(() -> failing);
+            }
+        }).isInstanceOf(AssertionError.class).hasMessage("worker failed");
+    }
+
+    @Test
+    @Timeout(10)
+    @DisplayName("Interrupting the reading thread should stop the workers and keep the interrupt status")
+    void mapOrdered_whenInterrupted_shouldThrowInterruptedIOException() {
+        Thread.currentThread().interrupt();
+        try {
+            assertThatThrownBy(() -> {
+                try (CsvProcessor processor = new CsvProcessor(new StringReader(readings(500)))) {
+                    pipeline(processor, 4, 1).mapOrdered(PipelinedCsvMapperTest::rowMapper);
+                }
+            }).isInstanceOf(InterruptedIOException.class);
+            assertThat(Thread.currentThread().isInterrupted()).isTrue();
+        } finally {
+            Thread.interrupted();
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package io.github.serkankarabulut.sheetmapper.internal;
+
+import io.github.serkankarabulut.sheetmapper.parser.SheetFormat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntBinaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecordScannerTest {
+
+    /**
+     * Scans the data for every record end in ranges of the given length, like a tokenizer reading it in chunks.
+     *
+     * @return For every record, the index of its line break and whether it is pure ASCII, and for a last record
+     * without a line break, whether it ends inside quotes.
+     */
+    private static String scanAll(RecordScanner scanner, byte[] bytes, int chunkSize) {
+        return scanAll(scanner, bytes.length, chunkSize, (from, to) -> scanner.findLineBreak(bytes, from, to));
+    }
+
+    /**
+     * Scans the bytes of a direct buffer, like a {@link MappedCsvTokenizer} scanning a mapped window.
+     */
+    private static String scanAllInBuffer(SwarRecordScanner scanner, byte[] bytes, int chunkSize) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+        return scanAll(scanner, bytes.length, chunkSize, (from, to) -> scanner.findLineBreak(buffer, from, to));
+    }
+
+    private static String scanAll(RecordScanner scanner, int length, int chunkSize, IntBinaryOperator findLineBreak) {
+        StringBuilder records = new StringBuilder();
+        int start = 0;
+        while (start < length) {
+            scanner.reset();
+            int end = start;
+            int scan = start;
+            while (true) {
+                int limit = Math.min(length, scan + chunkSize);
+                end = findLineBreak.applyAsInt(scan, limit);
+                if (end < limit || limit == length) {
+                    break;
+                }
+                scan = limit;
+            }
+            records.append(end).append(scanner.ascii() ? 'a' : 'u').append(end == length && scanner.quoted ? 'q' : ' ');
+            start = end + 1;
+        }
+        return records.toString();
+    }
+
+    /**
+     * Whether the JVM runs with the incubator module, as in the {@code test-vector} execution of the build.
+     */
+    private static final boolean VECTOR_MODULE = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    /**
+     * @return The SWAR backend, and the Vector API backend if its module is present.
+     */
+    private static List<RecordScanner> scanners() {
+        return List.of(new SwarRecordScanner(SheetFormat.CSV), CsvProcessor.recordScanners(VECTOR_MODULE).apply(SheetFormat.CSV));
+    }
+
+    private static byte[] randomRecords(Random random, byte[] alphabet) {
+        byte[] bytes = new byte[1 + random.nextInt(600)];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = random.nextInt(4) == 0 ? alphabet[random.nextInt(alphabet.length)] : (byte) ('c' + i % 20);
+        }
+        return bytes;
+    }
+
+    @Test
+    @DisplayName("The vector backend should be chosen when its module is present, and the SWAR backend otherwise")
+    void recordScanners_shouldFallBackWithoutTheVectorModule() {
+        // Without the module, the vector backend fails to link and the SWAR backend is used even if asked for
+        String expected = VECTOR_MODULE ? "VectorRecordScanner" : "SwarRecordScanner";
+        assertThat(CsvProcessor.recordScanners(false).apply(SheetFormat.CSV)).isInstanceOf(SwarRecordScanner.class);
+        assertThat(CsvProcessor.recordScanners(true).apply(SheetFormat.CSV).getClass().getSimpleName()).isEqualTo(expected);
+        assertThat(CsvProcessor.newRecordScanner(SheetFormat.CSV).getClass().getSimpleName()).isEqualTo(expected);
+        assertThat(CsvProcessor.newRecordScanner(SheetFormat.builder().escape('\\').build()))
+                .isInstanceOf(SwarRecordScanner.class);
+    }
+
+    @Test
+    @DisplayName("Every backend should find the same record ends as a byte-by-byte scan, however the input is chunked")
+    void findLineBreak_shouldAgreeWithByteByByteScanning() {
+        Random random = new Random(42);
+        byte[] alphabet = {'a', 'b', ',', '"', '"', '\n', '\r', (byte) 0xC3, (byte) 0xBC, ' '};
+        for (int round = 0; round < 50; round++) {
+            byte[] bytes = randomRecords(random, alphabet);
+            String expected = scanAll(new BytewiseScanner(SheetFormat.CSV), bytes, bytes.length);
+            for (RecordScanner scanner : scanners()) {
+                for (int chunkSize : new int[]{7, 64, 100, bytes.length}) {
+                    assertThat(scanAll(scanner, bytes, chunkSize))
+                            .as("%s in chunks of %d", scanner.getClass().getSimpleName(), chunkSize)
+                            .isEqualTo(expected);
+                }
+            }
+            assertThat(scanAllInBuffer(new SwarRecordScanner(SheetFormat.CSV), bytes, 64)).as("in a buffer").isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("The SWAR backend should skip escaped quotes like a byte-by-byte scan, also across chunks and words")
+    void findLineBreak_shouldSkipEscapedQuotes() {
+        SheetFormat format = SheetFormat.builder()
+                .delimiter(';').quote('\'').escape('\\').lineEnding(SheetFormat.LineEnding.LF).build();
+        Random random = new Random(7);
+        byte[] alphabet = {'a', ';', '\'', '\'', '\\', '\\', '\n', '\r', (byte) 0xC3, (byte) 0xBC};
+        for (int round = 0; round < 100; round++) {
+            byte[] bytes = randomRecords(random, alphabet);
+            String expected = scanAll(new BytewiseScanner(format), bytes, bytes.length);
+            for (int chunkSize : new int[]{1, 7, 8, 64, bytes.length}) {
+                assertThat(scanAll(new SwarRecordScanner(format), bytes, chunkSize))
+                        .as("in chunks of %d", chunkSize)
+                        .isEqualTo(expected);
+                assertThat(scanAllInBuffer(new SwarRecordScanner(format), bytes, chunkSize))
+                        .as("in a buffer, in chunks of %d", chunkSize)
+                        .isEqualTo(expected);
+            }
+        }
+        byte[] escaped = "'a\\'\n'\n\\\\'\nb".getBytes(StandardCharsets.US_ASCII);
+        assertThat(scanAll(new SwarRecordScanner(format), escaped, 3)).isEqualTo("6a 12aq");
+    }
+
+    @Test
+    @DisplayName("Every backend should find the first quote")
+    void indexOfQuote_shouldFindTheFirstQuote() {
+        byte[] bytes = new byte[200];
+        bytes[130] = '"';
+        bytes[190] = '"';
+        for (RecordScanner scanner : scanners()) {
+            assertThat(scanner.indexOfQuote(bytes, 0, bytes.length)).isEqualTo(130);
+            assertThat(scanner.indexOfQuote(bytes, 131, bytes.length)).isEqualTo(190);
+            assertThat(scanner.indexOfQuote(bytes, 131, 190)).isEqualTo(190);
+        }
+    }
+
+    @Test
+    @DisplayName("The prefix XOR of a quote mask should cover the bytes from each opening quote to its closing quote")
+    void prefixXor_shouldMarkQuotedRegions() {
+        assertThat(RecordScanner.prefixXor(0b0100_0100L)).isEqualTo(0b0011_1100L);
+        assertThat(RecordScanner.prefixXor(1L << 63)).isEqualTo(1L << 63);
+        assertThat(RecordScanner.prefixXor(1L)).isEqualTo(-1L);
+    }
+
+    private static final class BytewiseScanner extends RecordScanner {
+        BytewiseScanner(SheetFormat format) {
+            super(format);
+        }
+
+        @Override
+        int findLineBreak(byte[] bytes, int from, int to) {
+            return findLineBreakBytewise(bytes, from, to);
+        }
+    }
+}
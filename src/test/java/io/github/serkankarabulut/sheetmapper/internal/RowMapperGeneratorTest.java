@@ -0,0 +1,96 @@
+package io.github.serkankarabulut.sheetmapper.internal;
+
+import io.github.serkankarabulut.sheetmapper.annotation.Column;
+import io.github.serkankarabulut.sheetmapper.converter.ConverterRegistry;
+import io.github.serkankarabulut.sheetmapper.exception.SheetMappingException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RowMapperGeneratorTest {
+
+    public static class Measurement {
+        @Column private String sensor;
+        @Column private int count;
+        @Column private long timestamp;
+        @Column private double value;
+        @Column private boolean valid;
+        @Column private Double optional;
+        public Measurement() {}
+    }
+
+    public static class MeasurementWithFinalField {
+        @Column private final String sensor = null;
+        public MeasurementWithFinalField() {}
+    }
+
+    private static final String[] HEADER = {"timestamp", "sensor", "count", "value", "valid", "optional"};
+
+    private static RowMapper<Measurement> generate() {
+        RowBinding<Measurement> binding = RowBinding.bind(MappingPlan.of(Measurement.class), HEADER, new ConverterRegistry());
+        return RowMapperGenerator.generate(binding);
+    }
+
+    @Test
+    @DisplayName("generate should define a specialized class that maps every column")
+    void generate_shouldMapEveryColumn() {
+        RowMapper<Measurement> rowMapper = generate();
+
+        Measurement measurement = rowMapper.mapRow(new String[]{"1700000000000", "s-1", "3", "21.5", "true", ""});
+
+        assertThat(rowMapper).isNotInstanceOf(RowBinding.class);
+        assertThat(rowMapper.getClass().isHidden()).isTrue();
+        assertThat(measurement.sensor).isEqualTo("s-1");
+        assertThat(measurement.count).isEqualTo(3);
+        assertThat(measurement.timestamp).isEqualTo(1_700_000_000_000L);
+        assertThat(measurement.value).isEqualTo(21.5);
+        assertThat(measurement.valid).isTrue();
+        assertThat(measurement.optional).isNull();
+    }
+
+    @Test
+    @DisplayName("generate should reuse the generated class for the same header layout")
+    void generate_shouldReuseClassForSameLayout() {
+        assertThat(generate().getClass()).isSameAs(generate().getClass());
+    }
+
+    @Test
+    @DisplayName("generate should define a separate class when a column loses its primitive converter")
+    void generate_whenValueKindsDiffer_shouldDefineSeparateClass() {
+        ConverterRegistry boxingRegistry = new ConverterRegistry();
+        boxingRegistry.register(int.class, Integer::valueOf);
+        RowBinding<Measurement> binding = RowBinding.bind(MappingPlan.of(Measurement.class), HEADER, boxingRegistry);
+
+        RowMapper<Measurement> rowMapper = RowMapperGenerator.generate(binding);
+
+        assertThat(rowMapper.getClass()).isNotSameAs(generate().getClass());
+        assertThat(rowMapper.mapRow(new String[]{"1", "s-1", "7", "0.5", "false", "1.5"}).count).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("Generated mappers should report conversion failures like the generic loop")
+    void generatedMapper_shouldReportFailuresLikeGenericLoop() {
+        RowMapper<Measurement> rowMapper = generate();
+
+        assertThatThrownBy(() -> rowMapper.mapRow(new String[]{"1", "s-1", "abc", "1.0", "true", ""}))
+                .isInstanceOf(SheetMappingException.class)
+                .hasMessage("Error converting value 'abc' to type int");
+        assertThatThrownBy(() -> rowMapper.mapRow(new String[]{"1", "s-1", " ", "1.0", "true", ""}))
+                .isInstanceOf(SheetMappingException.class)
+                .hasMessage("Cannot map null value to primitive type: int");
+        assertThatThrownBy(() -> rowMapper.mapRow(new String[]{"1", "s-1"}))
+                .isInstanceOf(SheetMappingException.class)
+                .hasMessageStartingWith("Missing value for column 'count'");
+    }
+
+    @Test
+    @DisplayName("When a mapped field is final, generate should fall back to the binding")
+    void generate_whenFieldIsFinal_shouldFallBackToBinding() {
+        MappingPlan<MeasurementWithFinalField> plan = MappingPlan.of(MeasurementWithFinalField.class);
+        RowBinding<MeasurementWithFinalField> binding = RowBinding.bind(plan, new String[]{"sensor"}, new ConverterRegistry());
+
+        assertThat(RowMapperGenerator.generate(binding)).isSameAs(binding);
+    }
+}
@@ -0,0 +1,61 @@
+package io.github.serkankarabulut.sheetmapper.internal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SwarTest {
+
+    @Test
+    @DisplayName("Match masks should flag exactly the matching bytes, even next to bytes one above or with the high bit set")
+    void match_shouldBeExact() {
+        byte[] bytes = {',', '-', (byte) 0xAC, ',', 0, (byte) 0xFF, '+', ','};
+        long mask = Swar.match(Swar.load(bytes, 0), Swar.broadcast((byte) ','));
+
+        assertThat(mask).isEqualTo(0x8000_0000_8000_0080L);
+        assertThat(Swar.firstIndex(mask)).isZero();
+        assertThat(Swar.firstIndex(mask & mask - 1)).isEqualTo(3);
+        assertThat(Swar.match(Swar.load(bytes, 0), Swar.broadcast((byte) '"'))).isZero();
+    }
+
+    @Test
+    @DisplayName("Words should be read in little-endian order, so that the first byte is the lowest")
+    void load_shouldReadLittleEndianWords() {
+        byte[] bytes = {1, 2, 3, 4, 5, 6, 7, (byte) 0x80, 9};
+
+        assertThat(Swar.load(bytes, 0)).isEqualTo(0x8007_0605_0403_0201L);
+        assertThat(Swar.load(bytes, 1) & Swar.HIGH_BITS).isEqualTo(0x0080_0000_0000_0000L);
+        assertThat(Swar.leadingBytes(0)).isZero();
+        assertThat(Swar.leadingBytes(3)).isEqualTo(0xFF_FFFFL);
+    }
+
+    @Test
+    @DisplayName("indexOf should find the first occurrence in whole words and in the remaining bytes")
+    void indexOf_shouldFindTheFirstOccurrence() {
+        byte[] bytes = "abcdefghijklmnopq\"rs\"".getBytes(StandardCharsets.US_ASCII);
+
+        assertThat(Swar.indexOf(bytes, 0, bytes.length, (byte) '"')).isEqualTo(17);
+        assertThat(Swar.indexOf(bytes, 18, bytes.length, (byte) '"')).isEqualTo(20);
+        assertThat(Swar.indexOf(bytes, 0, 17, (byte) '"')).isEqualTo(17);
+        assertThat(Swar.indexOf(bytes, 3, 5, (byte) 'a')).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Words and occurrences should be found in buffers like in arrays, whatever the order of the buffer")
+    void bufferOverloads_shouldMatchArrays() {
+        byte[] bytes = "abcdefghijklmnopq\"rs\"".getBytes(StandardCharsets.US_ASCII);
+        for (ByteOrder order : new ByteOrder[]{ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length).order(order).put(bytes).flip();
+
+            assertThat(Swar.load(buffer, 3)).isEqualTo(Swar.load(bytes, 3));
+            assertThat(Swar.indexOf(buffer, 0, bytes.length, (byte) '"')).isEqualTo(17);
+            assertThat(Swar.indexOf(buffer, 18, bytes.length, (byte) '"')).isEqualTo(20);
+            assertThat(Swar.indexOf(buffer, 3, 5, (byte) 'a')).isEqualTo(5);
+        }
+    }
+}